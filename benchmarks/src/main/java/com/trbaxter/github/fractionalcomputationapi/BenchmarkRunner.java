@@ -0,0 +1,32 @@
+package com.trbaxter.github.fractionalcomputationapi;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkRunner is the entry point of benchmarks.jar. It accepts the usual JMH command line, e.g.
+ * a benchmark name pattern and {@code -p terms=1000}, and always adds the GC profiler, so every
+ * result reports its allocation rate ({@code gc.alloc.rate.norm}, bytes per operation) next to its
+ * score.
+ */
+public final class BenchmarkRunner {
+
+  /** Private constructor to prevent instantiation. */
+  private BenchmarkRunner() {
+    throw new UnsupportedOperationException("Entry point for the JMH benchmarks");
+  }
+
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    Options options =
+        new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,145 @@
+package com.trbaxter.github.fractionalcomputationapi.corpus;
+
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * PolynomialCorpus generates the polynomial expressions the benchmarks run on. Expressions are
+ * built from a fixed seed, so every run and every fork measures the same input. Each expression has
+ * exactly the requested number of terms, with strictly decreasing powers.
+ */
+public final class PolynomialCorpus {
+
+  /** The styles of expression generated. */
+  public enum Shape {
+    /** Integer coefficients and powers, e.g. {@code 42x^3 + 7x^2 + 5}. */
+    INTEGER,
+    /** Decimal coefficients and powers, e.g. {@code 4.125x^2.5 + 0.375x^1.5}. */
+    FRACTIONAL,
+    /** Powers in brackets, some of them negative, e.g. {@code 3x^(2.5) + 2x^(-0.5)}. */
+    BRACKETED,
+    /** Mixed signs, bare x and negative powers, e.g. {@code -x^2 - 2.5x + 4x^-1}. */
+    SIGNED,
+    /** Runs of spaces and tabs between every token, e.g. {@code 3 x ^ 2  +\t2 x}. */
+    WHITESPACE
+  }
+
+  /**
+   * The largest power for which every order benchmarked keeps its gamma ratios finite;
+   * MathUtils.gamma overflows from an argument of 142.
+   */
+  public static final int MAX_COMPUTABLE_POWER = 130;
+
+  private static final long SEED = 0x5EEDL;
+
+  /** Private constructor to prevent instantiation. */
+  private PolynomialCorpus() {
+    throw new UnsupportedOperationException("Utility class for benchmark input");
+  }
+
+  /**
+   * Generates an expression.
+   *
+   * @param terms the number of terms, at least 1.
+   * @param shape the style of the expression.
+   * @return the expression.
+   */
+  public static String expression(int terms, Shape shape) {
+    Random random = new Random(SEED + 31L * terms + shape.ordinal());
+    StringBuilder expression = new StringBuilder(terms * 16);
+
+    for (int i = 0; i < terms; i++) {
+      // Powers descend to zero; SIGNED and BRACKETED continue below it into negative powers.
+      int power = shape == Shape.SIGNED || shape == Shape.BRACKETED ? terms / 2 - i : terms - 1 - i;
+      boolean negative = shape == Shape.SIGNED && random.nextBoolean();
+      appendSign(expression, negative, i == 0, shape);
+      appendTerm(expression, random, power, shape);
+    }
+
+    return expression.toString();
+  }
+
+  /**
+   * Generates terms, for benchmarks of the stages after parsing. Powers count down from maxPower
+   * to 0 and start again from maxPower, so a long polynomial can keep its powers in a range where
+   * the gamma function is finite. The terms are not combined, as the computation services do not
+   * combine them either.
+   *
+   * @param terms the number of terms, at least 1.
+   * @param maxPower the largest power, at least 0.
+   * @return the terms, with integer coefficients from 1 to 99.
+   */
+  public static List<Term> terms(int terms, int maxPower) {
+    Random random = new Random(SEED + 31L * terms + maxPower);
+    List<Term> polynomial = new ArrayList<>(terms);
+
+    for (int i = 0; i < terms; i++) {
+      polynomial.add(
+          new Term(
+              BigDecimal.valueOf(1 + random.nextInt(99)),
+              BigDecimal.valueOf(maxPower - i % (maxPower + 1))));
+    }
+
+    return polynomial;
+  }
+
+  private static void appendSign(
+      StringBuilder expression, boolean negative, boolean leading, Shape shape) {
+    if (leading) {
+      if (negative) {
+        expression.append('-');
+      }
+    } else if (shape == Shape.WHITESPACE) {
+      expression.append("  \t").append(negative ? '-' : '+').append("   ");
+    } else {
+      expression.append(negative ? " - " : " + ");
+    }
+  }
+
+  private static void appendTerm(StringBuilder expression, Random random, int power, Shape shape) {
+    switch (shape) {
+      case INTEGER -> {
+        expression.append(1 + random.nextInt(99));
+        appendPower(expression, Integer.toString(power), false);
+      }
+      case FRACTIONAL -> {
+        expression.append(decimal(random));
+        appendPower(expression, power == 0 ? "0" : (power - 1) + ".5", false);
+      }
+      case BRACKETED -> {
+        expression.append(decimal(random));
+        appendPower(expression, power == 0 ? "0" : power + (power > 0 ? ".5" : ".25"), true);
+      }
+      case SIGNED -> {
+        expression.append(power != 0 && random.nextInt(4) == 0 ? "" : decimal(random));
+        appendPower(expression, Integer.toString(power), false);
+      }
+      case WHITESPACE -> {
+        expression.append(1 + random.nextInt(99));
+        if (power != 0) {
+          expression.append(" x ").append("^  ").append(power);
+        }
+      }
+    }
+  }
+
+  /** Appends x raised to a power; a zero power leaves a constant, and a power of 1 is bare x. */
+  private static void appendPower(StringBuilder expression, String power, boolean bracketed) {
+    if (power.equals("0")) {
+      return;
+    }
+    expression.append('x');
+    if (!power.equals("1")) {
+      expression.append('^');
+      expression.append(bracketed ? "(" + power + ")" : power);
+    }
+  }
+
+  private static String decimal(Random random) {
+    return String.format(Locale.ROOT, "%.3f", 0.001 + random.nextInt(100_000) / 1000.0);
+  }
+}
@@ -0,0 +1,99 @@
+package com.trbaxter.github.fractionalcomputationapi.service;
+
+import com.trbaxter.github.fractionalcomputationapi.corpus.PolynomialCorpus;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoComputationService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannComputationService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegralComputationService;
+import com.trbaxter.github.fractionalcomputationapi.utils.DiagnosticTrace;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ComputationServiceBenchmark measures computeTerms of the Caputo, Riemann-Liouville and integral
+ * computation services, including the final sort by power, for integer and fractional orders.
+ * Inputs are PolynomialCorpus terms with powers cycling down from MAX_COMPUTABLE_POWER, so under an
+ * integer order of n every term of power n or more goes through the n-step multiply or divide loop,
+ * and the derivatives drop the rest. The sort sees one descending run per cycle.<br>
+ * With traced set, each call runs in an open DiagnosticTrace, as a traced request does, and its
+ * per-term lines are written through logback.xml to a file. Only fractional orders trace per term,
+ * so for integer orders the two scores should match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ComputationServiceBenchmark {
+
+  private static final DiagnosticTrace.Scope NO_TRACE = () -> {};
+
+  @Param({"10", "1000", "10000"})
+  private int terms;
+
+  @Param({"1", "10", "100", "0.5", "2.5"})
+  private String order;
+
+  @Param({"false", "true"})
+  private boolean traced;
+
+  private final CaputoComputationService caputoComputationService = new CaputoComputationService();
+  private final RiemannComputationService riemannComputationService =
+      new RiemannComputationService();
+  private final IntegralComputationService integralComputationService =
+      new IntegralComputationService();
+
+  private List<Term> polynomial;
+  private BigDecimal alpha;
+
+  @Setup
+  public void setUp() {
+    polynomial = PolynomialCorpus.terms(terms, PolynomialCorpus.MAX_COMPUTABLE_POWER);
+    alpha = new BigDecimal(order);
+
+    try (DiagnosticTrace.Scope ignored = openTrace()) {
+      if (DiagnosticTrace.isActive() != traced) {
+        throw new IllegalStateException(
+            "Expected the diagnostic trace to be " + (traced ? "active" : "inactive"));
+      }
+    }
+  }
+
+  @Benchmark
+  public List<Term> caputo() {
+    try (DiagnosticTrace.Scope ignored = openTrace()) {
+      return caputoComputationService.computeTerms(polynomial, alpha);
+    }
+  }
+
+  @Benchmark
+  public List<Term> riemannLiouville() {
+    try (DiagnosticTrace.Scope ignored = openTrace()) {
+      return riemannComputationService.computeTerms(polynomial, alpha);
+    }
+  }
+
+  @Benchmark
+  public List<Term> integral() {
+    try (DiagnosticTrace.Scope ignored = openTrace()) {
+      return integralComputationService.computeTerms(polynomial, alpha);
+    }
+  }
+
+  private DiagnosticTrace.Scope openTrace() {
+    return traced ? DiagnosticTrace.begin("benchmark") : NO_TRACE;
+  }
+}
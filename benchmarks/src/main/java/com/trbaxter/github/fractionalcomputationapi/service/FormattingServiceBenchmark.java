@@ -0,0 +1,118 @@
+package com.trbaxter.github.fractionalcomputationapi.service;
+
+import com.trbaxter.github.fractionalcomputationapi.corpus.PolynomialCorpus;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoComputationService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannComputationService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegralComputationService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegralFormattingService;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * FormattingServiceBenchmark measures formatTerms of the Caputo, Riemann-Liouville and integral
+ * formatting services at precisions of 2, 10 and 50 decimal places. The terms formatted are the
+ * results of the matching computation service, so coefficients carry the full DECIMAL128 precision
+ * of a real response.<br>
+ * The integral formatter renders the constants of integration of an integer order once per order
+ * and precision and caches them; integral measures the cached path that repeated requests take, and
+ * integralFirstRender a new service that renders its constants on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FormattingServiceBenchmark {
+
+  /** The order of the derivatives formatted. */
+  private static final BigDecimal DERIVATIVE_ORDER = new BigDecimal("0.5");
+
+  @State(Scope.Benchmark)
+  public static class DerivativeState {
+
+    @Param({"10", "1000", "10000"})
+    private int terms;
+
+    @Param({"2", "10", "50"})
+    private int precision;
+
+    private final CaputoFormattingService caputoFormattingService = new CaputoFormattingService();
+    private final RiemannFormattingService riemannFormattingService =
+        new RiemannFormattingService();
+
+    private List<Term> caputoTerms;
+    private List<Term> riemannTerms;
+
+    @Setup
+    public void setUp() {
+      List<Term> polynomial =
+          PolynomialCorpus.terms(terms, PolynomialCorpus.MAX_COMPUTABLE_POWER);
+      caputoTerms = new CaputoComputationService().computeTerms(polynomial, DERIVATIVE_ORDER);
+      riemannTerms = new RiemannComputationService().computeTerms(polynomial, DERIVATIVE_ORDER);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class IntegralState {
+
+    @Param({"10", "1000", "10000"})
+    private int terms;
+
+    @Param({"2", "10", "50"})
+    private int precision;
+
+    /** A fractional order, with the single constant C, and a large integer order. */
+    @Param({"0.5", "100"})
+    private double order;
+
+    private final IntegralFormattingService integralFormattingService =
+        new IntegralFormattingService();
+
+    private List<Term> integralTerms;
+
+    @Setup
+    public void setUp() {
+      List<Term> polynomial =
+          PolynomialCorpus.terms(terms, PolynomialCorpus.MAX_COMPUTABLE_POWER);
+      integralTerms =
+          new IntegralComputationService().computeTerms(polynomial, BigDecimal.valueOf(order));
+    }
+  }
+
+  @Benchmark
+  public String caputo(DerivativeState state) {
+    return state.caputoFormattingService.formatTerms(state.caputoTerms, state.precision);
+  }
+
+  @Benchmark
+  public String riemannLiouville(DerivativeState state) {
+    return state.riemannFormattingService.formatTerms(state.riemannTerms, state.precision);
+  }
+
+  @Benchmark
+  public String integral(IntegralState state) {
+    return state.integralFormattingService.formatTerms(
+        state.integralTerms, state.order, state.precision);
+  }
+
+  @Benchmark
+  public String integralFirstRender(IntegralState state) {
+    return new IntegralFormattingService()
+        .formatTerms(state.integralTerms, state.order, state.precision);
+  }
+}
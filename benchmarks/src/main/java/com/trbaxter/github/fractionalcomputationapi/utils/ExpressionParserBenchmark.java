@@ -0,0 +1,56 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import com.trbaxter.github.fractionalcomputationapi.corpus.PolynomialCorpus;
+import com.trbaxter.github.fractionalcomputationapi.corpus.PolynomialCorpus.Shape;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ExpressionParserBenchmark measures the throughput of ExpressionParser.parse over generated
+ * expressions of 1 to 100,000 terms in each PolynomialCorpus shape. Run through benchmarks.jar, the
+ * GC profiler reports the bytes allocated per parse alongside.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ExpressionParserBenchmark {
+
+  @Param({"1", "100", "10000", "100000"})
+  private int terms;
+
+  @Param({"INTEGER", "FRACTIONAL", "BRACKETED", "SIGNED", "WHITESPACE"})
+  private Shape shape;
+
+  private String expression;
+
+  @Setup
+  public void setUp() {
+    expression = PolynomialCorpus.expression(terms, shape);
+
+    int parsed = ExpressionParser.parse(expression).size();
+    if (parsed != terms) {
+      throw new IllegalStateException(
+          "Expected " + terms + " terms in the " + shape + " expression, parsed " + parsed);
+    }
+  }
+
+  @Benchmark
+  public List<Term> parse() {
+    return ExpressionParser.parse(expression);
+  }
+}
@@ -0,0 +1,152 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import com.trbaxter.github.fractionalcomputationapi.testdata.GammaTestData;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MathUtilsBenchmark measures MathUtils.gamma and the gamma ratio of the fractional derivatives,
+ * Γ(k + 1) / Γ(k + 1 - α), both as a whole and as its MathContext.DECIMAL128 division alone. Each
+ * is also run on every available core at once, which shows contention on the shared state gamma
+ * updates per call. Before measuring, each argument is checked against GammaTestData.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MathUtilsBenchmark {
+
+  /** Relative difference allowed between a computed value and its reference value. */
+  private static final BigDecimal TOLERANCE = new BigDecimal("1e-12");
+
+  /** Gamma arguments of each kind, with their reference values. */
+  public enum Argument {
+    INTEGER("5", GammaTestData.GAMMA_5),
+    HALF_INTEGER("3.5", GammaTestData.GAMMA_3_POINT_5),
+    SMALL_FRACTIONAL("0.1", GammaTestData.GAMMA_0_POINT_1),
+    LARGE("101", GammaTestData.GAMMA_101);
+
+    private final BigDecimal z;
+    private final BigDecimal expected;
+
+    Argument(String z, String expected) {
+      this.z = new BigDecimal(z);
+      this.expected = new BigDecimal(expected);
+    }
+  }
+
+  /** Gamma ratios of a term of power k differentiated to order α, with their reference values. */
+  public enum Ratio {
+    HALF_ORDER("4", "0.5", GammaTestData.GAMMA_5, GammaTestData.GAMMA_4_POINT_5),
+    SMALL_ORDER("2", "0.1", GammaTestData.GAMMA_3, GammaTestData.GAMMA_2_POINT_9),
+    LARGE_ORDER("100", "90", GammaTestData.GAMMA_101, GammaTestData.GAMMA_11);
+
+    private final BigDecimal k;
+    private final BigDecimal alpha;
+    private final BigDecimal expected;
+
+    Ratio(String k, String alpha, String numerator, String denominator) {
+      this.k = new BigDecimal(k);
+      this.alpha = new BigDecimal(alpha);
+      this.expected =
+          new BigDecimal(numerator).divide(new BigDecimal(denominator), MathContext.DECIMAL128);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class GammaState {
+
+    @Param({"INTEGER", "HALF_INTEGER", "SMALL_FRACTIONAL", "LARGE"})
+    private Argument argument;
+
+    private BigDecimal z;
+
+    @Setup
+    public void setUp() {
+      z = argument.z;
+      requireClose(MathUtils.gamma(z), argument.expected, "gamma(" + z + ")");
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class RatioState {
+
+    @Param({"HALF_ORDER", "SMALL_ORDER", "LARGE_ORDER"})
+    private Ratio ratio;
+
+    private BigDecimal k;
+    private BigDecimal alpha;
+    private BigDecimal gammaNumerator;
+    private BigDecimal gammaDenominator;
+
+    @Setup
+    public void setUp() {
+      k = ratio.k;
+      alpha = ratio.alpha;
+      gammaNumerator = MathUtils.gamma(k.add(BigDecimal.ONE));
+      gammaDenominator = MathUtils.gamma(k.subtract(alpha).add(BigDecimal.ONE));
+      String description = "gamma ratio for k = " + k + ", alpha = " + alpha;
+      requireClose(gammaRatio(k, alpha), ratio.expected, description);
+      requireClose(
+          gammaNumerator.divide(gammaDenominator, MathContext.DECIMAL128),
+          ratio.expected,
+          description);
+    }
+  }
+
+  @Benchmark
+  public BigDecimal gamma(GammaState state) {
+    return MathUtils.gamma(state.z);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public BigDecimal gammaAllThreads(GammaState state) {
+    return MathUtils.gamma(state.z);
+  }
+
+  @Benchmark
+  public BigDecimal gammaRatio(RatioState state) {
+    return gammaRatio(state.k, state.alpha);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public BigDecimal gammaRatioAllThreads(RatioState state) {
+    return gammaRatio(state.k, state.alpha);
+  }
+
+  @Benchmark
+  public BigDecimal gammaRatioDivision(RatioState state) {
+    return state.gammaNumerator.divide(state.gammaDenominator, MathContext.DECIMAL128);
+  }
+
+  /** The gamma ratio step of CaputoComputationService and RiemannComputationService. */
+  private static BigDecimal gammaRatio(BigDecimal k, BigDecimal alpha) {
+    BigDecimal gammaNumerator = MathUtils.gamma(k.add(BigDecimal.ONE));
+    BigDecimal gammaDenominator = MathUtils.gamma(k.subtract(alpha).add(BigDecimal.ONE));
+    return gammaNumerator.divide(gammaDenominator, MathContext.DECIMAL128);
+  }
+
+  private static void requireClose(BigDecimal actual, BigDecimal expected, String description) {
+    BigDecimal difference = actual.subtract(expected).abs();
+    if (difference.compareTo(expected.abs().multiply(TOLERANCE)) > 0) {
+      throw new IllegalStateException(
+          "Expected " + description + " = " + expected + ", computed " + actual);
+    }
+  }
+}
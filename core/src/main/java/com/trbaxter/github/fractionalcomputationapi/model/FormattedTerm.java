@@ -0,0 +1,13 @@
+package com.trbaxter.github.fractionalcomputationapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.math.BigDecimal;
+
+/**
+ * FormattedTerm represents a single rounded term of a computed result in structured form.<br>
+ * The coefficient is provided both as the exact rounded string and as a double. The power is
+ * exact, so every notation renders the same power as the plain expression. Constants of integration
+ * carry their label in {@code constant}; it is omitted for ordinary terms.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FormattedTerm(String coefficient, double value, BigDecimal power, String constant) {}
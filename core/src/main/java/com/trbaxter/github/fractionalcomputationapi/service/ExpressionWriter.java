@@ -0,0 +1,14 @@
+package com.trbaxter.github.fractionalcomputationapi.service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * ExpressionWriter is a computed result whose formatting has been deferred until it is written,
+ * so the formatted expression can be streamed rather than built in full.
+ */
+@FunctionalInterface
+public interface ExpressionWriter {
+
+  void writeTo(Writer writer) throws IOException;
+}
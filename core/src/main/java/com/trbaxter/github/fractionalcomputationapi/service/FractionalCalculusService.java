@@ -1,6 +1,7 @@
 package com.trbaxter.github.fractionalcomputationapi.service;
 
 import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
 import com.trbaxter.github.fractionalcomputationapi.model.Term;
 import com.trbaxter.github.fractionalcomputationapi.utils.ExpressionParser;
 import java.util.List;
@@ -20,4 +21,12 @@ public interface FractionalCalculusService {
   }
 
   String evaluateExpression(String polynomialExpression, double alpha, Integer precision);
+
+  List<FormattedTerm> evaluateTerms(String polynomialExpression, double alpha, Integer precision);
+
+  /**
+   * Parses and computes the expression immediately, deferring formatting to the returned writer.
+   * Invalid input is therefore reported before any output is written.
+   */
+  ExpressionWriter streamExpression(String polynomialExpression, double alpha, Integer precision);
 }
@@ -0,0 +1,255 @@
+package com.trbaxter.github.fractionalcomputationapi.service.differentiation;
+
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.utils.CoefficientFormatter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BaseFormattingService is an abstract class that provides common functionality for formatting
+ * polynomial terms. It includes methods to format the terms, check for zero coefficients, and
+ * append terms to a result string.<br>
+ * Terms can also be returned in structured form and rendered in other notations through the
+ * protected notation hooks, which default to the plain-text notation of formatTerms.
+ */
+public abstract class BaseFormattingService {
+
+  /** Number of characters buffered by writeTerms before they are handed to the writer. */
+  protected static final int STREAM_CHUNK_SIZE = 8192;
+
+  public String formatTerms(List<Term> terms, int precision) {
+    if (allZeroCoefficients(terms)) {
+      return getZeroPolynomialResult();
+    }
+
+    StringBuilder result = new StringBuilder();
+
+    for (Term term : terms) {
+      if (shouldSkipTerm(term)) {
+        continue;
+      }
+
+      appendTerm(result, term, precision);
+    }
+
+    if (result.isEmpty()) {
+      return getZeroPolynomialResult();
+    }
+
+    return result.toString();
+  }
+
+  /**
+   * Writes the same output as formatTerms to a writer, formatting into a buffer of roughly
+   * STREAM_CHUNK_SIZE characters that is flushed to the writer whenever it fills up. The full
+   * expression is never held in memory.
+   *
+   * @param terms the computed terms.
+   * @param precision the number of decimal places for each coefficient.
+   * @param writer the destination of the formatted expression.
+   * @throws IOException if the writer fails.
+   */
+  public void writeTerms(List<Term> terms, int precision, Writer writer) throws IOException {
+    if (allZeroCoefficients(terms)) {
+      writer.write(getZeroPolynomialResult());
+      return;
+    }
+
+    StringBuilder chunk = new StringBuilder(STREAM_CHUNK_SIZE + 64);
+    boolean leading = true;
+
+    for (Term term : terms) {
+      if (shouldSkipTerm(term)) {
+        continue;
+      }
+
+      if (appendTerm(chunk, term, precision, leading)) {
+        leading = false;
+      }
+
+      if (chunk.length() >= STREAM_CHUNK_SIZE) {
+        writer.append(chunk);
+        chunk.setLength(0);
+      }
+    }
+
+    if (leading) {
+      writer.write(getZeroPolynomialResult());
+    } else {
+      writer.append(chunk);
+    }
+  }
+
+  /**
+   * Rounds the terms and returns them in structured form, skipping the same terms that
+   * formatTerms omits.
+   *
+   * @param terms the computed terms.
+   * @param precision the number of decimal places for each coefficient.
+   * @return the retained terms with rounded coefficients.
+   */
+  public List<FormattedTerm> structureTerms(List<Term> terms, int precision) {
+    List<FormattedTerm> structuredTerms = new ArrayList<>(terms.size());
+
+    for (Term term : terms) {
+      if (shouldSkipTerm(term)) {
+        continue;
+      }
+
+      BigDecimal coefficient = CoefficientFormatter.round(term.coefficient(), precision);
+      if (coefficient.signum() != 0) {
+        structuredTerms.add(toFormattedTerm(coefficient, term.power(), null));
+      }
+    }
+
+    return structuredTerms;
+  }
+
+  /**
+   * Renders structured terms into an expression using this service's notation.
+   *
+   * @param terms the structured terms, as produced by structureTerms.
+   * @return the rendered expression.
+   */
+  public String renderTerms(List<FormattedTerm> terms) {
+    if (terms.isEmpty()) {
+      return getZeroPolynomialResult();
+    }
+
+    StringBuilder result = new StringBuilder();
+    startExpression(result);
+
+    boolean leading = true;
+    for (FormattedTerm term : terms) {
+      boolean negative = term.coefficient().startsWith("-");
+      String magnitude = negative ? term.coefficient().substring(1) : term.coefficient();
+      boolean unit = magnitude.equals("1");
+
+      appendSign(result, negative, leading);
+      if (term.constant() != null) {
+        if (!unit) {
+          appendCoefficient(result, magnitude);
+        }
+        appendConstant(result, term.constant());
+      } else if (!unit || term.power().signum() == 0) {
+        appendCoefficient(result, magnitude);
+      }
+
+      if (term.power().signum() != 0) {
+        appendVariable(result, formatPower(term.power()));
+      }
+      leading = false;
+    }
+
+    return completeExpression(result);
+  }
+
+  protected static FormattedTerm toFormattedTerm(
+      BigDecimal roundedCoefficient, BigDecimal power, String constant) {
+    StringBuilder coefficient = new StringBuilder();
+    CoefficientFormatter.append(coefficient, roundedCoefficient);
+    return new FormattedTerm(
+        coefficient.toString(), roundedCoefficient.doubleValue(), normalizePower(power), constant);
+  }
+
+  /**
+   * Formats a power as it appears after x^, e.g. 1.5 for 1.50, in every notation.
+   *
+   * @param power the power of a term.
+   * @return the power without trailing zeros, in plain notation.
+   */
+  protected static String formatPower(BigDecimal power) {
+    return normalizePower(power).toPlainString();
+  }
+
+  /** Strips trailing zeros without moving to an exponent, so 10 stays 10 rather than 1E+1. */
+  private static BigDecimal normalizePower(BigDecimal power) {
+    BigDecimal stripped = power.stripTrailingZeros();
+    return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+  }
+
+  protected void startExpression(StringBuilder result) {}
+
+  protected void appendSign(StringBuilder result, boolean negative, boolean leading) {
+    if (!leading) {
+      result.append(negative ? " - " : " + ");
+    } else if (negative) {
+      result.append("-");
+    }
+  }
+
+  protected void appendCoefficient(StringBuilder result, String magnitude) {
+    result.append(magnitude);
+  }
+
+  protected void appendConstant(StringBuilder result, String constant) {
+    result.append(constant);
+  }
+
+  protected void appendVariable(StringBuilder result, String power) {
+    result.append("x");
+    if (!power.equals("1")) {
+      result.append("^").append(power);
+    }
+  }
+
+  protected String completeExpression(StringBuilder result) {
+    return result.toString();
+  }
+
+  private boolean allZeroCoefficients(List<Term> terms) {
+    return terms.stream().allMatch(term -> term.coefficient().compareTo(BigDecimal.ZERO) == 0);
+  }
+
+  protected abstract boolean shouldSkipTerm(Term term);
+
+  protected abstract String getZeroPolynomialResult();
+
+  protected void appendTerm(StringBuilder result, Term term, int precision) {
+    appendTerm(result, term, precision, result.isEmpty());
+  }
+
+  private boolean appendTerm(StringBuilder result, Term term, int precision, boolean leading) {
+    BigDecimal coefficient = CoefficientFormatter.round(term.coefficient(), precision);
+
+    if (coefficient.signum() == 0) {
+      return false;
+    }
+
+    appendSignAndCoefficient(result, coefficient, term.power(), leading);
+    appendVariablePart(result, term);
+    return true;
+  }
+
+  private void appendSignAndCoefficient(
+      StringBuilder result, BigDecimal coefficient, BigDecimal power, boolean leading) {
+    boolean negative = coefficient.signum() < 0;
+
+    if (!leading) {
+      result.append(negative ? " - " : " + ");
+    } else if (negative) {
+      result.append("-");
+    }
+
+    if (shouldAppendCoefficient(coefficient, power)) {
+      CoefficientFormatter.appendMagnitude(result, coefficient);
+    }
+  }
+
+  private boolean shouldAppendCoefficient(BigDecimal coefficient, BigDecimal power) {
+    return !CoefficientFormatter.isUnit(coefficient) || power.compareTo(BigDecimal.ZERO) == 0;
+  }
+
+  private void appendVariablePart(StringBuilder result, Term term) {
+    if (term.power().compareTo(BigDecimal.ZERO) != 0) {
+      result.append("x");
+      if (term.power().compareTo(BigDecimal.ONE) != 0) {
+        result.append("^").append(formatPower(term.power()));
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo;
 
 import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.utils.DiagnosticTrace;
 import com.trbaxter.github.fractionalcomputationapi.utils.MathUtils;
 import java.math.BigDecimal;
 import java.math.MathContext;
@@ -9,13 +10,11 @@ import java.util.Comparator;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Service;
 
 /**
  * CaputoDerivativeComputationService provides methods to compute the terms of the Caputo fractional
  * derivative for polynomial expressions.
  */
-@Service
 public class CaputoComputationService {
   private static final Logger logger = LoggerFactory.getLogger(CaputoComputationService.class);
 
@@ -56,6 +55,10 @@ public class CaputoComputationService {
 
   private void computeFractionalOrderDerivativeTerms(
       List<Term> terms, BigDecimal alpha, List<Term> computedTerms) {
+    boolean trace = DiagnosticTrace.isActive();
+    int failures = 0;
+    Exception firstFailure = null;
+
     for (Term term : terms) {
       BigDecimal coefficient = term.coefficient();
       BigDecimal k = term.power();
@@ -64,25 +67,42 @@ public class CaputoComputationService {
         try {
           BigDecimal gammaNumerator = MathUtils.gamma(k.add(BigDecimal.ONE));
           BigDecimal gammaDenominator = MathUtils.gamma(k.subtract(alpha).add(BigDecimal.ONE));
-          logger.info(
-              "Term with power {}: gammaNumerator = {}, gammaDenominator = {}",
-              k,
-              gammaNumerator,
-              gammaDenominator);
+          if (trace) {
+            DiagnosticTrace.log(
+                "Term with power {}: gammaNumerator = {}, gammaDenominator = {}",
+                k,
+                gammaNumerator,
+                gammaDenominator);
+          }
 
           if (gammaDenominator.compareTo(BigDecimal.ZERO) != 0) {
             BigDecimal gammaCoefficient =
                 gammaNumerator.divide(gammaDenominator, MathContext.DECIMAL128);
             BigDecimal newCoefficient = coefficient.multiply(gammaCoefficient);
             BigDecimal newPower = k.subtract(alpha);
-            logger.info(
-                "Computed Term: newCoefficient = {}, newPower = {}", newCoefficient, newPower);
+            if (trace) {
+              DiagnosticTrace.log(
+                  "Computed Term: newCoefficient = {}, newPower = {}", newCoefficient, newPower);
+            }
             computedTerms.add(new Term(newCoefficient, newPower));
           }
         } catch (Exception e) {
-          logger.error("Error computing term with power {}: {}", k, e.getMessage(), e);
+          if (failures++ == 0) {
+            firstFailure = e;
+          }
+          if (trace) {
+            DiagnosticTrace.log("Error computing term with power {}", k, e);
+          }
         }
       }
     }
+
+    if (failures > 0) {
+      logger.warn(
+          "Skipped {} of {} terms that could not be computed: {}",
+          failures,
+          terms.size(),
+          firstFailure.toString());
+    }
   }
 }
@@ -3,14 +3,12 @@ package com.trbaxter.github.fractionalcomputationapi.service.differentiation.cap
 import com.trbaxter.github.fractionalcomputationapi.model.Term;
 import com.trbaxter.github.fractionalcomputationapi.service.differentiation.BaseFormattingService;
 import java.math.BigDecimal;
-import org.springframework.stereotype.Service;
 
 /**
  * CaputoDerivativeFormattingService is a service that provides formatting for the results of Caputo
  * fractional derivative computations. It extends the BaseFormattingService to apply specific rules
  * for Caputo derivatives.
  */
-@Service
 public class CaputoFormattingService extends BaseFormattingService {
 
   /**
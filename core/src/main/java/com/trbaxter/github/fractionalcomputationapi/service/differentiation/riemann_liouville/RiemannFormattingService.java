@@ -3,9 +3,7 @@ package com.trbaxter.github.fractionalcomputationapi.service.differentiation.rie
 import com.trbaxter.github.fractionalcomputationapi.model.Term;
 import com.trbaxter.github.fractionalcomputationapi.service.differentiation.BaseFormattingService;
 import java.math.BigDecimal;
-import org.springframework.stereotype.Service;
 
-@Service
 public class RiemannFormattingService extends BaseFormattingService {
 
   @Override
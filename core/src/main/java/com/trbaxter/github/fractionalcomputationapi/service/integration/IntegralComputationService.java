@@ -1,24 +1,19 @@
 package com.trbaxter.github.fractionalcomputationapi.service.integration;
 
 import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.utils.DiagnosticTrace;
 import com.trbaxter.github.fractionalcomputationapi.utils.MathUtils;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Service;
 
 /**
  * CaputoIntegralComputationService provides methods to compute the terms of the <br>
  * Caputo fractional integral for polynomial expressions.
  */
-@Service
 public class IntegralComputationService {
-  private static final Logger logger = LoggerFactory.getLogger(IntegralComputationService.class);
-
   public List<Term> computeTerms(List<Term> terms, BigDecimal alpha) {
     if (alpha.compareTo(BigDecimal.ZERO) == 0) {
       return terms;
@@ -26,13 +21,14 @@ public class IntegralComputationService {
 
     List<Term> computedTerms = new ArrayList<>();
     boolean isIntegerAlpha = alpha.stripTrailingZeros().scale() <= 0;
+    boolean trace = !isIntegerAlpha && DiagnosticTrace.isActive();
 
     for (Term term : terms) {
       BigDecimal coefficient = term.coefficient();
       BigDecimal k = term.power();
 
       if (coefficient.compareTo(BigDecimal.ZERO) != 0) {
-        computeTerm(alpha, isIntegerAlpha, computedTerms, coefficient, k);
+        computeTerm(alpha, isIntegerAlpha, trace, computedTerms, coefficient, k);
       }
     }
 
@@ -43,13 +39,14 @@ public class IntegralComputationService {
   private void computeTerm(
       BigDecimal alpha,
       boolean isIntegerAlpha,
+      boolean trace,
       List<Term> computedTerms,
       BigDecimal coefficient,
       BigDecimal k) {
     if (isIntegerAlpha) {
       computeIntegerOrderTerms(coefficient, k, alpha.intValue(), computedTerms);
     } else {
-      computeFractionalOrderTerms(coefficient, k, alpha, computedTerms);
+      computeFractionalOrderTerms(coefficient, k, alpha, trace, computedTerms);
     }
   }
 
@@ -67,17 +64,29 @@ public class IntegralComputationService {
   }
 
   private void computeFractionalOrderTerms(
-      BigDecimal coefficient, BigDecimal k, BigDecimal alpha, List<Term> computedTerms) {
+      BigDecimal coefficient,
+      BigDecimal k,
+      BigDecimal alpha,
+      boolean trace,
+      List<Term> computedTerms) {
     BigDecimal gammaNumerator = MathUtils.gamma(k.add(BigDecimal.ONE));
     BigDecimal gammaDenominator = MathUtils.gamma(k.add(alpha).add(BigDecimal.ONE));
-    logger.info(
-        "Term {}: gammaNumerator = {}, gammaDenominator = {}", k, gammaNumerator, gammaDenominator);
+    if (trace) {
+      DiagnosticTrace.log(
+          "Term {}: gammaNumerator = {}, gammaDenominator = {}",
+          k,
+          gammaNumerator,
+          gammaDenominator);
+    }
 
     if (gammaDenominator.compareTo(BigDecimal.ZERO) != 0) {
       BigDecimal gammaCoefficient = gammaNumerator.divide(gammaDenominator, MathContext.DECIMAL128);
       BigDecimal newCoefficient = coefficient.multiply(gammaCoefficient);
       BigDecimal newPower = k.add(alpha);
-      logger.info("Term {}: newCoefficient = {}, newPower = {}", k, newCoefficient, newPower);
+      if (trace) {
+        DiagnosticTrace.log(
+            "Term {}: newCoefficient = {}, newPower = {}", k, newCoefficient, newPower);
+      }
       computedTerms.add(new Term(newCoefficient, newPower));
     }
   }
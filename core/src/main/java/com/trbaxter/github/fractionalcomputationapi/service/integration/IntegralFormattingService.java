@@ -0,0 +1,208 @@
+package com.trbaxter.github.fractionalcomputationapi.service.integration;
+
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.BaseFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.utils.CoefficientFormatter;
+import com.trbaxter.github.fractionalcomputationapi.utils.ConstantLabels;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CaputoIntegralFormattingService is a service that provides formatting for the results of Caputo
+ * fractional integrals. It extends the BaseFormattingService to apply specific rules for Caputo
+ * integrals.
+ */
+public class IntegralFormattingService extends BaseFormattingService {
+
+  /**
+   * Characters of rendered constants kept in the cache. The structured terms of an entry hold about
+   * as many again, so the cache stays within a few tens of megabytes.
+   */
+  static final long MAX_CACHED_CHARACTERS = 1L << 22;
+
+  /**
+   * Constants heavier than this, such as those of an order in the thousands at a high precision,
+   * are rendered for each request instead of being cached.
+   */
+  static final int MAX_ENTRY_CHARACTERS = 1 << 18;
+
+  private static final ConstantsOfIntegration FRACTIONAL_ORDER_CONSTANTS =
+      new ConstantsOfIntegration(
+          " + " + ConstantLabels.BASE_LABEL,
+          List.of(toFormattedTerm(BigDecimal.ONE, BigDecimal.ZERO, ConstantLabels.BASE_LABEL)));
+
+  /** Constants by order and precision, least recently used first; guarded by itself. */
+  private final Map<ConstantsKey, ConstantsOfIntegration> constantsCache =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  private long cachedCharacters;
+  private long cacheHits;
+  private long cacheMisses;
+  private long cacheEvictions;
+
+  @Override
+  protected boolean shouldSkipTerm(Term term) {
+    return false;
+  }
+
+  @Override
+  protected String getZeroPolynomialResult() {
+    return "C";
+  }
+
+  public String formatTerms(List<Term> terms, double alpha, int precision) {
+    return super.formatTerms(terms, precision) + constantsOfIntegration(alpha, precision).tail();
+  }
+
+  /**
+   * Streaming counterpart of formatTerms(List, double, int), writing the polynomial part in chunks
+   * followed by the constants of integration.
+   */
+  public void writeTerms(List<Term> terms, double alpha, int precision, Writer writer)
+      throws IOException {
+    super.writeTerms(terms, precision, writer);
+    writer.write(constantsOfIntegration(alpha, precision).tail());
+  }
+
+  public List<FormattedTerm> structureTerms(List<Term> terms, double alpha, int precision) {
+    List<FormattedTerm> structuredTerms = super.structureTerms(terms, precision);
+    structuredTerms.addAll(constantsOfIntegration(alpha, precision).terms());
+    return structuredTerms;
+  }
+
+  /**
+   * Returns the constants of integration for an order and precision. A fractional order has the
+   * single constant C; an integer order n has n constants, rendered once per (n, precision) and
+   * then served from a cache bounded by the characters it holds.
+   */
+  private ConstantsOfIntegration constantsOfIntegration(double alpha, int precision) {
+    boolean integerAlpha = BigDecimal.valueOf(alpha).stripTrailingZeros().scale() <= 0;
+
+    if (!integerAlpha) {
+      return FRACTIONAL_ORDER_CONSTANTS;
+    }
+
+    ConstantsKey key = new ConstantsKey((int) alpha, precision);
+    synchronized (constantsCache) {
+      ConstantsOfIntegration cached = constantsCache.get(key);
+      if (cached != null) {
+        cacheHits++;
+        return cached;
+      }
+      cacheMisses++;
+    }
+
+    ConstantsOfIntegration constants = computeConstantsOfIntegration(key.order(), key.precision());
+    if (constants.weight() <= MAX_ENTRY_CHARACTERS) {
+      cache(key, constants);
+    }
+    return constants;
+  }
+
+  /** Adds constants to the cache, evicting the least recently used until it is within bounds. */
+  private void cache(ConstantsKey key, ConstantsOfIntegration constants) {
+    synchronized (constantsCache) {
+      ConstantsOfIntegration previous = constantsCache.put(key, constants);
+      if (previous != null) {
+        cachedCharacters -= previous.weight();
+      }
+      cachedCharacters += constants.weight();
+
+      Iterator<ConstantsOfIntegration> eldest = constantsCache.values().iterator();
+      while (cachedCharacters > MAX_CACHED_CHARACTERS && eldest.hasNext()) {
+        cachedCharacters -= eldest.next().weight();
+        eldest.remove();
+        cacheEvictions++;
+      }
+    }
+  }
+
+  /** The characters of rendered constants currently cached. */
+  long cachedCharacters() {
+    synchronized (constantsCache) {
+      return cachedCharacters;
+    }
+  }
+
+  /** Returns a snapshot of the constants cache counters. */
+  public CacheStats cacheStats() {
+    synchronized (constantsCache) {
+      return new CacheStats(
+          cacheHits, cacheMisses, cacheEvictions, constantsCache.size(), cachedCharacters);
+    }
+  }
+
+  /**
+   * The constant multiplying x^k carries the coefficient 1/Γ(k + 1) = 1/k!, so the whole table is
+   * built from one running factorial instead of a gamma evaluation per constant.
+   */
+  private ConstantsOfIntegration computeConstantsOfIntegration(int order, int precision) {
+    BigDecimal[] coefficients = new BigDecimal[Math.max(order, 0)];
+    BigInteger factorial = BigInteger.ONE;
+
+    for (int power = 0; power < order; power++) {
+      if (power > 1) {
+        factorial = factorial.multiply(BigInteger.valueOf(power));
+      }
+      coefficients[power] =
+          BigDecimal.ONE.divide(new BigDecimal(factorial), precision, RoundingMode.HALF_UP);
+    }
+
+    StringBuilder tail = new StringBuilder();
+    List<FormattedTerm> terms = new ArrayList<>(coefficients.length);
+
+    // The polynomial part is never empty, so every constant is preceded by a separator.
+    for (int power = order - 1; power >= 0; power--) {
+      String label = ConstantLabels.label(power, order);
+      BigDecimal coefficient = coefficients[power];
+
+      tail.append(" + ");
+      if (coefficient.compareTo(BigDecimal.ONE) != 0) {
+        CoefficientFormatter.append(tail, CoefficientFormatter.round(coefficient, precision));
+      }
+      tail.append(label);
+      appendPower(tail, power);
+
+      terms.add(
+          toFormattedTerm(
+              CoefficientFormatter.round(coefficient, precision), BigDecimal.valueOf(power), label));
+    }
+
+    return new ConstantsOfIntegration(tail.toString(), List.copyOf(terms));
+  }
+
+  private void appendPower(StringBuilder sb, int power) {
+    if (power > 0) {
+      sb.append("x");
+      if (power > 1) {
+        sb.append("^").append(power);
+      }
+    }
+  }
+
+  private record ConstantsKey(int order, int precision) {}
+
+  /** The pre-rendered plain-text tail and the structured form of a set of constants. */
+  private record ConstantsOfIntegration(String tail, List<FormattedTerm> terms) {
+
+    /** The weight of the constants in the cache, the characters of the rendered tail. */
+    int weight() {
+      return tail.length();
+    }
+  }
+
+  /**
+   * Constants cache counters: lookups of an integer order served from the cache and rendered anew,
+   * entries evicted to stay within the size bound, and the entries and characters now cached.
+   */
+  public record CacheStats(long hits, long misses, long evictions, int entries, long characters) {}
+}
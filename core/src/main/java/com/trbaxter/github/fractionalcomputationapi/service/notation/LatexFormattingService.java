@@ -0,0 +1,46 @@
+package com.trbaxter.github.fractionalcomputationapi.service.notation;
+
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.BaseFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.utils.ConstantLabels;
+import java.util.List;
+
+/**
+ * LatexFormattingService renders computed terms as a LaTeX math expression, e.g.
+ * {@code 4.514x^{1.5} - 0.564x^{-0.5}}. Operator-specific rules are applied beforehand by the
+ * operator's own formatting service when the terms are structured.
+ */
+public class LatexFormattingService extends BaseFormattingService {
+
+  @Override
+  public String formatTerms(List<Term> terms, int precision) {
+    return renderTerms(structureTerms(terms, precision));
+  }
+
+  @Override
+  protected boolean shouldSkipTerm(Term term) {
+    return false;
+  }
+
+  @Override
+  protected String getZeroPolynomialResult() {
+    return "0";
+  }
+
+  @Override
+  protected void appendConstant(StringBuilder result, String constant) {
+    String subscript = ConstantLabels.subscript(constant);
+    result.append(ConstantLabels.BASE_LABEL);
+    if (!subscript.isEmpty()) {
+      result.append("_{").append(subscript).append("}");
+    }
+  }
+
+  @Override
+  protected void appendVariable(StringBuilder result, String power) {
+    result.append("x");
+    if (!power.equals("1")) {
+      result.append("^{").append(power).append("}");
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.trbaxter.github.fractionalcomputationapi.service.notation;
+
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.BaseFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.utils.ConstantLabels;
+import java.util.List;
+
+/**
+ * MathMlFormattingService renders computed terms as a presentation MathML {@code <math>} element.
+ * Operator-specific rules are applied beforehand by the operator's own formatting service when the
+ * terms are structured.
+ */
+public class MathMlFormattingService extends BaseFormattingService {
+
+  private static final String MATH_OPEN = "<math xmlns=\"http://www.w3.org/1998/Math/MathML\">";
+  private static final String MATH_CLOSE = "</math>";
+
+  @Override
+  public String formatTerms(List<Term> terms, int precision) {
+    return renderTerms(structureTerms(terms, precision));
+  }
+
+  @Override
+  protected boolean shouldSkipTerm(Term term) {
+    return false;
+  }
+
+  @Override
+  protected String getZeroPolynomialResult() {
+    return MATH_OPEN + "<mn>0</mn>" + MATH_CLOSE;
+  }
+
+  @Override
+  protected void startExpression(StringBuilder result) {
+    result.append(MATH_OPEN).append("<mrow>");
+  }
+
+  @Override
+  protected void appendSign(StringBuilder result, boolean negative, boolean leading) {
+    if (negative) {
+      result.append("<mo>-</mo>");
+    } else if (!leading) {
+      result.append("<mo>+</mo>");
+    }
+  }
+
+  @Override
+  protected void appendCoefficient(StringBuilder result, String magnitude) {
+    result.append("<mn>").append(magnitude).append("</mn>");
+  }
+
+  @Override
+  protected void appendConstant(StringBuilder result, String constant) {
+    String subscript = ConstantLabels.subscript(constant);
+    if (subscript.isEmpty()) {
+      result.append("<mi>").append(ConstantLabels.BASE_LABEL).append("</mi>");
+    } else {
+      result
+          .append("<msub><mi>")
+          .append(ConstantLabels.BASE_LABEL)
+          .append("</mi><mn>")
+          .append(subscript)
+          .append("</mn></msub>");
+    }
+  }
+
+  @Override
+  protected void appendVariable(StringBuilder result, String power) {
+    if (power.equals("1")) {
+      result.append("<mi>x</mi>");
+    } else if (power.startsWith("-")) {
+      result
+          .append("<msup><mi>x</mi><mrow><mo>-</mo><mn>")
+          .append(power, 1, power.length())
+          .append("</mn></mrow></msup>");
+    } else {
+      result.append("<msup><mi>x</mi><mn>").append(power).append("</mn></msup>");
+    }
+  }
+
+  @Override
+  protected String completeExpression(StringBuilder result) {
+    return result.append("</mrow>").append(MATH_CLOSE).toString();
+  }
+}
@@ -0,0 +1,148 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * CoefficientFormatter renders rounded coefficients straight into an output buffer.<br>
+ * Digits are taken from the unscaled value and scale of the rounded BigDecimal, and a fractional
+ * part made up solely of zeros is dropped arithmetically rather than by string matching.
+ */
+public final class CoefficientFormatter {
+
+  private static final long[] LONG_POWERS_OF_TEN = {
+    1L,
+    10L,
+    100L,
+    1_000L,
+    10_000L,
+    100_000L,
+    1_000_000L,
+    10_000_000L,
+    100_000_000L,
+    1_000_000_000L,
+    10_000_000_000L,
+    100_000_000_000L,
+    1_000_000_000_000L,
+    10_000_000_000_000L,
+    100_000_000_000_000L,
+    1_000_000_000_000_000L,
+    10_000_000_000_000_000L,
+    100_000_000_000_000_000L,
+    1_000_000_000_000_000_000L
+  };
+
+  /** Private constructor to prevent instantiation. */
+  private CoefficientFormatter() {
+    throw new UnsupportedOperationException("Utility class for coefficient formatting");
+  }
+
+  /**
+   * Rounds a coefficient to the requested number of decimal places.
+   *
+   * @param coefficient the coefficient to round.
+   * @param precision the number of decimal places to keep.
+   * @return the coefficient rounded half-up to the given precision.
+   */
+  public static BigDecimal round(BigDecimal coefficient, int precision) {
+    return coefficient.setScale(precision, RoundingMode.HALF_UP);
+  }
+
+  /**
+   * Checks whether a rounded coefficient is exactly one or negative one.
+   *
+   * @param rounded the rounded coefficient.
+   * @return true if the absolute value of the coefficient is one, false otherwise.
+   */
+  public static boolean isUnit(BigDecimal rounded) {
+    return rounded.compareTo(BigDecimal.ONE) == 0
+        || rounded.compareTo(BigDecimal.ONE.negate()) == 0;
+  }
+
+  /**
+   * Appends a rounded coefficient, including its sign when negative.
+   *
+   * @param sb the buffer to append to.
+   * @param rounded the rounded coefficient.
+   */
+  public static void append(StringBuilder sb, BigDecimal rounded) {
+    if (rounded.signum() < 0) {
+      sb.append('-');
+    }
+    appendMagnitude(sb, rounded);
+  }
+
+  /**
+   * Appends the absolute value of a rounded coefficient. The output matches {@code toPlainString()}
+   * except that a fractional part consisting only of zeros is omitted.
+   *
+   * @param sb the buffer to append to.
+   * @param rounded the rounded coefficient.
+   */
+  public static void appendMagnitude(StringBuilder sb, BigDecimal rounded) {
+    int scale = rounded.scale();
+
+    if (scale < 0) {
+      sb.append(rounded.abs().toPlainString());
+    } else if (rounded.unscaledValue().bitLength() < Long.SIZE - 1) {
+      appendLongMagnitude(sb, Math.abs(rounded.unscaledValue().longValue()), scale);
+    } else {
+      appendDigits(sb, rounded.unscaledValue().abs().toString(), scale);
+    }
+  }
+
+  private static void appendLongMagnitude(StringBuilder sb, long unscaled, int scale) {
+    long integerPart = 0;
+    long fractionalPart = unscaled;
+
+    if (scale < LONG_POWERS_OF_TEN.length) {
+      long divisor = LONG_POWERS_OF_TEN[scale];
+      integerPart = unscaled / divisor;
+      fractionalPart = unscaled % divisor;
+    }
+
+    sb.append(integerPart);
+    if (fractionalPart != 0) {
+      sb.append('.');
+      appendZeros(sb, scale - digitCount(fractionalPart));
+      sb.append(fractionalPart);
+    }
+  }
+
+  private static void appendDigits(StringBuilder sb, String digits, int scale) {
+    int integerLength = digits.length() - scale;
+
+    if (hasZeroFraction(digits, Math.max(integerLength, 0))) {
+      sb.append(integerLength > 0 ? digits.substring(0, integerLength) : "0");
+    } else if (integerLength > 0) {
+      sb.append(digits, 0, integerLength).append('.').append(digits, integerLength, digits.length());
+    } else {
+      sb.append("0.");
+      appendZeros(sb, -integerLength);
+      sb.append(digits);
+    }
+  }
+
+  private static boolean hasZeroFraction(String digits, int fractionStart) {
+    for (int i = fractionStart; i < digits.length(); i++) {
+      if (digits.charAt(i) != '0') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int digitCount(long value) {
+    int count = 1;
+    while (count < LONG_POWERS_OF_TEN.length && value >= LONG_POWERS_OF_TEN[count]) {
+      count++;
+    }
+    return count;
+  }
+
+  private static void appendZeros(StringBuilder sb, int count) {
+    for (int i = 0; i < count; i++) {
+      sb.append('0');
+    }
+  }
+}
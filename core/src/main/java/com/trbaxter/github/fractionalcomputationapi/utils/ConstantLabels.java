@@ -0,0 +1,54 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+/**
+ * ConstantLabels names the constants of integration in a result. A lone constant is written as
+ * {@code C}; when there are several, each is labelled with the power of x it multiplies, as a
+ * subscript ({@code C₀}, {@code C₁}, ... {@code Cₙ}), so any integer order stays readable.
+ */
+public final class ConstantLabels {
+
+  public static final String BASE_LABEL = "C";
+
+  private static final char SUBSCRIPT_ZERO = '₀';
+
+  /** Private constructor to prevent instantiation. */
+  private ConstantLabels() {
+    throw new UnsupportedOperationException("Utility class for constant labels");
+  }
+
+  /**
+   * Builds the label of a constant of integration.
+   *
+   * @param power the power of x the constant multiplies.
+   * @param count the total number of constants in the result.
+   * @return {@code C} when count is one, otherwise {@code C} subscripted with the power.
+   */
+  public static String label(int power, int count) {
+    if (count == 1) {
+      return BASE_LABEL;
+    }
+
+    String digits = Integer.toString(power);
+    StringBuilder label = new StringBuilder(BASE_LABEL.length() + digits.length());
+    label.append(BASE_LABEL);
+    for (int i = 0; i < digits.length(); i++) {
+      label.append((char) (SUBSCRIPT_ZERO + (digits.charAt(i) - '0')));
+    }
+    return label.toString();
+  }
+
+  /**
+   * Extracts the subscript of a label as ASCII digits, for notations with their own subscript
+   * syntax.
+   *
+   * @param label a label produced by {@link #label(int, int)}.
+   * @return the subscript digits, or an empty string if the label has none.
+   */
+  public static String subscript(String label) {
+    StringBuilder digits = new StringBuilder(label.length());
+    for (int i = BASE_LABEL.length(); i < label.length(); i++) {
+      digits.append((char) ('0' + (label.charAt(i) - SUBSCRIPT_ZERO)));
+    }
+    return digits.toString();
+  }
+}
@@ -0,0 +1,72 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * DiagnosticTrace gates the per-term diagnostics of the computation services. Tracing is off
+ * unless the current thread has opened a trace, so a computation checks once per call instead of
+ * logging for every term. Traced lines are written at DEBUG to the {@value #LOGGER_NAME} logger,
+ * whose level is configured apart from the rest of the package, and carry the trace id in the
+ * {@value #MDC_KEY} MDC entry.
+ */
+public final class DiagnosticTrace {
+
+  public static final String MDC_KEY = "diagnostic-trace";
+  public static final String LOGGER_NAME =
+      "com.trbaxter.github.fractionalcomputationapi.diagnostic";
+
+  private static final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+
+  /** Private constructor to prevent instantiation. */
+  private DiagnosticTrace() {
+    throw new UnsupportedOperationException("Utility class for diagnostic tracing");
+  }
+
+  /**
+   * Reports whether the current thread is being traced. Computations call this once, before their
+   * loop, and pass the answer along.
+   *
+   * @return true if a trace is open on this thread and the diagnostic logger is enabled.
+   */
+  public static boolean isActive() {
+    return MDC.get(MDC_KEY) != null && logger.isDebugEnabled();
+  }
+
+  /**
+   * Writes a traced line. Callers check {@link #isActive()} first, so arguments are not formatted
+   * for requests that are not traced.
+   *
+   * @param format the SLF4J message format.
+   * @param arguments the message arguments; a trailing Throwable is logged with its stack trace.
+   */
+  public static void log(String format, Object... arguments) {
+    logger.debug(format, arguments);
+  }
+
+  /**
+   * Opens a trace on the current thread, until the returned scope is closed.
+   *
+   * @param traceId the id identifying the traced lines in the log.
+   * @return a scope that restores the previous trace, if any, when closed.
+   */
+  public static Scope begin(String traceId) {
+    String previous = MDC.get(MDC_KEY);
+    MDC.put(MDC_KEY, traceId);
+    return () -> {
+      if (previous == null) {
+        MDC.remove(MDC_KEY);
+      } else {
+        MDC.put(MDC_KEY, previous);
+      }
+    };
+  }
+
+  /** Scope of an open trace; closing it ends the trace on the thread that opened it. */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
@@ -10,6 +10,13 @@ import org.apache.commons.math3.special.Gamma;
  */
 public final class MathUtils {
 
+  /**
+   * Gamma function evaluations made by each thread, so a caller can attribute the evaluations of a
+   * computation to it even while other threads compute.
+   */
+  private static final ThreadLocal<long[]> GAMMA_EVALUATIONS =
+      ThreadLocal.withInitial(() -> new long[1]);
+
   /** Private constructor to prevent instantiation. */
   private MathUtils() {
     throw new UnsupportedOperationException("Utility class for math operations");
@@ -27,12 +34,29 @@ public final class MathUtils {
       throw new IllegalArgumentException("Input for gamma function must not be null");
     }
 
+    GAMMA_EVALUATIONS.get()[0]++;
+    RequestTimings timings = RequestTimings.current();
+    long start = timings != null ? System.nanoTime() : 0L;
     try {
       double value = z.doubleValue();
       double gammaValue = Gamma.gamma(value);
       return BigDecimal.valueOf(gammaValue).setScale(15, RoundingMode.HALF_UP);
     } catch (NumberFormatException e) {
       throw new IllegalArgumentException("Invalid input for gamma function: " + z, e);
+    } finally {
+      if (timings != null) {
+        timings.add(RequestTimings.Stage.GAMMA, System.nanoTime() - start);
+      }
     }
   }
+
+  /**
+   * Returns the number of gamma function evaluations made by the calling thread so far. Taking the
+   * difference before and after a computation gives the evaluations it needed.
+   *
+   * @return the number of calls to gamma on this thread.
+   */
+  public static long gammaEvaluations() {
+    return GAMMA_EVALUATIONS.get()[0];
+  }
 }
@@ -0,0 +1,145 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import java.util.Locale;
+
+/**
+ * RequestTimings accumulates the time a request spends in each stage of its computation, for
+ * reporting in a Server-Timing header. A context is opened on the request thread with {@link
+ * #begin()}; while it is open, the stages running on that thread add their System.nanoTime
+ * durations to it. Without an open context nothing is measured, so code outside a request pays one
+ * ThreadLocal lookup per stage.<br>
+ * Gamma function time is part of the compute stage and is reported both there and on its own.
+ */
+public final class RequestTimings {
+
+  /** The stages reported, in header order. */
+  public enum Stage {
+    BINDING("binding", "Binding and validation"),
+    PARSE("parse", "Parse"),
+    COMPUTE("compute", "Compute"),
+    GAMMA("gamma", "Gamma function"),
+    FORMAT("format", "Format");
+
+    private final String metricName;
+    private final String description;
+
+    Stage(String metricName, String description) {
+      this.metricName = metricName;
+      this.description = description;
+    }
+
+    public String getMetricName() {
+      return metricName;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+  }
+
+  private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+  private static final Stage[] STAGES = Stage.values();
+
+  private final long started = System.nanoTime();
+  private final long[] nanos = new long[STAGES.length];
+  private final boolean[] recorded = new boolean[STAGES.length];
+
+  private RequestTimings() {}
+
+  /**
+   * Opens a context on the current thread, replacing any context left open on it.
+   *
+   * @return the new context.
+   */
+  public static RequestTimings begin() {
+    RequestTimings timings = new RequestTimings();
+    CURRENT.set(timings);
+    return timings;
+  }
+
+  /** Closes the context of the current thread, if any. */
+  public static void end() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Returns the context of the current thread.
+   *
+   * @return the open context, or null if none is open.
+   */
+  public static RequestTimings current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Adds the time since a start reading to a stage of the current thread's context, if one is open.
+   *
+   * @param stage the stage that ran.
+   * @param startNanos the System.nanoTime reading taken when the stage started.
+   */
+  public static void recordSince(Stage stage, long startNanos) {
+    RequestTimings timings = CURRENT.get();
+    if (timings != null) {
+      timings.add(stage, System.nanoTime() - startNanos);
+    }
+  }
+
+  /**
+   * Ends the binding stage of the current thread's context, which runs from the opening of the
+   * context until this first call. Later calls have no effect.
+   */
+  public static void bindingEnded() {
+    RequestTimings timings = CURRENT.get();
+    if (timings != null && !timings.recorded[Stage.BINDING.ordinal()]) {
+      timings.add(Stage.BINDING, System.nanoTime() - timings.started);
+    }
+  }
+
+  /**
+   * Adds a duration to a stage; a stage running several times accumulates.
+   *
+   * @param stage the stage that ran.
+   * @param durationNanos how long it ran, in nanoseconds.
+   */
+  public void add(Stage stage, long durationNanos) {
+    nanos[stage.ordinal()] += durationNanos;
+    recorded[stage.ordinal()] = true;
+  }
+
+  /**
+   * Returns the time accumulated by a stage.
+   *
+   * @param stage the stage.
+   * @return the accumulated duration in nanoseconds, 0 if the stage did not run.
+   */
+  public long nanos(Stage stage) {
+    return nanos[stage.ordinal()];
+  }
+
+  /**
+   * Formats the stages that ran as a Server-Timing header value, e.g. {@code
+   * parse;dur=0.052;desc="Parse", compute;dur=1.375;desc="Compute"}, with durations in
+   * milliseconds.
+   *
+   * @return the header value, or an empty string if no stage ran.
+   */
+  public String toServerTiming() {
+    StringBuilder header = new StringBuilder(160);
+    for (Stage stage : STAGES) {
+      if (!recorded[stage.ordinal()]) {
+        continue;
+      }
+      if (!header.isEmpty()) {
+        header.append(", ");
+      }
+      header
+          .append(stage.getMetricName())
+          .append(";dur=")
+          .append(String.format(Locale.ROOT, "%.3f", nanos[stage.ordinal()] / 1_000_000.0))
+          .append(";desc=\"")
+          .append(stage.getDescription())
+          .append('"');
+    }
+    return header.toString();
+  }
+}
@@ -0,0 +1,129 @@
+package com.trbaxter.github.fractionalcomputationapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoFormattingService;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BaseFormattingServiceTest {
+
+  private TestFormattingService formattingService;
+
+  @BeforeEach
+  public void setUp() {
+    formattingService = new TestFormattingService();
+  }
+
+  @Test
+  void testFormatTerms_AllTermsSkipped() {
+    List<Term> terms =
+        List.of(
+            new Term(BigDecimal.valueOf(1), BigDecimal.ONE),
+            new Term(BigDecimal.valueOf(2), BigDecimal.TEN));
+
+    String result = formattingService.formatTerms(terms, 2);
+    assertEquals(
+        "0", result, "The result should be zero polynomial result when all terms are skipped");
+  }
+
+  @Test
+  void testFormatTerms_AllZeroCoefficients() {
+    List<Term> terms =
+        List.of(
+            new Term(BigDecimal.ZERO, BigDecimal.ONE), new Term(BigDecimal.ZERO, BigDecimal.TEN));
+
+    String result = formattingService.formatTerms(terms, 2);
+    assertEquals(
+        "0", result, "The result should be zero polynomial result for all zero coefficients");
+  }
+
+  @Test
+  void testAppendTerm_CoefficientZero() {
+    StringBuilder result = new StringBuilder();
+    Term term = new Term(BigDecimal.ZERO, BigDecimal.ONE);
+    int precision = 2;
+
+    // Inner class to access the protected method
+    class AccessibleFormattingService extends TestFormattingService {
+      public void callAppendTerm(StringBuilder result, Term term, int precision) {
+        appendTerm(result, term, precision);
+      }
+    }
+
+    AccessibleFormattingService accessibleService = new AccessibleFormattingService();
+    accessibleService.callAppendTerm(result, term, precision);
+
+    assertEquals("", result.toString(), "The result should be empty when coefficient is zero");
+  }
+
+  @Test
+  void testRenderTermsMatchesFormatTerms() {
+    CaputoFormattingService caputoFormattingService = new CaputoFormattingService();
+    List<Term> terms =
+        List.of(
+            new Term(new BigDecimal("-5.7812"), new BigDecimal("1.64276")),
+            new Term(BigDecimal.ONE.negate(), BigDecimal.ONE),
+            new Term(new BigDecimal("2.0004"), BigDecimal.ZERO),
+            new Term(new BigDecimal("0.0001"), BigDecimal.TEN),
+            new Term(new BigDecimal("3"), new BigDecimal("-0.5")));
+
+    List<FormattedTerm> structuredTerms = caputoFormattingService.structureTerms(terms, 3);
+
+    assertEquals(3, structuredTerms.size());
+    assertEquals("-5.781", structuredTerms.getFirst().coefficient());
+    assertEquals(-5.781, structuredTerms.getFirst().value());
+    assertEquals(new BigDecimal("1.64276"), structuredTerms.getFirst().power());
+    assertEquals(
+        caputoFormattingService.formatTerms(terms, 3),
+        caputoFormattingService.renderTerms(structuredTerms));
+  }
+
+  @Test
+  void testRenderTermsKeepsPowersADoubleCannotHold() {
+    CaputoFormattingService caputoFormattingService = new CaputoFormattingService();
+    List<Term> terms =
+        List.of(
+            new Term(BigDecimal.TEN, new BigDecimal("1.00000000000000000001")),
+            new Term(BigDecimal.ONE, new BigDecimal("20.500")));
+
+    List<FormattedTerm> structuredTerms = caputoFormattingService.structureTerms(terms, 2);
+
+    assertEquals(new BigDecimal("1.00000000000000000001"), structuredTerms.getFirst().power());
+    assertEquals(new BigDecimal("20.5"), structuredTerms.getLast().power());
+    assertEquals(
+        "10x^1.00000000000000000001 + x^20.5", caputoFormattingService.formatTerms(terms, 2));
+    assertEquals(
+        caputoFormattingService.formatTerms(terms, 2),
+        caputoFormattingService.renderTerms(structuredTerms));
+  }
+
+  @Test
+  void testWriteTermsMatchesFormatTerms() throws IOException {
+    CaputoFormattingService caputoFormattingService = new CaputoFormattingService();
+    List<Term> terms = new ArrayList<>();
+    for (int i = 3000; i >= 0; i--) {
+      BigDecimal coefficient = BigDecimal.valueOf(i % 7 - 3).multiply(new BigDecimal("1.2345"));
+      terms.add(new Term(coefficient, BigDecimal.valueOf(i)));
+    }
+
+    StringWriter writer = new StringWriter();
+    caputoFormattingService.writeTerms(terms, 3, writer);
+
+    assertEquals(caputoFormattingService.formatTerms(terms, 3), writer.toString());
+  }
+
+  @Test
+  void testWriteTermsZeroPolynomial() throws IOException {
+    StringWriter writer = new StringWriter();
+    formattingService.writeTerms(List.of(new Term(BigDecimal.ONE, BigDecimal.ONE)), 2, writer);
+    assertEquals("0", writer.toString());
+  }
+}
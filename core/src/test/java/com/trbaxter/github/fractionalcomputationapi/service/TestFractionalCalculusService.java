@@ -0,0 +1,24 @@
+package com.trbaxter.github.fractionalcomputationapi.service;
+
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import java.util.List;
+
+public class TestFractionalCalculusService implements FractionalCalculusService {
+
+  @Override // Dummy method for test purposes
+  public String evaluateExpression(String polynomialExpression, double alpha, Integer precision) {
+    return null;
+  }
+
+  @Override // Dummy method for test purposes
+  public List<FormattedTerm> evaluateTerms(
+      String polynomialExpression, double alpha, Integer precision) {
+    return List.of();
+  }
+
+  @Override // Dummy method for test purposes
+  public ExpressionWriter streamExpression(
+      String polynomialExpression, double alpha, Integer precision) {
+    return writer -> {};
+  }
+}
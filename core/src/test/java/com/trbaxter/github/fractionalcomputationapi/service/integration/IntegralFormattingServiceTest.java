@@ -0,0 +1,120 @@
+package com.trbaxter.github.fractionalcomputationapi.service.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IntegralFormattingServiceTest {
+
+  @Test
+  void testGetZeroPolynomialResult() {
+    IntegralFormattingService service = new IntegralFormattingService();
+    String result = service.getZeroPolynomialResult();
+    assertEquals("C", result, "The zero polynomial result should be 'C'");
+  }
+
+  @Test
+  void testStructureTermsIncludesConstantsOfIntegration() {
+    IntegralFormattingService service = new IntegralFormattingService();
+    List<Term> terms = List.of(new Term(new BigDecimal("0.5"), new BigDecimal("2")));
+
+    List<FormattedTerm> structuredTerms = service.structureTerms(terms, 2.0, 3);
+
+    assertEquals(3, structuredTerms.size());
+    assertEquals(new FormattedTerm("1", 1, BigDecimal.ONE, "C₁"), structuredTerms.get(1));
+    assertEquals(new FormattedTerm("1", 1, BigDecimal.ZERO, "C₀"), structuredTerms.get(2));
+    assertEquals(
+        service.formatTerms(terms, 2.0, 3), service.renderTerms(structuredTerms));
+  }
+
+  @Test
+  void testStructureTermsFractionalOrder() {
+    IntegralFormattingService service = new IntegralFormattingService();
+    List<Term> terms = List.of(new Term(new BigDecimal("1.1283"), new BigDecimal("0.5")));
+
+    List<FormattedTerm> structuredTerms = service.structureTerms(terms, 0.5, 3);
+
+    assertEquals(new FormattedTerm("1", 1, BigDecimal.ZERO, "C"), structuredTerms.getLast());
+    assertEquals("1.128x^0.5 + C", service.renderTerms(structuredTerms));
+  }
+
+  @Test
+  void testWriteTermsMatchesFormatTerms() throws IOException {
+    IntegralFormattingService service = new IntegralFormattingService();
+    List<Term> terms = List.of(new Term(new BigDecimal("0.5"), new BigDecimal("2")));
+
+    for (double alpha : new double[] {0.5, 2.0}) {
+      StringWriter writer = new StringWriter();
+      service.writeTerms(terms, alpha, 3, writer);
+      assertEquals(service.formatTerms(terms, alpha, 3), writer.toString());
+    }
+  }
+
+  @Test
+  void testLargeIntegerOrderUsesSubscriptedLabels() {
+    IntegralFormattingService service = new IntegralFormattingService();
+    List<Term> terms = List.of(new Term(BigDecimal.ONE, new BigDecimal("12")));
+
+    String result = service.formatTerms(terms, 12.0, 3);
+
+    assertTrue(result.startsWith("x^12 + 0C₁₁x^11"), result);
+    assertTrue(result.endsWith(" + 0.008C₅x^5 + 0.042C₄x^4 + 0.167C₃x^3 + 0.500C₂x^2 + C₁x + C₀"));
+  }
+
+  @Test
+  void testConstantsAreReusedAcrossCalls() {
+    IntegralFormattingService service = new IntegralFormattingService();
+    List<Term> terms = List.of(new Term(new BigDecimal("0.5"), new BigDecimal("2")));
+
+    List<FormattedTerm> first = service.structureTerms(terms, 2.0, 3);
+    List<FormattedTerm> second = service.structureTerms(terms, 2.0, 3);
+
+    assertSame(first.get(1), second.get(1));
+    assertEquals("0.500x^2 + C₁x + C₀", service.formatTerms(terms, 2.0, 3));
+    service.formatTerms(terms, 0.5, 3);
+
+    IntegralFormattingService.CacheStats stats = service.cacheStats();
+    assertEquals(2, stats.hits());
+    assertEquals(1, stats.misses());
+    assertEquals(1, stats.entries());
+    assertEquals(service.cachedCharacters(), stats.characters());
+  }
+
+  @Test
+  void testConstantsOverTheEntryLimitAreNotCached() {
+    IntegralFormattingService service = new IntegralFormattingService();
+    List<Term> terms = List.of(new Term(BigDecimal.ONE, BigDecimal.ONE));
+
+    List<FormattedTerm> first = service.structureTerms(terms, 300.0, 1000);
+    List<FormattedTerm> second = service.structureTerms(terms, 300.0, 1000);
+
+    assertNotSame(first.get(1), second.get(1));
+    assertEquals(first, second);
+    assertEquals(0, service.cachedCharacters());
+  }
+
+  @Test
+  void testCacheEvictsLeastRecentlyUsedConstantsBeyondItsWeight() {
+    IntegralFormattingService service = new IntegralFormattingService();
+    List<Term> terms = List.of(new Term(BigDecimal.ONE, BigDecimal.ONE));
+
+    for (int precision = 1000; precision > 960; precision--) {
+      service.formatTerms(terms, 200.0, precision);
+      assertTrue(
+          service.cachedCharacters() <= IntegralFormattingService.MAX_CACHED_CHARACTERS,
+          "Cached characters: " + service.cachedCharacters());
+    }
+
+    assertTrue(service.cachedCharacters() > 0);
+    assertTrue(service.cacheStats().evictions() > 0);
+  }
+}
@@ -0,0 +1,49 @@
+package com.trbaxter.github.fractionalcomputationapi.service.notation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LatexFormattingServiceTest {
+
+  private LatexFormattingService formattingService;
+
+  @BeforeEach
+  public void setUp() {
+    formattingService = new LatexFormattingService();
+  }
+
+  @Test
+  void testFormatTerms() {
+    List<Term> terms =
+        List.of(
+            new Term(new BigDecimal("4.51351"), new BigDecimal("1.5")),
+            new Term(BigDecimal.ONE.negate(), BigDecimal.ONE),
+            new Term(new BigDecimal("0.5642"), new BigDecimal("-0.5")),
+            new Term(BigDecimal.ONE, BigDecimal.ZERO));
+
+    assertEquals(
+        "4.514x^{1.5} - x + 0.564x^{-0.5} + 1", formattingService.formatTerms(terms, 3));
+  }
+
+  @Test
+  void testRenderConstantsOfIntegration() {
+    List<FormattedTerm> terms =
+        List.of(
+            new FormattedTerm("0.500", 0.5, BigDecimal.TWO, null),
+            new FormattedTerm("1", 1, BigDecimal.ONE, "C₁"),
+            new FormattedTerm("1", 1, BigDecimal.ZERO, "C₀"));
+
+    assertEquals("0.500x^{2} + C_{1}x + C_{0}", formattingService.renderTerms(terms));
+  }
+
+  @Test
+  void testRenderZeroPolynomial() {
+    assertEquals("0", formattingService.renderTerms(List.of()));
+  }
+}
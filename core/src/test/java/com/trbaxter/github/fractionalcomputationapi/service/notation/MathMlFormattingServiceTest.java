@@ -0,0 +1,74 @@
+package com.trbaxter.github.fractionalcomputationapi.service.notation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MathMlFormattingServiceTest {
+
+  private static final String MATH_OPEN = "<math xmlns=\"http://www.w3.org/1998/Math/MathML\">";
+
+  private MathMlFormattingService formattingService;
+
+  @BeforeEach
+  public void setUp() {
+    formattingService = new MathMlFormattingService();
+  }
+
+  @Test
+  void testFormatTerms() {
+    List<Term> terms =
+        List.of(
+            new Term(new BigDecimal("-4.51351"), new BigDecimal("1.5")),
+            new Term(BigDecimal.ONE, BigDecimal.ONE),
+            new Term(new BigDecimal("0.5642"), new BigDecimal("-0.5")));
+
+    assertEquals(
+        MATH_OPEN
+            + "<mrow><mo>-</mo><mn>4.514</mn><msup><mi>x</mi><mn>1.5</mn></msup>"
+            + "<mo>+</mo><mi>x</mi>"
+            + "<mo>+</mo><mn>0.564</mn><msup><mi>x</mi><mrow><mo>-</mo><mn>0.5</mn></mrow></msup>"
+            + "</mrow></math>",
+        formattingService.formatTerms(terms, 3));
+  }
+
+  @Test
+  void testRenderConstantOfIntegration() {
+    List<FormattedTerm> terms =
+        List.of(
+            new FormattedTerm("1.128", 1.128, new BigDecimal("0.5"), null),
+            new FormattedTerm("1", 1, BigDecimal.ZERO, "C"));
+
+    assertEquals(
+        MATH_OPEN
+            + "<mrow><mn>1.128</mn><msup><mi>x</mi><mn>0.5</mn></msup><mo>+</mo><mi>C</mi>"
+            + "</mrow></math>",
+        formattingService.renderTerms(terms));
+  }
+
+  @Test
+  void testRenderSubscriptedConstants() {
+    List<FormattedTerm> terms =
+        List.of(
+            new FormattedTerm("0.500", 0.5, BigDecimal.TWO, null),
+            new FormattedTerm("1", 1, BigDecimal.ONE, "C₁"),
+            new FormattedTerm("1", 1, BigDecimal.ZERO, "C₀"));
+
+    assertEquals(
+        MATH_OPEN
+            + "<mrow><mn>0.500</mn><msup><mi>x</mi><mn>2</mn></msup><mo>+</mo>"
+            + "<msub><mi>C</mi><mn>1</mn></msub><mi>x</mi><mo>+</mo>"
+            + "<msub><mi>C</mi><mn>0</mn></msub></mrow></math>",
+        formattingService.renderTerms(terms));
+  }
+
+  @Test
+  void testRenderZeroPolynomial() {
+    assertEquals(MATH_OPEN + "<mn>0</mn></math>", formattingService.renderTerms(List.of()));
+  }
+}
@@ -5,8 +5,8 @@ import java.math.BigDecimal;
 import org.mockito.MockedStatic;
 
 /**
- * GammaTestData provides precomputed values for the gamma function to be used in unit tests. It
- * includes a method to set up mock values for the MathUtils class.
+ * GammaTestData provides precomputed values for the gamma function to be used in unit tests and
+ * benchmarks. It includes a method to set up mock values for the MathUtils class.
  */
 public final class GammaTestData {
   public static final String GAMMA_101 =
@@ -0,0 +1,65 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * CoefficientFormatterTest is a test class for the CoefficientFormatter utility class. It checks
+ * that rounded coefficients render the same way as their plain string form with all-zero fractions
+ * removed.
+ */
+class CoefficientFormatterTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "0.5, 3, 0.500",
+    "0.05, 3, 0.050",
+    "-0.0004, 3, 0",
+    "2.0004, 3, 2",
+    "-1.9996, 3, -2",
+    "1.128379, 3, 1.128",
+    "-4.51351, 3, -4.514",
+    "123456789.123456789, 2, 123456789.12",
+    "0.000000000000000000001, 21, 0.000000000000000000001",
+    "98765432109876543210.5, 1, 98765432109876543210.5",
+    "98765432109876543210.04, 1, 98765432109876543210",
+    "12345678901234567890.000000000000000000001, 21, 12345678901234567890.000000000000000000001",
+    "7, 0, 7"
+  })
+  void testAppend(String value, int precision, String expected) {
+    StringBuilder sb = new StringBuilder();
+    CoefficientFormatter.append(sb, CoefficientFormatter.round(new BigDecimal(value), precision));
+    assertEquals(expected, sb.toString());
+  }
+
+  @Test
+  void testAppendMagnitudeDropsSign() {
+    StringBuilder sb = new StringBuilder("x");
+    CoefficientFormatter.appendMagnitude(sb, CoefficientFormatter.round(new BigDecimal("-2.5"), 2));
+    assertEquals("x2.50", sb.toString());
+  }
+
+  @Test
+  void testIsUnit() {
+    assertTrue(CoefficientFormatter.isUnit(CoefficientFormatter.round(BigDecimal.ONE, 3)));
+    assertTrue(CoefficientFormatter.isUnit(CoefficientFormatter.round(new BigDecimal("-0.9999"), 3)));
+    assertFalse(CoefficientFormatter.isUnit(CoefficientFormatter.round(new BigDecimal("1.01"), 3)));
+  }
+
+  @Test
+  void testConstructorThrowsException() throws Exception {
+    Constructor<CoefficientFormatter> constructor =
+        CoefficientFormatter.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+
+    InvocationTargetException thrown =
+        assertThrows(InvocationTargetException.class, constructor::newInstance);
+    assertInstanceOf(UnsupportedOperationException.class, thrown.getCause());
+  }
+}
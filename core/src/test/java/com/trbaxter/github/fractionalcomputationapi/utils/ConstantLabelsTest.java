@@ -0,0 +1,33 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * ConstantLabelsTest is a test class for the ConstantLabels utility class. It checks the labels
+ * given to constants of integration and the subscripts recovered from them.
+ */
+class ConstantLabelsTest {
+
+  @ParameterizedTest
+  @CsvSource({"0, 1, C, ''", "0, 2, C₀, 0", "1, 2, C₁, 1", "12, 13, C₁₂, 12", "107, 200, C₁₀₇, 107"})
+  void testLabelAndSubscript(int power, int count, String label, String subscript) {
+    assertEquals(label, ConstantLabels.label(power, count));
+    assertEquals(subscript, ConstantLabels.subscript(label));
+  }
+
+  @Test
+  void testConstructorThrowsException() throws Exception {
+    Constructor<ConstantLabels> constructor = ConstantLabels.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+
+    InvocationTargetException thrown =
+        assertThrows(InvocationTargetException.class, constructor::newInstance);
+    assertInstanceOf(UnsupportedOperationException.class, thrown.getCause());
+  }
+}
@@ -0,0 +1,97 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoComputationService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegralComputationService;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * DiagnosticTraceTest is a test class for DiagnosticTrace, and for the per-term tracing of the
+ * computation services that it gates.
+ */
+class DiagnosticTraceTest {
+
+  private static final List<Term> TERMS =
+      List.of(
+          new Term(BigDecimal.valueOf(3), BigDecimal.valueOf(2)),
+          new Term(BigDecimal.valueOf(2), BigDecimal.ONE));
+
+  private Logger logger;
+  private ListAppender<ILoggingEvent> listAppender;
+
+  @BeforeEach
+  void setUp() {
+    logger = (Logger) LoggerFactory.getLogger(DiagnosticTrace.LOGGER_NAME);
+    logger.setLevel(Level.DEBUG);
+    listAppender = new ListAppender<>();
+    listAppender.start();
+    logger.addAppender(listAppender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.detachAppender(listAppender);
+    logger.setLevel(null);
+    MDC.clear();
+  }
+
+  @Test
+  void givenNoOpenTrace_whenTermsComputed_thenNothingIsTraced() {
+    assertFalse(DiagnosticTrace.isActive());
+
+    new CaputoComputationService().computeTerms(TERMS, new BigDecimal("0.5"));
+    new IntegralComputationService().computeTerms(TERMS, new BigDecimal("0.5"));
+
+    assertTrue(listAppender.list.isEmpty());
+  }
+
+  @Test
+  void givenOpenTrace_whenTermsComputed_thenEachTermIsTracedWithTheTraceId() {
+    try (DiagnosticTrace.Scope ignored = DiagnosticTrace.begin("abc123")) {
+      assertTrue(DiagnosticTrace.isActive());
+      new CaputoComputationService().computeTerms(TERMS, new BigDecimal("0.5"));
+    }
+
+    assertEquals(4, listAppender.list.size());
+    for (ILoggingEvent event : listAppender.list) {
+      assertEquals(Level.DEBUG, event.getLevel());
+      assertEquals("abc123", event.getMDCPropertyMap().get(DiagnosticTrace.MDC_KEY));
+    }
+  }
+
+  @Test
+  void givenDisabledDiagnosticLogger_whenTraceOpen_thenTraceIsInactive() {
+    logger.setLevel(Level.INFO);
+
+    try (DiagnosticTrace.Scope ignored = DiagnosticTrace.begin("abc123")) {
+      assertFalse(DiagnosticTrace.isActive());
+    }
+  }
+
+  @Test
+  void givenNestedTraces_whenInnerScopeClosed_thenOuterTraceIsRestored() {
+    try (DiagnosticTrace.Scope outer = DiagnosticTrace.begin("outer")) {
+      try (DiagnosticTrace.Scope inner = DiagnosticTrace.begin("inner")) {
+        assertEquals("inner", MDC.get(DiagnosticTrace.MDC_KEY));
+      }
+      assertEquals("outer", MDC.get(DiagnosticTrace.MDC_KEY));
+    }
+
+    assertNull(MDC.get(DiagnosticTrace.MDC_KEY));
+  }
+}
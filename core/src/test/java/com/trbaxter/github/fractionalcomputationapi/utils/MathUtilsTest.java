@@ -32,6 +32,14 @@ class MathUtilsTest {
     assertGammaFunction(new BigDecimal("0.5"), expected, "half values");
   }
 
+  @Test
+  void testGammaEvaluationsCounted() {
+    long before = MathUtils.gammaEvaluations();
+    MathUtils.gamma(new BigDecimal("2.5"));
+    MathUtils.gamma(new BigDecimal("3"));
+    assertEquals(before + 2, MathUtils.gammaEvaluations());
+  }
+
   @Test
   void testGammaFunctionNegativeValues() {
     assertGammaFunction(
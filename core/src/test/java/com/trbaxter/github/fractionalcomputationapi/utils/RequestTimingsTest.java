@@ -0,0 +1,70 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trbaxter.github.fractionalcomputationapi.utils.RequestTimings.Stage;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** RequestTimingsTest is a test class for RequestTimings. */
+class RequestTimingsTest {
+
+  @AfterEach
+  void tearDown() {
+    RequestTimings.end();
+  }
+
+  @Test
+  void testNothingIsRecordedWithoutContext() {
+    RequestTimings.recordSince(Stage.PARSE, System.nanoTime());
+    RequestTimings.bindingEnded();
+    MathUtils.gamma(new BigDecimal("1.5"));
+
+    assertNull(RequestTimings.current());
+  }
+
+  @Test
+  void testStagesAccumulateAndFormatInHeaderOrder() {
+    RequestTimings timings = RequestTimings.begin();
+    timings.add(Stage.FORMAT, 250_000);
+    timings.add(Stage.PARSE, 1_500_000);
+    timings.add(Stage.PARSE, 500_000);
+
+    assertSame(timings, RequestTimings.current());
+    assertEquals(2_000_000, timings.nanos(Stage.PARSE));
+    assertEquals(
+        "parse;dur=2.000;desc=\"Parse\", format;dur=0.250;desc=\"Format\"",
+        timings.toServerTiming());
+  }
+
+  @Test
+  void testBindingEndsOnFirstCall() {
+    RequestTimings timings = RequestTimings.begin();
+
+    RequestTimings.bindingEnded();
+    long binding = timings.nanos(Stage.BINDING);
+    RequestTimings.bindingEnded();
+
+    assertEquals(binding, timings.nanos(Stage.BINDING));
+    assertTrue(timings.toServerTiming().startsWith("binding;dur="));
+  }
+
+  @Test
+  void testGammaTimeIsRecorded() {
+    RequestTimings timings = RequestTimings.begin();
+
+    MathUtils.gamma(new BigDecimal("2.5"));
+
+    assertTrue(timings.toServerTiming().contains("gamma;dur="));
+  }
+
+  @Test
+  void testEndClosesContext() {
+    RequestTimings.begin();
+    RequestTimings.end();
+
+    assertNull(RequestTimings.current());
+    assertEquals("", RequestTimings.begin().toServerTiming());
+  }
+}
@@ -1,9 +0,0 @@
-package com.trbaxter.github.fractionalcomputationapi.service;
-
-public class TestFractionalCalculusService implements FractionalCalculusService {
-
-  @Override // Dummy method for test purposes
-  public String evaluateExpression(String polynomialExpression, double alpha, Integer precision) {
-    return null;
-  }
-}
@@ -0,0 +1,42 @@
+package com.trbaxter.github.fractionalcomputationapi;
+
+import com.trbaxter.github.fractionalcomputationapi.service.batch.BatchProcessor;
+import com.trbaxter.github.fractionalcomputationapi.service.batch.BatchReport;
+import java.nio.file.Path;
+import java.util.List;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * BatchMain evaluates an NDJSON file of requests from the command line, without starting a web
+ * server, and prints the throughput of the run.<br>
+ * Each input line is a request such as {@code {"operator": "caputo", "polynomialExpression":
+ * "3x^2", "order": 0.5, "precision": 3}}, evaluated by the same services as IndexController. The
+ * {@code fractional-calculus.batch} properties may be passed as options, e.g. {@code
+ * --fractional-calculus.batch.threads=8}.
+ */
+public class BatchMain {
+
+  public static void main(String[] args) throws Exception {
+    List<String> files = new DefaultApplicationArguments(args).getNonOptionArgs();
+    if (files.size() != 2) {
+      System.err.println("Usage: BatchMain <input.ndjson> <output.ndjson> [--property=value ...]");
+      System.exit(2);
+    }
+
+    ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(Main.class)
+            .web(WebApplicationType.NONE)
+            .properties("fractional-calculus.warm-up.enabled=false")
+            .run(args);
+
+    BatchReport report =
+        context.getBean(BatchProcessor.class).process(Path.of(files.get(0)), Path.of(files.get(1)));
+    System.out.println(report);
+
+    System.exit(SpringApplication.exit(context));
+  }
+}
@@ -2,8 +2,10 @@ package com.trbaxter.github.fractionalcomputationapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class Main {
   public static void main(String[] args) {
     SpringApplication.run(Main.class, args);
@@ -0,0 +1,148 @@
+package com.trbaxter.github.fractionalcomputationapi.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.IntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * CdsTrainingRun is the training run of the {@code fast-startup} build profile. When {@code
+ * fractional-calculus.cds-training.enabled} is set, it sends representative requests to every
+ * endpoint in every result format once the application is ready, then shuts the application down.
+ * Run under {@code -XX:ArchiveClassesAtExit}, the class-data-sharing archive then covers the
+ * classes used to serve requests, not only those loaded during startup.<br>
+ * The property is read at runtime rather than used as a bean condition, because Spring AOT fixes
+ * bean conditions at build time.
+ */
+@Component
+public class CdsTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+  private static final Logger logger = LoggerFactory.getLogger(CdsTrainingRun.class);
+
+  private static final String BASE_PATH = "/fractional-calculus-computation-api/";
+
+  private static final List<String> OPERATIONS =
+      List.of("derivative/caputo", "derivative/riemann-liouville", "integral");
+
+  private static final List<String> ACCEPT_HEADERS =
+      List.of(
+          "application/json",
+          "application/vnd.fractional-calculus.terms+json",
+          "application/x-latex",
+          "application/mathml+xml",
+          "application/x-protobuf");
+
+  /** A fractional and an integer order, which take different computation paths. */
+  private static final List<String> ORDERS = List.of("0.5", "2");
+
+  private static final String EXPRESSION = "3x^3 - 2.5x^2 + x - 12";
+
+  private final boolean enabled;
+  private final int iterations;
+  private final IntConsumer exit;
+
+  @Autowired
+  public CdsTrainingRun(
+      @Value("${fractional-calculus.cds-training.enabled:false}") boolean enabled,
+      @Value("${fractional-calculus.cds-training.iterations:20}") int iterations) {
+    this(enabled, iterations, System::exit);
+  }
+
+  CdsTrainingRun(boolean enabled, int iterations, IntConsumer exit) {
+    this.enabled = enabled;
+    this.iterations = iterations;
+    this.exit = exit;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    if (!enabled
+        || !(event.getApplicationContext() instanceof WebServerApplicationContext context)) {
+      return;
+    }
+
+    URI baseUri =
+        URI.create("http://localhost:" + context.getWebServer().getPort() + BASE_PATH);
+    int failures = train(baseUri);
+    logger.info("CDS training run finished with {} failed requests", failures);
+
+    exit.accept(SpringApplication.exit(context, () -> failures == 0 ? 0 : 1));
+  }
+
+  /**
+   * Sends the training requests.
+   *
+   * @param baseUri the base URI of the API.
+   * @return the number of requests that failed or were not answered with a 2xx status.
+   */
+  int train(URI baseUri) {
+    int failures = 0;
+    try (HttpClient client = HttpClient.newHttpClient()) {
+      for (int i = 0; i < iterations; i++) {
+        for (String operation : OPERATIONS) {
+          for (String order : ORDERS) {
+            for (String accept : ACCEPT_HEADERS) {
+              failures += send(client, post(baseUri.resolve(operation), accept, order));
+            }
+            URI streamUri = baseUri.resolve(operation + "?stream=true");
+            failures += send(client, post(streamUri, "*/*", order));
+            failures += send(client, get(baseUri.resolve(operation + query(order, i))));
+          }
+        }
+      }
+    }
+    return failures;
+  }
+
+  private static HttpRequest post(URI uri, String accept, String order) {
+    String body =
+        "{\"polynomialExpression\": \"%s\", \"order\": %s, \"precision\": 5}"
+            .formatted(EXPRESSION, order);
+    return HttpRequest.newBuilder(uri)
+        .header("Content-Type", "application/json")
+        .header("Accept", accept)
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private static HttpRequest get(URI uri) {
+    return HttpRequest.newBuilder(uri).GET().build();
+  }
+
+  /** Varies the precision so GET requests are computed rather than coalesced or revalidated. */
+  private static String query(String order, int iteration) {
+    return "?polynomialExpression="
+        + URLEncoder.encode(EXPRESSION, StandardCharsets.UTF_8)
+        + "&order="
+        + order
+        + "&precision="
+        + (iteration % 10 + 1);
+  }
+
+  private static int send(HttpClient client, HttpRequest request) {
+    try {
+      int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      return status / 100 == 2 ? 0 : 1;
+    } catch (IOException e) {
+      logger.warn("Training request to {} failed: {}", request.uri(), e.getMessage());
+      return 1;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return 1;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.trbaxter.github.fractionalcomputationapi.config;
+
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoComputationService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannComputationService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegralComputationService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegralFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.LatexFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.MathMlFormattingService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CoreServicesConfig registers the computation and formatting classes of the core module as beans.
+ * The core module is free of Spring, so its classes carry no stereotype annotations and are wired
+ * here instead.
+ */
+@Configuration
+public class CoreServicesConfig {
+
+  @Bean
+  public CaputoComputationService caputoComputationService() {
+    return new CaputoComputationService();
+  }
+
+  @Bean
+  public CaputoFormattingService caputoFormattingService() {
+    return new CaputoFormattingService();
+  }
+
+  @Bean
+  public RiemannComputationService riemannComputationService() {
+    return new RiemannComputationService();
+  }
+
+  @Bean
+  public RiemannFormattingService riemannFormattingService() {
+    return new RiemannFormattingService();
+  }
+
+  @Bean
+  public IntegralComputationService integralComputationService() {
+    return new IntegralComputationService();
+  }
+
+  @Bean
+  public IntegralFormattingService integralFormattingService() {
+    return new IntegralFormattingService();
+  }
+
+  @Bean
+  public LatexFormattingService latexFormattingService() {
+    return new LatexFormattingService();
+  }
+
+  @Bean
+  public MathMlFormattingService mathMlFormattingService() {
+    return new MathMlFormattingService();
+  }
+}
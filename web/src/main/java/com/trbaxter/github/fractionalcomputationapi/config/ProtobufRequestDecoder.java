@@ -0,0 +1,43 @@
+package com.trbaxter.github.fractionalcomputationapi.config;
+
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.proto.ComputationRequest;
+import com.trbaxter.github.fractionalcomputationapi.utils.ProtobufMessages;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+import org.springframework.util.MimeType;
+
+/**
+ * ProtobufRequestDecoder decodes an application/x-protobuf ComputationRequest into the
+ * ControllerRequest the reactive controller binds. It is the WebFlux counterpart of
+ * ProtobufRequestHttpMessageConverter; the body is joined within the codecs' in-memory limit and
+ * parsed with the generated parser.
+ */
+public class ProtobufRequestDecoder extends AbstractDataBufferDecoder<ControllerRequest> {
+
+  public ProtobufRequestDecoder() {
+    super(ProtobufHttpMessageConverter.PROTOBUF);
+  }
+
+  @Override
+  public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+    return ControllerRequest.class == elementType.toClass()
+        && super.canDecode(elementType, mimeType);
+  }
+
+  @Override
+  public ControllerRequest decode(
+      DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) {
+    try (InputStream body = buffer.asInputStream(true)) {
+      return ProtobufMessages.toControllerRequest(ComputationRequest.parseFrom(body));
+    } catch (IOException e) {
+      throw new DecodingException("Invalid protobuf request body: " + e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.trbaxter.github.fractionalcomputationapi.config;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.proto.ComputationRequest;
+import com.trbaxter.github.fractionalcomputationapi.utils.ProtobufMessages;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+
+/**
+ * ProtobufRequestHttpMessageConverter reads an application/x-protobuf ComputationRequest into the
+ * ControllerRequest the controllers bind, using the generated parser. It only reads; protobuf
+ * results are written by Spring's ProtobufHttpMessageConverter. ProtobufRequestDecoder is its
+ * WebFlux counterpart.
+ */
+public class ProtobufRequestHttpMessageConverter
+    extends AbstractHttpMessageConverter<ControllerRequest> {
+
+  public ProtobufRequestHttpMessageConverter() {
+    super(ProtobufHttpMessageConverter.PROTOBUF);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return ControllerRequest.class == clazz;
+  }
+
+  @Override
+  protected boolean canWrite(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected ControllerRequest readInternal(
+      Class<? extends ControllerRequest> clazz, HttpInputMessage inputMessage) throws IOException {
+    try {
+      return ProtobufMessages.toControllerRequest(
+          ComputationRequest.parseFrom(inputMessage.getBody()));
+    } catch (InvalidProtocolBufferException e) {
+      throw new HttpMessageNotReadableException(
+          "Invalid protobuf request body: " + e.getMessage(), e, inputMessage);
+    }
+  }
+
+  /**
+   * Required by AbstractHttpMessageConverter, whose media type and charset handling the read side
+   * relies on, but never called: canWrite is false for every media type, so Spring does not select
+   * this converter to write a response.
+   */
+  @Override
+  protected void writeInternal(ControllerRequest request, HttpOutputMessage outputMessage) {
+    throw new HttpMessageNotWritableException("ControllerRequest is read-only");
+  }
+}
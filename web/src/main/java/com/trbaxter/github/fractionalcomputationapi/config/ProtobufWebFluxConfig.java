@@ -0,0 +1,21 @@
+package com.trbaxter.github.fractionalcomputationapi.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * ProtobufWebFluxConfig reads application/x-protobuf ComputationRequest messages on the reactive
+ * stack, as ProtobufWebMvcConfig does on the servlet stack. Results are written by the protobuf
+ * encoder WebFlux registers by default.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ProtobufWebFluxConfig implements WebFluxConfigurer {
+
+  @Override
+  public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+    configurer.customCodecs().registerWithDefaultConfig(new ProtobufRequestDecoder());
+  }
+}
@@ -0,0 +1,23 @@
+package com.trbaxter.github.fractionalcomputationapi.config;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * ProtobufWebMvcConfig adds application/x-protobuf alongside JSON on the servlet stack: requests
+ * are read as ComputationRequest messages and results written as generated protobuf messages.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProtobufWebMvcConfig implements WebMvcConfigurer {
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new ProtobufRequestHttpMessageConverter());
+    converters.add(new ProtobufHttpMessageConverter());
+  }
+}
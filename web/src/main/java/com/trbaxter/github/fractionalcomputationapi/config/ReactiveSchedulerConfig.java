@@ -0,0 +1,34 @@
+package com.trbaxter.github.fractionalcomputationapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * ReactiveSchedulerConfig provides the schedulers used by the reactive controller when the
+ * application runs on WebFlux (Netty).<br>
+ * Computations run on a bounded parallel scheduler so CPU-heavy work never occupies the event loop.
+ * Streamed responses are written from a bounded elastic scheduler, because a writer waiting on a
+ * slow client blocks until the client requests more data.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSchedulerConfig {
+
+  @Bean(destroyMethod = "dispose")
+  public Scheduler computationScheduler(
+      @Value("${fractional-calculus.reactive.computation-parallelism:0}") int parallelism) {
+    int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    return Schedulers.newParallel("computation", threads);
+  }
+
+  @Bean(destroyMethod = "dispose")
+  public Scheduler streamScheduler(
+      @Value("${fractional-calculus.reactive.stream-threads:64}") int threads,
+      @Value("${fractional-calculus.reactive.stream-queue:1000}") int queuedTasks) {
+    return Schedulers.newBoundedElastic(threads, queuedTasks, "stream");
+  }
+}
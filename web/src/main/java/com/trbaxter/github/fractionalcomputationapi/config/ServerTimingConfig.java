@@ -0,0 +1,59 @@
+package com.trbaxter.github.fractionalcomputationapi.config;
+
+import com.trbaxter.github.fractionalcomputationapi.controller.IndexController;
+import com.trbaxter.github.fractionalcomputationapi.utils.RequestTimings;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * ServerTimingConfig opens a RequestTimings context for each request handled by IndexController,
+ * which reports it in a Server-Timing response header. The context is opened before the request
+ * body is bound and validated, so the binding stage runs until the handler starts, and is closed
+ * when the request completes or is handed to an asynchronous stream. Disabled with {@code
+ * fractional-calculus.server-timing.enabled=false}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(
+    name = "fractional-calculus.server-timing.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new ServerTimingInterceptor());
+  }
+
+  static class ServerTimingInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(
+        HttpServletRequest request, HttpServletResponse response, Object handler) {
+      if (handler instanceof HandlerMethod method
+          && IndexController.class.isAssignableFrom(method.getBeanType())) {
+        RequestTimings.begin();
+      }
+      return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(
+        HttpServletRequest request, HttpServletResponse response, Object handler) {
+      RequestTimings.end();
+    }
+
+    @Override
+    public void afterCompletion(
+        HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+      RequestTimings.end();
+    }
+  }
+}
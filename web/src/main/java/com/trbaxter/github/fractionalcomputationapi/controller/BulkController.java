@@ -0,0 +1,56 @@
+package com.trbaxter.github.fractionalcomputationapi.controller;
+
+import com.trbaxter.github.fractionalcomputationapi.service.admission.CostEstimator;
+import com.trbaxter.github.fractionalcomputationapi.service.bulk.BulkStreamService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * BulkController evaluates many requests in one exchange. The request body is NDJSON, one request
+ * per line with an {@code operator} of caputo, riemann-liouville or integral, and the response is
+ * NDJSON with one result per request, streamed in request order as the results complete.<br>
+ * The body is read only as fast as results are written back, so the connection itself applies
+ * backpressure in both directions. Each record is charged to the client's rate limit separately,
+ * and a refused record is answered with an error line rather than failing the whole response.
+ * The 200 status is committed before the first record is read, so a body that fails to read, or
+ * an evaluation that breaks down, ends the response with a final error line.
+ */
+@RestController
+@RequestMapping("fractional-calculus-computation-api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BulkController {
+
+  static final String NDJSON = "application/x-ndjson";
+
+  private final BulkStreamService bulkStreamService;
+  private final ClientRateLimiter clientRateLimiter;
+
+  @Autowired
+  public BulkController(BulkStreamService bulkStreamService, ClientRateLimiter clientRateLimiter) {
+    this.bulkStreamService = bulkStreamService;
+    this.clientRateLimiter = clientRateLimiter;
+  }
+
+  @PostMapping(value = "bulk", consumes = NDJSON, produces = NDJSON)
+  public void evaluateBulk(HttpServletRequest httpRequest, HttpServletResponse httpResponse)
+      throws IOException {
+    String clientId =
+        clientRateLimiter.clientId(
+            httpRequest.getHeader(clientRateLimiter.getClientHeader()),
+            httpRequest.getRemoteAddr());
+
+    httpResponse.setStatus(HttpServletResponse.SC_OK);
+    httpResponse.setContentType(NDJSON);
+    bulkStreamService.process(
+        httpRequest.getInputStream(),
+        httpResponse.getOutputStream(),
+        request -> clientRateLimiter.acquire(clientId, CostEstimator.estimate(request)));
+  }
+}
@@ -0,0 +1,54 @@
+package com.trbaxter.github.fractionalcomputationapi.controller;
+
+import java.time.Duration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * CacheableResponses adds HTTP caching headers to the results of the GET endpoints. A result is
+ * fully determined by its request, so a successful response may be cached indefinitely under its
+ * entity tag; it varies only by the Accept header that selected its format.
+ */
+final class CacheableResponses {
+
+  static final CacheControl IMMUTABLE =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+  /** Private constructor to prevent instantiation. */
+  private CacheableResponses() {
+    throw new UnsupportedOperationException("Utility class for cacheable responses");
+  }
+
+  /**
+   * Marks a successful response as immutable under the given entity tag. Only its Content-Type is
+   * kept: headers describing this one request, such as Server-Timing, must not be cached with it.
+   * Error responses are returned unchanged so they are never cached.
+   */
+  static <T> ResponseEntity<T> cacheable(ResponseEntity<T> response, String etag) {
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      return response;
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    if (response.getHeaders().getContentType() != null) {
+      headers.setContentType(response.getHeaders().getContentType());
+    }
+    return ResponseEntity.status(response.getStatusCode())
+        .headers(headers)
+        .eTag(etag)
+        .cacheControl(IMMUTABLE)
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(response.getBody());
+  }
+
+  /** Builds the 304 returned when the client already holds the representation tagged etag. */
+  static <T> ResponseEntity<T> notModified(String etag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+        .eTag(etag)
+        .cacheControl(IMMUTABLE)
+        .varyBy(HttpHeaders.ACCEPT)
+        .build();
+  }
+}
@@ -0,0 +1,288 @@
+package com.trbaxter.github.fractionalcomputationapi.controller;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import com.trbaxter.github.fractionalcomputationapi.model.ComputationKey;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.Result;
+import com.trbaxter.github.fractionalcomputationapi.model.ResultFormat;
+import com.trbaxter.github.fractionalcomputationapi.model.TermsResult;
+import com.trbaxter.github.fractionalcomputationapi.service.ExpressionWriter;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import com.trbaxter.github.fractionalcomputationapi.service.RequestCoalescer;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.CostEstimator;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegrationService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.LatexFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.MathMlFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import com.trbaxter.github.fractionalcomputationapi.utils.JsonStringWriter;
+import com.trbaxter.github.fractionalcomputationapi.utils.ProtobufMessages;
+import com.trbaxter.github.fractionalcomputationapi.utils.RequestTimings;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * IndexController is a REST controller that handles requests for computing fractional calculus
+ * operations including the Caputo & Riemann-Liouville derivatives and integration.<br>
+ * The Accept header selects the result format: the plain JSON expression (default), a structured
+ * term array, LaTeX, MathML or a protobuf TermsResult. Request bodies may be JSON or an
+ * application/x-protobuf ComputationRequest. With {@code ?stream=true} the plain expression is
+ * streamed to the response body instead of being built in memory. Each operation is also available
+ * as a cacheable GET taking the request fields as query parameters. ReactiveIndexController serves
+ * the same routes when the application runs on WebFlux.<br>
+ * Unless disabled (see ServerTimingConfig), successful responses carry a Server-Timing header
+ * with the time spent binding and validating the request, parsing, computing, in the gamma
+ * function and formatting. A streamed response reports the stages before its body is written.
+ */
+@RestController
+@RequestMapping("fractional-calculus-computation-api/")
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class IndexController {
+
+  private static final Logger logger = LoggerFactory.getLogger(IndexController.class);
+  private static final String SERVER_TIMING = "Server-Timing";
+
+  private final CaputoService caputoService;
+  private final IntegrationService integrationService;
+  private final RiemannService riemannService;
+  private final LatexFormattingService latexFormattingService;
+  private final MathMlFormattingService mathMlFormattingService;
+  private final RequestCoalescer requestCoalescer;
+  private final ClientRateLimiter clientRateLimiter;
+
+  @Autowired
+  public IndexController(CaputoService caputoService,
+                         RiemannService riemannService,
+                         IntegrationService integrationService,
+                         LatexFormattingService latexFormattingService,
+                         MathMlFormattingService mathMlFormattingService,
+                         RequestCoalescer requestCoalescer,
+                         ClientRateLimiter clientRateLimiter) {
+    this.caputoService = caputoService;
+    this.riemannService = riemannService;
+    this.integrationService = integrationService;
+    this.latexFormattingService = latexFormattingService;
+    this.mathMlFormattingService = mathMlFormattingService;
+    this.requestCoalescer = requestCoalescer;
+    this.clientRateLimiter = clientRateLimiter;
+  }
+
+  @PostMapping("derivative/caputo")
+  public ResponseEntity<?> computeCaputoDerivative(
+      @Valid @RequestBody ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      HttpServletRequest httpRequest) {
+    checkRateLimit(request, httpRequest);
+    return processRequest(
+        ComputationKey.of("caputo", request), request, caputoService,
+        ResultFormat.fromAcceptHeader(accept));
+  }
+
+  @PostMapping("derivative/riemann-liouville")
+  public ResponseEntity<?> computeRiemannLiouvilleDerivative(
+      @Valid @RequestBody ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      HttpServletRequest httpRequest) {
+    checkRateLimit(request, httpRequest);
+    return processRequest(
+        ComputationKey.of("riemann-liouville", request), request, riemannService,
+        ResultFormat.fromAcceptHeader(accept));
+  }
+
+  @PostMapping("integral")
+  public ResponseEntity<?> computeCaputoIntegral(
+      @Valid @RequestBody ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      HttpServletRequest httpRequest) {
+    checkRateLimit(request, httpRequest);
+    return processRequest(
+        ComputationKey.of("integral", request), request, integrationService,
+        ResultFormat.fromAcceptHeader(accept));
+  }
+
+  @PostMapping(value = "derivative/caputo", params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> streamCaputoDerivative(
+      @Valid @RequestBody ControllerRequest request, HttpServletRequest httpRequest) {
+    checkRateLimit(request, httpRequest);
+    return streamExpression(caputoService, request);
+  }
+
+  @PostMapping(value = "derivative/riemann-liouville", params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> streamRiemannLiouvilleDerivative(
+      @Valid @RequestBody ControllerRequest request, HttpServletRequest httpRequest) {
+    checkRateLimit(request, httpRequest);
+    return streamExpression(riemannService, request);
+  }
+
+  @PostMapping(value = "integral", params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> streamCaputoIntegral(
+      @Valid @RequestBody ControllerRequest request, HttpServletRequest httpRequest) {
+    checkRateLimit(request, httpRequest);
+    return streamExpression(integrationService, request);
+  }
+
+  @GetMapping("derivative/caputo")
+  public ResponseEntity<?> getCaputoDerivative(
+      @Valid ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      WebRequest webRequest,
+      HttpServletRequest httpRequest) {
+    return processCacheableRequest(
+        "caputo", request, caputoService, ResultFormat.fromAcceptHeader(accept), webRequest,
+        httpRequest);
+  }
+
+  @GetMapping("derivative/riemann-liouville")
+  public ResponseEntity<?> getRiemannLiouvilleDerivative(
+      @Valid ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      WebRequest webRequest,
+      HttpServletRequest httpRequest) {
+    return processCacheableRequest(
+        "riemann-liouville", request, riemannService, ResultFormat.fromAcceptHeader(accept),
+        webRequest, httpRequest);
+  }
+
+  @GetMapping("integral")
+  public ResponseEntity<?> getCaputoIntegral(
+      @Valid ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      WebRequest webRequest,
+      HttpServletRequest httpRequest) {
+    return processCacheableRequest(
+        "integral", request, integrationService, ResultFormat.fromAcceptHeader(accept), webRequest,
+        httpRequest);
+  }
+
+  /**
+   * Serves a GET request under a strong ETag derived from its canonical input. A matching
+   * If-None-Match is answered with 304 before anything is parsed or computed, and is not charged
+   * against the client's rate limit.
+   */
+  private <T> ResponseEntity<?> processCacheableRequest(
+      String operation, ControllerRequest request, T service, ResultFormat format,
+      WebRequest webRequest, HttpServletRequest httpRequest) {
+    RequestTimings.bindingEnded();
+    ComputationKey key = ComputationKey.of(operation, request);
+    String etag = key.etag(format);
+    if (webRequest.checkNotModified(etag)) {
+      return CacheableResponses.notModified(etag);
+    }
+    checkRateLimit(request, httpRequest);
+    return CacheableResponses.cacheable(processRequest(key, request, service, format), etag);
+  }
+
+  /**
+   * Charges the estimated cost of a request to its client, identified by the configured client
+   * header or else the remote address. Coalesced requests are charged too, as each one is demand
+   * from its client.
+   */
+  private void checkRateLimit(ControllerRequest request, HttpServletRequest httpRequest) {
+    RequestTimings.bindingEnded();
+    String clientId = clientRateLimiter.clientId(
+        httpRequest.getHeader(clientRateLimiter.getClientHeader()), httpRequest.getRemoteAddr());
+    clientRateLimiter.acquire(clientId, CostEstimator.estimate(request));
+  }
+
+  /**
+   * Identical requests arriving while one is being computed share its result through the
+   * RequestCoalescer rather than computing it again.
+   */
+  private <T> ResponseEntity<?> processRequest(
+      ComputationKey key, ControllerRequest request, T service, ResultFormat format) {
+    try {
+      Object body = requestCoalescer.execute(
+          key.etag(format), () -> renderResult(request, service, format));
+      return respond(format, body);
+    } catch (BadRequestException | ServiceUnavailableException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.error("Unhandled exception: ", e);
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(new Result("Internal Server Error"));
+    }
+  }
+
+  private <T> Object renderResult(ControllerRequest request, T service, ResultFormat format) {
+    return switch (format) {
+      case PLAIN -> new Result(evaluateExpression(
+          service, request.getPolynomialExpression(), request.getOrder(), request.getPrecision()));
+      case TERMS -> new TermsResult(evaluateTerms(service, request));
+      case LATEX -> latexFormattingService.renderTerms(evaluateTerms(service, request));
+      case MATHML -> mathMlFormattingService.renderTerms(evaluateTerms(service, request));
+      case PROTOBUF -> ProtobufMessages.toTermsResult(evaluateTerms(service, request));
+    };
+  }
+
+  private static ResponseEntity<Object> respond(ResultFormat format, Object body) {
+    return withServerTiming(ResponseEntity.ok()).contentType(format.getMediaType()).body(body);
+  }
+
+  private static ResponseEntity.BodyBuilder withServerTiming(ResponseEntity.BodyBuilder response) {
+    RequestTimings timings = RequestTimings.current();
+    if (timings != null) {
+      response.header(SERVER_TIMING, timings.toServerTiming());
+    }
+    return response;
+  }
+
+  /**
+   * Streams the plain result as the JSON {@code {"expression": ...}} object. Parsing and computation
+   * happen up front, so errors are still reported through GlobalExceptionHandler; formatting is
+   * written to the response in chunks as UTF-8.
+   */
+  private <T> ResponseEntity<StreamingResponseBody> streamExpression(
+      T service, ControllerRequest request) {
+    ExpressionWriter expression = resolveService(service).streamExpression(
+        request.getPolynomialExpression(), request.getOrder(), request.getPrecision());
+
+    StreamingResponseBody body = outputStream -> {
+      Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+      writer.write("{\"expression\":\"");
+      expression.writeTo(new JsonStringWriter(writer));
+      writer.write("\"}");
+      writer.flush();
+    };
+
+    return withServerTiming(ResponseEntity.ok()).contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
+  private <T> String evaluateExpression(T service, String polynomialExpression, double order, Integer precision) {
+    return resolveService(service).evaluateExpression(polynomialExpression, order, precision);
+  }
+
+  private <T> List<FormattedTerm> evaluateTerms(T service, ControllerRequest request) {
+    return resolveService(service).evaluateTerms(
+        request.getPolynomialExpression(), request.getOrder(), request.getPrecision());
+  }
+
+  private <T> FractionalCalculusService resolveService(T service) {
+    return switch (service) {
+      case CaputoService derivativeService -> derivativeService;
+      case RiemannService liouvilleDerivativeService -> liouvilleDerivativeService;
+      case IntegrationService integrationSvc -> integrationSvc;
+      case null, default -> throw new IllegalArgumentException("Unknown service type");
+    };
+  }
+}
@@ -0,0 +1,110 @@
+package com.trbaxter.github.fractionalcomputationapi.controller;
+
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.JobStatus;
+import com.trbaxter.github.fractionalcomputationapi.model.JobView;
+import com.trbaxter.github.fractionalcomputationapi.model.Result;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.CostEstimator;
+import com.trbaxter.github.fractionalcomputationapi.service.job.JobService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * JobController exposes the asynchronous job API for computations too expensive to answer within
+ * one request. Submitting returns 202 with the job id at once; the job's status, result and an
+ * optional server-sent event stream of its stages are then served from the job resource.<br>
+ * Operations are named as in the synchronous routes: caputo, riemann-liouville and integral.
+ */
+@RestController
+@RequestMapping("fractional-calculus-computation-api/jobs")
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class JobController {
+
+  private static final String JOBS_PATH = "/fractional-calculus-computation-api/jobs/";
+
+  private final JobService jobService;
+  private final ClientRateLimiter clientRateLimiter;
+
+  @Autowired
+  public JobController(JobService jobService, ClientRateLimiter clientRateLimiter) {
+    this.jobService = jobService;
+    this.clientRateLimiter = clientRateLimiter;
+  }
+
+  @PostMapping("{operation}")
+  public ResponseEntity<JobView> submitJob(
+      @PathVariable String operation,
+      @Valid @RequestBody ControllerRequest request,
+      HttpServletRequest httpRequest) {
+    String clientId = clientRateLimiter.clientId(
+        httpRequest.getHeader(clientRateLimiter.getClientHeader()), httpRequest.getRemoteAddr());
+    clientRateLimiter.acquire(clientId, CostEstimator.estimate(request));
+
+    JobView job = jobService.submit(operation, request);
+    return ResponseEntity.accepted().location(URI.create(JOBS_PATH + job.id())).body(job);
+  }
+
+  @GetMapping("{id}")
+  public JobView getJob(@PathVariable String id) {
+    return jobService.status(id);
+  }
+
+  /**
+   * Returns the result of a succeeded job. A job still in progress is answered with 202 and a
+   * failed one with 409, both carrying the job itself so the client can see why.
+   */
+  @GetMapping("{id}/result")
+  public ResponseEntity<?> getJobResult(@PathVariable String id) {
+    Optional<String> result = jobService.result(id);
+    if (result.isPresent()) {
+      return ResponseEntity.ok()
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(new Result(result.get()));
+    }
+
+    JobView job = jobService.status(id);
+    if (job.status() == JobStatus.FAILED) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).body(job);
+    }
+    return ResponseEntity.accepted().header(HttpHeaders.RETRY_AFTER, "1").body(job);
+  }
+
+  /**
+   * Streams a {@code status} event with the job for its current stage and each later one, and
+   * completes once the job has finished.
+   */
+  @GetMapping(value = "{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamJobEvents(@PathVariable String id) {
+    SseEmitter emitter = new SseEmitter(jobService.getSseTimeout().toMillis());
+    Runnable unsubscribe = jobService.subscribe(id, job -> sendEvent(emitter, job));
+    emitter.onCompletion(unsubscribe);
+    emitter.onTimeout(unsubscribe);
+    emitter.onError(error -> unsubscribe.run());
+    return emitter;
+  }
+
+  private static void sendEvent(SseEmitter emitter, JobView job) {
+    try {
+      emitter.send(SseEmitter.event().name("status").data(job, MediaType.APPLICATION_JSON));
+      if (job.status().isTerminal()) {
+        emitter.complete();
+      }
+    } catch (IOException | IllegalStateException e) {
+      emitter.completeWithError(e);
+    }
+  }
+}
@@ -0,0 +1,304 @@
+package com.trbaxter.github.fractionalcomputationapi.controller;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import com.trbaxter.github.fractionalcomputationapi.model.ComputationKey;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.Result;
+import com.trbaxter.github.fractionalcomputationapi.model.ResultFormat;
+import com.trbaxter.github.fractionalcomputationapi.model.TermsResult;
+import com.trbaxter.github.fractionalcomputationapi.service.ExpressionWriter;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import com.trbaxter.github.fractionalcomputationapi.service.RequestCoalescer;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.CostEstimator;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegrationService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.LatexFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.MathMlFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import com.trbaxter.github.fractionalcomputationapi.utils.JsonStringWriter;
+import com.trbaxter.github.fractionalcomputationapi.utils.ProtobufMessages;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * ReactiveIndexController serves the IndexController routes when the application runs on WebFlux
+ * (the {@code reactive} profile). It delegates to the same services, runs each computation on the
+ * bounded computation scheduler instead of the Netty event loop, and streams large plain results
+ * with backpressure: formatting only proceeds as fast as the client reads.
+ */
+@RestController
+@RequestMapping("fractional-calculus-computation-api/")
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveIndexController {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReactiveIndexController.class);
+
+  private final CaputoService caputoService;
+  private final RiemannService riemannService;
+  private final IntegrationService integrationService;
+  private final LatexFormattingService latexFormattingService;
+  private final MathMlFormattingService mathMlFormattingService;
+  private final RequestCoalescer requestCoalescer;
+  private final ClientRateLimiter clientRateLimiter;
+  private final Scheduler computationScheduler;
+  private final Scheduler streamScheduler;
+
+  @Autowired
+  public ReactiveIndexController(
+      CaputoService caputoService,
+      RiemannService riemannService,
+      IntegrationService integrationService,
+      LatexFormattingService latexFormattingService,
+      MathMlFormattingService mathMlFormattingService,
+      RequestCoalescer requestCoalescer,
+      ClientRateLimiter clientRateLimiter,
+      @Qualifier("computationScheduler") Scheduler computationScheduler,
+      @Qualifier("streamScheduler") Scheduler streamScheduler) {
+    this.caputoService = caputoService;
+    this.riemannService = riemannService;
+    this.integrationService = integrationService;
+    this.latexFormattingService = latexFormattingService;
+    this.mathMlFormattingService = mathMlFormattingService;
+    this.requestCoalescer = requestCoalescer;
+    this.clientRateLimiter = clientRateLimiter;
+    this.computationScheduler = computationScheduler;
+    this.streamScheduler = streamScheduler;
+  }
+
+  @PostMapping("derivative/caputo")
+  public Mono<ResponseEntity<Object>> computeCaputoDerivative(
+      @Valid @RequestBody ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServerWebExchange exchange) {
+    checkRateLimit(request, exchange.getRequest());
+    return processRequest(
+        ComputationKey.of("caputo", request),
+        request,
+        caputoService,
+        ResultFormat.fromAcceptHeader(accept));
+  }
+
+  @PostMapping("derivative/riemann-liouville")
+  public Mono<ResponseEntity<Object>> computeRiemannLiouvilleDerivative(
+      @Valid @RequestBody ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServerWebExchange exchange) {
+    checkRateLimit(request, exchange.getRequest());
+    return processRequest(
+        ComputationKey.of("riemann-liouville", request),
+        request,
+        riemannService,
+        ResultFormat.fromAcceptHeader(accept));
+  }
+
+  @PostMapping("integral")
+  public Mono<ResponseEntity<Object>> computeCaputoIntegral(
+      @Valid @RequestBody ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServerWebExchange exchange) {
+    checkRateLimit(request, exchange.getRequest());
+    return processRequest(
+        ComputationKey.of("integral", request),
+        request,
+        integrationService,
+        ResultFormat.fromAcceptHeader(accept));
+  }
+
+  @PostMapping(value = "derivative/caputo", params = "stream=true")
+  public Mono<ResponseEntity<Publisher<DataBuffer>>> streamCaputoDerivative(
+      @Valid @RequestBody ControllerRequest request, ServerWebExchange exchange) {
+    checkRateLimit(request, exchange.getRequest());
+    return streamExpression(caputoService, request, exchange);
+  }
+
+  @PostMapping(value = "derivative/riemann-liouville", params = "stream=true")
+  public Mono<ResponseEntity<Publisher<DataBuffer>>> streamRiemannLiouvilleDerivative(
+      @Valid @RequestBody ControllerRequest request, ServerWebExchange exchange) {
+    checkRateLimit(request, exchange.getRequest());
+    return streamExpression(riemannService, request, exchange);
+  }
+
+  @PostMapping(value = "integral", params = "stream=true")
+  public Mono<ResponseEntity<Publisher<DataBuffer>>> streamCaputoIntegral(
+      @Valid @RequestBody ControllerRequest request, ServerWebExchange exchange) {
+    checkRateLimit(request, exchange.getRequest());
+    return streamExpression(integrationService, request, exchange);
+  }
+
+  @GetMapping("derivative/caputo")
+  public Mono<ResponseEntity<Object>> getCaputoDerivative(
+      @Valid ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServerWebExchange exchange) {
+    return processCacheableRequest(
+        "caputo", request, caputoService, ResultFormat.fromAcceptHeader(accept), exchange);
+  }
+
+  @GetMapping("derivative/riemann-liouville")
+  public Mono<ResponseEntity<Object>> getRiemannLiouvilleDerivative(
+      @Valid ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServerWebExchange exchange) {
+    return processCacheableRequest(
+        "riemann-liouville",
+        request,
+        riemannService,
+        ResultFormat.fromAcceptHeader(accept),
+        exchange);
+  }
+
+  @GetMapping("integral")
+  public Mono<ResponseEntity<Object>> getCaputoIntegral(
+      @Valid ControllerRequest request,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServerWebExchange exchange) {
+    return processCacheableRequest(
+        "integral", request, integrationService, ResultFormat.fromAcceptHeader(accept), exchange);
+  }
+
+  /**
+   * Serves a GET request under a strong ETag derived from its canonical input. A matching
+   * If-None-Match is answered with 304 before anything is scheduled for computation, and is not
+   * charged against the client's rate limit.
+   */
+  private Mono<ResponseEntity<Object>> processCacheableRequest(
+      String operation,
+      ControllerRequest request,
+      FractionalCalculusService service,
+      ResultFormat format,
+      ServerWebExchange exchange) {
+    ComputationKey key = ComputationKey.of(operation, request);
+    String etag = key.etag(format);
+    if (exchange.checkNotModified(etag)) {
+      return Mono.just(CacheableResponses.notModified(etag));
+    }
+    checkRateLimit(request, exchange.getRequest());
+    return processRequest(key, request, service, format)
+        .map(response -> CacheableResponses.cacheable(response, etag));
+  }
+
+  /**
+   * Charges the estimated cost of a request to its client, identified by the configured client
+   * header or else the remote address.
+   */
+  private void checkRateLimit(ControllerRequest request, ServerHttpRequest httpRequest) {
+    String remoteAddress =
+        Optional.ofNullable(httpRequest.getRemoteAddress())
+            .map(InetSocketAddress::getHostString)
+            .orElse("unknown");
+    String clientId =
+        clientRateLimiter.clientId(
+            httpRequest.getHeaders().getFirst(clientRateLimiter.getClientHeader()), remoteAddress);
+    clientRateLimiter.acquire(clientId, CostEstimator.estimate(request));
+  }
+
+  /**
+   * Identical requests arriving while one is being computed share its result through the
+   * RequestCoalescer. Cancelling one subscriber leaves the shared computation running for the
+   * others.
+   */
+  private Mono<ResponseEntity<Object>> processRequest(
+      ComputationKey key,
+      ControllerRequest request,
+      FractionalCalculusService service,
+      ResultFormat format) {
+    return Mono.fromFuture(
+            () ->
+                requestCoalescer.submit(
+                    key.etag(format),
+                    () -> render(request, service, format),
+                    computationScheduler::schedule))
+        .map(body -> ResponseEntity.ok().contentType(format.getMediaType()).body(body))
+        .onErrorResume(
+            e -> !(e instanceof BadRequestException || e instanceof ServiceUnavailableException),
+            e -> {
+              logger.error("Unhandled exception: ", e);
+              return Mono.just(
+                  ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                      .contentType(MediaType.APPLICATION_JSON)
+                      .body(new Result("Internal Server Error")));
+            });
+  }
+
+  private Object render(
+      ControllerRequest request, FractionalCalculusService service, ResultFormat format) {
+    String expression = request.getPolynomialExpression();
+    double order = request.getOrder();
+    Integer precision = request.getPrecision();
+
+    return switch (format) {
+      case PLAIN -> new Result(service.evaluateExpression(expression, order, precision));
+      case TERMS -> new TermsResult(service.evaluateTerms(expression, order, precision));
+      case LATEX ->
+          latexFormattingService.renderTerms(service.evaluateTerms(expression, order, precision));
+      case MATHML ->
+          mathMlFormattingService.renderTerms(service.evaluateTerms(expression, order, precision));
+      case PROTOBUF ->
+          ProtobufMessages.toTermsResult(service.evaluateTerms(expression, order, precision));
+    };
+  }
+
+  /**
+   * Streams the plain result as the JSON {@code {"expression": ...}} object. Parsing and computation
+   * happen up front on the computation scheduler, so errors are still reported through
+   * GlobalExceptionHandler. Formatting then runs on the stream scheduler and blocks whenever the
+   * client has not requested more data.
+   */
+  private Mono<ResponseEntity<Publisher<DataBuffer>>> streamExpression(
+      FractionalCalculusService service, ControllerRequest request, ServerWebExchange exchange) {
+    return Mono.fromCallable(
+            () ->
+                service.streamExpression(
+                    request.getPolynomialExpression(), request.getOrder(), request.getPrecision()))
+        .subscribeOn(computationScheduler)
+        .map(
+            expression ->
+                ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(
+                        DataBufferUtils.outputStreamPublisher(
+                            outputStream -> writeExpression(expression, outputStream),
+                            exchange.getResponse().bufferFactory(),
+                            streamScheduler::schedule)));
+  }
+
+  private static void writeExpression(ExpressionWriter expression, OutputStream outputStream) {
+    try {
+      Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+      writer.write("{\"expression\":\"");
+      expression.writeTo(new JsonStringWriter(writer));
+      writer.write("\"}");
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.trbaxter.github.fractionalcomputationapi.exception;
+
+import com.trbaxter.github.fractionalcomputationapi.model.Result;
+import com.trbaxter.github.fractionalcomputationapi.model.ResultFormat;
+import com.trbaxter.github.fractionalcomputationapi.utils.ProtobufMessages;
+import java.time.Duration;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+  private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+  @ExceptionHandler(MethodArgumentNotValidException.class)
+  public ResponseEntity<Object> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    return validationErrorResponse(ex.getBindingResult());
+  }
+
+  /** WebFlux counterpart of handleValidationExceptions for the reactive controller. */
+  @ExceptionHandler(WebExchangeBindException.class)
+  public ResponseEntity<Object> handleWebExchangeBindException(WebExchangeBindException ex) {
+    return validationErrorResponse(ex);
+  }
+
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<Object> handleHttpMessageNotReadableException(
+      HttpMessageNotReadableException ex) {
+    String errorMessage = "Malformed JSON request body";
+    logger.warn("Malformed JSON request body: {}", ex.getMessage());
+    return errorResponse(HttpStatus.BAD_REQUEST, "Bad Request: " + errorMessage);
+  }
+
+  /** WebFlux counterpart of handleHttpMessageNotReadableException for the reactive controller. */
+  @ExceptionHandler(ServerWebInputException.class)
+  public ResponseEntity<Object> handleServerWebInputException(ServerWebInputException ex) {
+    String errorMessage = "Malformed JSON request body";
+    logger.warn("Malformed JSON request body: {}", ex.getMessage());
+    return errorResponse(HttpStatus.BAD_REQUEST, "Bad Request: " + errorMessage);
+  }
+
+  @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+  public ResponseEntity<Object> handleHttpMediaTypeNotSupportedException(
+      HttpMediaTypeNotSupportedException ex) {
+    logger.warn("Unsupported media type: {}", ex.getContentType());
+    return errorResponse(
+        HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Unsupported Media Type: " + ex.getContentType());
+  }
+
+  @ExceptionHandler(BadRequestException.class)
+  public ResponseEntity<Object> handleBadRequestException(BadRequestException ex) {
+    logger.warn("Bad request: {}", ex.getMessage());
+    return errorResponse(HttpStatus.BAD_REQUEST, "Bad Request: " + ex.getMessage());
+  }
+
+  @ExceptionHandler(NotFoundException.class)
+  public ResponseEntity<Object> handleNotFoundException(NotFoundException ex) {
+    logger.warn("Not found: {}", ex.getMessage());
+    return errorResponse(HttpStatus.NOT_FOUND, "Not Found: " + ex.getMessage());
+  }
+
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<Object> handleServiceUnavailableException(ServiceUnavailableException ex) {
+    logger.warn("Service unavailable: {}", ex.getMessage());
+    ResponseEntity<Object> response =
+        errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable: " + ex.getMessage());
+    return ex.getRetryAfter()
+        .map(retryAfter -> withRetryAfter(response, retryAfter))
+        .orElse(response);
+  }
+
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<Object> handleTooManyRequestsException(TooManyRequestsException ex) {
+    logger.warn("Too many requests: {}", ex.getMessage());
+    return withRetryAfter(
+        errorResponse(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests: " + ex.getMessage()),
+        ex.getRetryAfter());
+  }
+
+  /**
+   * Keeps the status of exceptions raised with one, such as the actuator's 400 for an invalid
+   * endpoint request, instead of reporting them as internal errors.
+   */
+  @ExceptionHandler(ResponseStatusException.class)
+  public ResponseEntity<Object> handleResponseStatusException(ResponseStatusException ex) {
+    HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+    logger.warn("{}: {}", status.getReasonPhrase(), ex.getReason());
+    return errorResponse(status, status.getReasonPhrase() + ": " + ex.getReason());
+  }
+
+  @ExceptionHandler(Exception.class)
+  public ResponseEntity<Object> handleException(Exception e) {
+    logger.error("Unhandled exception: ", e);
+    return errorResponse(
+        HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error: " + e.getMessage());
+  }
+
+  private static ResponseEntity<Object> validationErrorResponse(BindingResult bindingResult) {
+    String errorMessage =
+        bindingResult.getAllErrors().stream()
+            .map(error -> Optional.ofNullable(error.getDefaultMessage()).orElse("Validation error"))
+            .findFirst()
+            .orElse("Validation error");
+
+    logger.warn("Validation error: {}", errorMessage);
+
+    return errorResponse(HttpStatus.BAD_REQUEST, "Validation Error: " + errorMessage);
+  }
+
+  private static ResponseEntity<Object> withRetryAfter(
+      ResponseEntity<Object> response, Duration retryAfter) {
+    return ResponseEntity.status(response.getStatusCode())
+        .headers(response.getHeaders())
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter.toSeconds()))
+        .body(response.getBody());
+  }
+
+  /**
+   * Errors are reported as a JSON Result, even when the client asked for another result format
+   * such as LaTeX or MathML. A servlet request preferring application/x-protobuf instead receives
+   * a protobuf ErrorDetail carrying the same message; ReactiveProtobufExceptionHandler does the
+   * same for WebFlux requests.
+   */
+  private static ResponseEntity<Object> errorResponse(HttpStatus status, String message) {
+    if (acceptsProtobuf()) {
+      return ResponseEntity.status(status)
+          .contentType(ResultFormat.PROTOBUF.getMediaType())
+          .body(ProtobufMessages.toErrorDetail(status.value(), message));
+    }
+    return ResponseEntity.status(status)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(new Result(message));
+  }
+
+  private static boolean acceptsProtobuf() {
+    return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes request
+        && ResultFormat.fromAcceptHeader(request.getRequest().getHeader(HttpHeaders.ACCEPT))
+            == ResultFormat.PROTOBUF;
+  }
+}
@@ -0,0 +1,64 @@
+package com.trbaxter.github.fractionalcomputationapi.exception;
+
+import com.trbaxter.github.fractionalcomputationapi.controller.ReactiveIndexController;
+import com.trbaxter.github.fractionalcomputationapi.model.Result;
+import com.trbaxter.github.fractionalcomputationapi.model.ResultFormat;
+import com.trbaxter.github.fractionalcomputationapi.utils.ProtobufMessages;
+import java.lang.reflect.Method;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * ReactiveProtobufExceptionHandler reports the errors of the ReactiveIndexController as a
+ * protobuf ErrorDetail when the request prefers application/x-protobuf, as GlobalExceptionHandler
+ * does for servlet requests. A WebFlux request is not bound to the thread handling its error, so
+ * this handler takes the exchange, lets the GlobalExceptionHandler method for the exception decide
+ * the status and message, and converts the JSON Result it returns.
+ */
+@RestControllerAdvice(assignableTypes = ReactiveIndexController.class)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProtobufExceptionHandler {
+
+  private static final ExceptionHandlerMethodResolver HANDLERS =
+      new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class);
+
+  private final GlobalExceptionHandler globalExceptionHandler;
+
+  @Autowired
+  public ReactiveProtobufExceptionHandler(GlobalExceptionHandler globalExceptionHandler) {
+    this.globalExceptionHandler = globalExceptionHandler;
+  }
+
+  @ExceptionHandler(Exception.class)
+  @SuppressWarnings("unchecked")
+  public ResponseEntity<Object> handleException(Exception ex, ServerWebExchange exchange) {
+    Method handler = HANDLERS.resolveMethodByExceptionType(ex.getClass());
+    ResponseEntity<Object> response =
+        (ResponseEntity<Object>) ReflectionUtils.invokeMethod(handler, globalExceptionHandler, ex);
+
+    String accept = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT);
+    if (ResultFormat.fromAcceptHeader(accept) != ResultFormat.PROTOBUF
+        || !(response.getBody() instanceof Result result)) {
+      return response;
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.putAll(response.getHeaders());
+    headers.setContentType(ResultFormat.PROTOBUF.getMediaType());
+    return ResponseEntity.status(response.getStatusCode())
+        .headers(headers)
+        .body(
+            ProtobufMessages.toErrorDetail(
+                response.getStatusCode().value(), result.getExpression()));
+  }
+}
@@ -0,0 +1,22 @@
+package com.trbaxter.github.fractionalcomputationapi.exception;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public class ServiceUnavailableException extends RuntimeException {
+  private final Duration retryAfter;
+
+  public ServiceUnavailableException(String message) {
+    this(message, null);
+  }
+
+  public ServiceUnavailableException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  /** How long the client should wait before retrying, when known. */
+  public Optional<Duration> getRetryAfter() {
+    return Optional.ofNullable(retryAfter);
+  }
+}
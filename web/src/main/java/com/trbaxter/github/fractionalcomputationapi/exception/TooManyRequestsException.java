@@ -0,0 +1,17 @@
+package com.trbaxter.github.fractionalcomputationapi.exception;
+
+import java.time.Duration;
+
+public class TooManyRequestsException extends RuntimeException {
+  private final Duration retryAfter;
+
+  public TooManyRequestsException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  /** How long the client should wait before its request would be allowed. */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -0,0 +1,17 @@
+package com.trbaxter.github.fractionalcomputationapi.model;
+
+/**
+ * BulkRequest is one record of a bulk computation: a ControllerRequest together with the operator
+ * to apply, one of {@code caputo}, {@code riemann-liouville} or {@code integral}.
+ */
+public record BulkRequest(
+    String operator, String polynomialExpression, Double order, Integer precision) {
+
+  public ControllerRequest toControllerRequest() {
+    ControllerRequest request = new ControllerRequest();
+    request.setPolynomialExpression(polynomialExpression);
+    request.setOrder(order);
+    request.setPrecision(precision);
+    return request;
+  }
+}
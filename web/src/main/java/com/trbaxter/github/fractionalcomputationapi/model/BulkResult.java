@@ -0,0 +1,25 @@
+package com.trbaxter.github.fractionalcomputationapi.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * BulkResult is the outcome of one BulkRequest: the computed expression, or the error message the
+ * equivalent single request would have received.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkResult(String expression, String error) {
+
+  public static BulkResult success(String expression) {
+    return new BulkResult(expression, null);
+  }
+
+  public static BulkResult failure(String error) {
+    return new BulkResult(null, error);
+  }
+
+  @JsonIgnore
+  public boolean isFailure() {
+    return error != null;
+  }
+}
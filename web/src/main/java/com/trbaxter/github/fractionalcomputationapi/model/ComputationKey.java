@@ -0,0 +1,66 @@
+package com.trbaxter.github.fractionalcomputationapi.model;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * ComputationKey is the canonical form of a computation request. Results are pure functions of
+ * (operation, expression, order, precision), so two requests with equal keys produce identical
+ * output.<br>
+ * Whitespace in the expression is dropped and the order is written without trailing zeros, so
+ * {@code "3x^2 + 1"} with order {@code 0.50} and {@code "3x^2+1"} with order {@code 0.5} share a
+ * key.
+ */
+public record ComputationKey(String operation, String expression, String order, int precision) {
+
+  /**
+   * Bumped whenever the rendering of results changes, so previously issued ETags stop matching and
+   * caches holding immutable responses are bypassed.
+   */
+  private static final String RESULT_VERSION = "1";
+
+  /**
+   * Builds the canonical key of a request for an operation.
+   *
+   * @param operation the operation name, e.g. {@code caputo}.
+   * @param request the validated request.
+   * @return the canonical computation key.
+   */
+  public static ComputationKey of(String operation, ControllerRequest request) {
+    return new ComputationKey(
+        operation,
+        request.getPolynomialExpression().replaceAll("\\s+", ""),
+        BigDecimal.valueOf(request.getOrder()).stripTrailingZeros().toPlainString(),
+        request.getPrecision());
+  }
+
+  /**
+   * Derives a strong entity tag for one representation of the result. The tag is a SHA-256 hash of
+   * the canonical key, the result format and the result version.
+   *
+   * @param format the representation the tag identifies.
+   * @return the quoted entity tag.
+   */
+  public String etag(ResultFormat format) {
+    String canonical =
+        String.join(
+            "\n",
+            RESULT_VERSION,
+            operation,
+            format.name(),
+            expression,
+            order,
+            Integer.toString(precision));
+
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+      return "\"" + HexFormat.of().formatHex(digest) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
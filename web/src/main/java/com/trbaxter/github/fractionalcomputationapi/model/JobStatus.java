@@ -0,0 +1,19 @@
+package com.trbaxter.github.fractionalcomputationapi.model;
+
+/**
+ * JobStatus is the stage an asynchronous computation job has reached. A job is queued until a
+ * worker picks it up and it is admitted within the job budget, then computes its terms, formats the
+ * result, and either succeeds or fails.
+ */
+public enum JobStatus {
+  QUEUED,
+  COMPUTING,
+  FORMATTING,
+  SUCCEEDED,
+  FAILED;
+
+  /** Whether the job has finished and will not change status again. */
+  public boolean isTerminal() {
+    return this == SUCCEEDED || this == FAILED;
+  }
+}
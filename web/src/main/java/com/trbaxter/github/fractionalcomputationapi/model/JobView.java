@@ -0,0 +1,18 @@
+package com.trbaxter.github.fractionalcomputationapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+
+/**
+ * JobView is a snapshot of an asynchronous computation job as reported to clients. Timestamps of
+ * stages not yet reached, and the error of a job that has not failed, are omitted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JobView(
+    String id,
+    String operation,
+    JobStatus status,
+    Instant submittedAt,
+    Instant startedAt,
+    Instant completedAt,
+    String error) {}
@@ -0,0 +1,59 @@
+package com.trbaxter.github.fractionalcomputationapi.model;
+
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * ResultFormat enumerates the representations a computed expression can be returned in, keyed by
+ * the media type a client requests through the Accept header.
+ */
+public enum ResultFormat {
+  PLAIN(MediaType.APPLICATION_JSON),
+  TERMS(MediaType.parseMediaType("application/vnd.fractional-calculus.terms+json")),
+  LATEX(MediaType.parseMediaType("application/x-latex")),
+  MATHML(MediaType.parseMediaType("application/mathml+xml")),
+  PROTOBUF(MediaType.parseMediaType("application/x-protobuf"));
+
+  private final MediaType mediaType;
+
+  ResultFormat(MediaType mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * Selects the result format for an Accept header, honouring quality values. Wildcards, missing
+   * or unparseable headers resolve to the plain JSON format.
+   *
+   * @param accept the raw Accept header value, may be null.
+   * @return the best matching result format.
+   */
+  public static ResultFormat fromAcceptHeader(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return PLAIN;
+    }
+
+    List<MediaType> requested;
+    try {
+      requested = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return PLAIN;
+    }
+
+    requested.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+    for (MediaType mediaType : requested) {
+      for (ResultFormat format : values()) {
+        if (mediaType.includes(format.mediaType)) {
+          return format;
+        }
+      }
+    }
+
+    return PLAIN;
+  }
+}
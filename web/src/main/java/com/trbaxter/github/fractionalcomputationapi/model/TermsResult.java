@@ -0,0 +1,9 @@
+package com.trbaxter.github.fractionalcomputationapi.model;
+
+import java.util.List;
+
+/**
+ * TermsResult is the structured counterpart of Result, listing each term of the computed
+ * expression instead of a single human-readable string.
+ */
+public record TermsResult(List<FormattedTerm> terms) {}
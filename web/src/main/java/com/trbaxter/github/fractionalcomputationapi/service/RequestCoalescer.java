@@ -0,0 +1,182 @@
+package com.trbaxter.github.fractionalcomputationapi.service;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * RequestCoalescer collapses concurrent computations that share a key into one. The first caller
+ * for a key runs the computation; callers arriving while it is in flight wait for and share its
+ * result or exception instead of repeating the work.<br>
+ * Waiting is bounded: a caller that is not served within the configured maximum wait gets a
+ * ServiceUnavailableException. If the computing caller is interrupted, its waiters retry rather
+ * than inherit the interruption.
+ */
+@Service
+public class RequestCoalescer {
+
+  private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight =
+      new ConcurrentHashMap<>();
+  private final long maxWaitNanos;
+
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+
+  @Autowired
+  public RequestCoalescer(
+      @Value("${fractional-calculus.coalescing.max-wait:5s}") Duration maxWait) {
+    this.maxWaitNanos = maxWait.toNanos();
+  }
+
+  /**
+   * Runs a computation on the calling thread, or waits for an identical one already in flight.
+   *
+   * @param key the canonical key of the computation.
+   * @param computation the computation to run when no identical one is in flight.
+   * @return the result of the computation.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Object key, Supplier<T> computation) {
+    while (true) {
+      CompletableFuture<Object> created = new CompletableFuture<>();
+      CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+      if (existing == null) {
+        executions.increment();
+        return lead(key, created, computation);
+      }
+
+      try {
+        T result = (T) existing.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        coalesced.increment();
+        return result;
+      } catch (CancellationException e) {
+        // The computing caller was interrupted; compete to run the computation again.
+      } catch (TimeoutException e) {
+        timeouts.increment();
+        throw timeout();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ServiceUnavailableException("Interrupted while waiting for the computation.");
+      } catch (ExecutionException e) {
+        throw propagate(e.getCause());
+      }
+    }
+  }
+
+  /**
+   * Non-blocking counterpart of execute(Object, Supplier). A new computation is started on the
+   * executor; a caller joining one already in flight receives a future that fails with a
+   * ServiceUnavailableException after the maximum wait. Each caller gets its own copy of the
+   * shared future, so cancelling it does not affect the other callers.
+   *
+   * @param key the canonical key of the computation.
+   * @param computation the computation to run when no identical one is in flight.
+   * @param executor the executor that runs a new computation.
+   * @return a future completed with the result of the computation.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> submit(Object key, Supplier<T> computation, Executor executor) {
+    CompletableFuture<Object> created = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+    if (existing == null) {
+      executions.increment();
+      try {
+        executor.execute(
+            () -> {
+              try {
+                lead(key, created, computation);
+              } catch (RuntimeException e) {
+                // Already delivered to every caller through the shared future.
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        inFlight.remove(key, created);
+        created.completeExceptionally(e);
+      }
+      return (CompletableFuture<T>) created.copy();
+    }
+
+    return (CompletableFuture<T>)
+        existing
+            .copy()
+            .orTimeout(maxWaitNanos, TimeUnit.NANOSECONDS)
+            .handle(
+                (result, failure) -> {
+                  if (failure == null) {
+                    coalesced.increment();
+                    return result;
+                  }
+                  Throwable cause = unwrap(failure);
+                  if (cause instanceof TimeoutException) {
+                    timeouts.increment();
+                    throw timeout();
+                  }
+                  throw propagate(cause);
+                });
+  }
+
+  /** Returns a snapshot of the coalescing counters. */
+  public Stats stats() {
+    return new Stats(executions.sum(), coalesced.sum(), timeouts.sum(), inFlight.size());
+  }
+
+  private <T> T lead(Object key, CompletableFuture<Object> future, Supplier<T> computation) {
+    try {
+      T result = computation.get();
+      future.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      if (Thread.currentThread().isInterrupted()) {
+        future.cancel(false);
+      } else {
+        future.completeExceptionally(e);
+      }
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  private static ServiceUnavailableException timeout() {
+    return new ServiceUnavailableException("Timed out waiting for an identical computation.");
+  }
+
+  private static Throwable unwrap(Throwable failure) {
+    return failure instanceof CompletionException && failure.getCause() != null
+        ? failure.getCause()
+        : failure;
+  }
+
+  private static RuntimeException propagate(Throwable cause) {
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new IllegalStateException(cause);
+  }
+
+  /**
+   * Coalescing counters: computations actually run, callers served by another caller's
+   * computation, callers that gave up waiting, and computations currently in flight.
+   */
+  public record Stats(long executions, long coalesced, long timeouts, int inFlight) {}
+}
@@ -0,0 +1,220 @@
+package com.trbaxter.github.fractionalcomputationapi.service.admission;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AdmissionController decides, right after parsing, whether a request may be computed.<br>
+ * Requests over the per-request caps on terms, order, precision or estimated cost can never be
+ * served and are rejected as bad requests. Admitted requests draw their estimated cost from a
+ * global in-flight budget; when the budget is exhausted a request queues for up to the configured
+ * timeout and is then rejected as service unavailable.<br>
+ * Threads of Reactor's non-blocking schedulers never queue: the reactive controller computes on a
+ * small parallel scheduler, and a few parked admissions would stall every computation on it. Such
+ * requests take budget only if it is available at once.<br>
+ * A caller that needs to know when its request leaves the queue, such as a job reporting that it
+ * has started computing, runs the request under {@link #whenAdmitted(Runnable, Supplier)}.
+ */
+@Service
+public class AdmissionController {
+
+  private static final Logger logger = LoggerFactory.getLogger(AdmissionController.class);
+
+  private static final Duration MINIMUM_RETRY_AFTER = Duration.ofSeconds(1);
+
+  /**
+   * Shortest interval between warnings about shed requests. Shedding happens under overload, when
+   * a line per request would flood the log; each warning reports the requests shed since the last.
+   */
+  private static final Duration SHED_WARNING_INTERVAL = Duration.ofSeconds(10);
+
+  /** The listener told when the request running on this thread is admitted, if any. */
+  private static final ThreadLocal<Runnable> ADMISSION_LISTENER = new ThreadLocal<>();
+
+  private final AdmissionLimits limits;
+  private final boolean waitsForBudget;
+  private final Semaphore budget;
+
+  private final LongAdder admitted = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder shed = new LongAdder();
+  private final LongAdder shedSinceWarning = new LongAdder();
+  private final AtomicLong nextShedWarning = new AtomicLong(System.nanoTime());
+
+  @Autowired
+  public AdmissionController(AdmissionLimits limits) {
+    this(limits, false);
+  }
+
+  private AdmissionController(AdmissionLimits limits, boolean waitsForBudget) {
+    this.limits = limits;
+    this.waitsForBudget = waitsForBudget;
+    this.budget = new Semaphore(limits.inFlightBudget(), true);
+  }
+
+  /**
+   * Returns an admission controller with its own budget whose requests wait for budget however
+   * long it takes, ignoring the queue timeout. It suits callers such as the job workers that
+   * already bound and queue their work.
+   */
+  public static AdmissionController waitingForBudget(AdmissionLimits limits) {
+    return new AdmissionController(limits, true);
+  }
+
+  /**
+   * Runs an action, calling the listener on this thread as soon as a request the action makes is
+   * admitted, after any wait for budget and before it is computed.
+   *
+   * @param listener called on admission.
+   * @param action the action making the request.
+   * @return the result of the action.
+   */
+  public static <T> T whenAdmitted(Runnable listener, Supplier<T> action) {
+    Runnable previous = ADMISSION_LISTENER.get();
+    ADMISSION_LISTENER.set(listener);
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        ADMISSION_LISTENER.remove();
+      } else {
+        ADMISSION_LISTENER.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Admits a parsed request, waiting for in-flight budget if necessary and the calling thread may
+   * block.
+   *
+   * @param terms the parsed terms.
+   * @param alpha the order of the operation.
+   * @param precision the number of decimal places of the result.
+   * @return a permit that returns the request's cost to the budget when closed.
+   * @throws BadRequestException if the request exceeds a per-request cap.
+   * @throws ServiceUnavailableException if no budget became available in time, or the thread was
+   *     interrupted while waiting.
+   */
+  public Permit admit(List<Term> terms, double alpha, int precision) {
+    checkCap(
+        terms.size(), limits.maxTerms(), "Polynomial expression exceeds the maximum of %d terms.");
+    checkCap(alpha, limits.maxOrder(), "Order exceeds the maximum of %d.");
+    checkCap(precision, limits.maxPrecision(), "Precision exceeds the maximum of %d.");
+
+    long cost = CostEstimator.estimate(terms.size(), alpha, precision);
+    int maxCost = Math.min(limits.maxRequestCost(), limits.inFlightBudget());
+    if (cost > maxCost) {
+      rejected.increment();
+      throw new BadRequestException("Request exceeds the maximum computation cost.");
+    }
+
+    acquire((int) cost);
+    admitted.increment();
+    Permit permit = new Permit((int) cost);
+
+    Runnable listener = ADMISSION_LISTENER.get();
+    if (listener != null) {
+      try {
+        listener.run();
+      } catch (RuntimeException e) {
+        permit.close();
+        throw e;
+      }
+    }
+    return permit;
+  }
+
+  /** Returns a snapshot of the admission counters. */
+  public Stats stats() {
+    return new Stats(
+        admitted.sum(),
+        rejected.sum(),
+        shed.sum(),
+        limits.inFlightBudget() - budget.availablePermits());
+  }
+
+  private void checkCap(double value, int cap, String message) {
+    if (value > cap) {
+      rejected.increment();
+      throw new BadRequestException(String.format(message, cap));
+    }
+  }
+
+  private void acquire(int cost) {
+    Duration timeout = limits.queueTimeout();
+    try {
+      if (waitsForBudget) {
+        budget.acquire(cost);
+        return;
+      }
+      if (Schedulers.isInNonBlockingThread()
+          ? budget.tryAcquire(cost)
+          : budget.tryAcquire(cost, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    shed.increment();
+    warnShed(cost);
+    throw new ServiceUnavailableException(
+        "Computation capacity is exhausted.",
+        timeout.compareTo(MINIMUM_RETRY_AFTER) > 0 ? timeout : MINIMUM_RETRY_AFTER);
+  }
+
+  private void warnShed(int cost) {
+    shedSinceWarning.increment();
+    long now = System.nanoTime();
+    long next = nextShedWarning.get();
+    if (now - next >= 0
+        && nextShedWarning.compareAndSet(next, now + SHED_WARNING_INTERVAL.toNanos())) {
+      logger.warn(
+          "Shed {} requests since the last warning, the latest of cost {}: in-flight budget"
+              + " exhausted",
+          shedSinceWarning.sumThenReset(),
+          cost);
+    }
+  }
+
+  /** A request's share of the in-flight budget, returned when the permit is closed. */
+  public final class Permit implements AutoCloseable {
+    private final int cost;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(int cost) {
+      this.cost = cost;
+    }
+
+    public int getCost() {
+      return cost;
+    }
+
+    @Override
+    public void close() {
+      if (released.compareAndSet(false, true)) {
+        budget.release(cost);
+      }
+    }
+  }
+
+  /**
+   * Admission counters: requests admitted, requests rejected by a cap, requests shed because the
+   * budget was exhausted, and the estimated cost currently in flight.
+   */
+  public record Stats(long admitted, long rejected, long shed, int inFlightCost) {}
+}
@@ -0,0 +1,25 @@
+package com.trbaxter.github.fractionalcomputationapi.service.admission;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * AdmissionLimits holds the caps enforced by the AdmissionController, bound from the {@code
+ * fractional-calculus.admission} properties.
+ *
+ * @param maxTerms the most terms a parsed polynomial may contain.
+ * @param maxOrder the largest order of differentiation or integration.
+ * @param maxPrecision the largest number of decimal places a result may be rounded to.
+ * @param maxRequestCost the largest estimated cost of a single request.
+ * @param inFlightBudget the total estimated cost of all requests computing at once.
+ * @param queueTimeout how long a request may wait for budget before it is rejected.
+ */
+@ConfigurationProperties("fractional-calculus.admission")
+public record AdmissionLimits(
+    @DefaultValue("10000") int maxTerms,
+    @DefaultValue("10000") int maxOrder,
+    @DefaultValue("1000") int maxPrecision,
+    @DefaultValue("5000000") int maxRequestCost,
+    @DefaultValue("50000000") int inFlightBudget,
+    @DefaultValue("2s") Duration queueTimeout) {}
@@ -0,0 +1,84 @@
+package com.trbaxter.github.fractionalcomputationapi.service.admission;
+
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import java.math.BigDecimal;
+
+/**
+ * CostEstimator estimates the work a request needs, in abstract cost units, as the product of its
+ * term count, order class and precision.<br>
+ * An integer order n costs n per term, matching the n multiplications of the integer-order loops
+ * and the n constants of an integer-order integral. A fractional order costs a fixed weight per
+ * term for its two gamma evaluations. Precision scales the arithmetic and formatting of every
+ * coefficient.
+ */
+public final class CostEstimator {
+
+  /** Relative cost of the two gamma evaluations a fractional order needs per term. */
+  static final long FRACTIONAL_ORDER_WEIGHT = 4;
+
+  /** Private constructor to prevent instantiation. */
+  private CostEstimator() {
+    throw new UnsupportedOperationException("Utility class for cost estimation");
+  }
+
+  /**
+   * Estimates the cost of a request.
+   *
+   * @param termCount the number of parsed terms.
+   * @param alpha the order of the operation.
+   * @param precision the number of decimal places of the result.
+   * @return the estimated cost, saturating at Long.MAX_VALUE.
+   */
+  public static long estimate(int termCount, double alpha, int precision) {
+    try {
+      long cost = Math.multiplyExact(Math.max(termCount, 1), orderFactor(alpha));
+      return Math.multiplyExact(cost, Math.max(precision, 1));
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * Estimates the cost of a request before its expression is parsed, counting its terms from the
+   * signs that separate them. Used where a request has to be weighed before it reaches a service.
+   *
+   * @param request the validated request.
+   * @return the estimated cost, saturating at Long.MAX_VALUE.
+   */
+  public static long estimate(ControllerRequest request) {
+    return estimate(
+        estimateTermCount(request.getPolynomialExpression()),
+        request.getOrder(),
+        request.getPrecision());
+  }
+
+  /**
+   * Counts the terms of an unparsed expression as one more than the number of signs that follow an
+   * operand; signs of exponents and leading signs do not start a new term.
+   */
+  static int estimateTermCount(String expression) {
+    int terms = 1;
+    char previous = 0;
+
+    for (int i = 0; i < expression.length(); i++) {
+      char c = expression.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if ((c == '+' || c == '-') && startsTerm(previous)) {
+        terms++;
+      }
+      previous = c;
+    }
+    return terms;
+  }
+
+  private static boolean startsTerm(char previous) {
+    return previous != 0 && "+-^(eE".indexOf(previous) < 0;
+  }
+
+  private static long orderFactor(double alpha) {
+    boolean integerAlpha = BigDecimal.valueOf(alpha).stripTrailingZeros().scale() <= 0;
+    return integerAlpha ? Math.max((long) alpha, 1) : FRACTIONAL_ORDER_WEIGHT;
+  }
+}
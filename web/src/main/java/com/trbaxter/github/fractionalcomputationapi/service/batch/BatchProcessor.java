@@ -0,0 +1,227 @@
+package com.trbaxter.github.fractionalcomputationapi.service.batch;
+
+import com.trbaxter.github.fractionalcomputationapi.model.BulkResult;
+import com.trbaxter.github.fractionalcomputationapi.service.bulk.BulkEvaluator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * BatchProcessor evaluates an NDJSON file of BulkRequest records into an NDJSON file of BulkResult
+ * records, one result line per non-blank input line and in the same order.<br>
+ * The input is memory-mapped and split into chunks that end on line breaks. Chunks are evaluated by
+ * a pool of workers, each into its own buffer, and the buffers are written to the output channel in
+ * input order. Only a bounded number of chunks is read ahead of the writer, so neither the input
+ * nor the output is ever held in memory as a whole.
+ */
+@Service
+public class BatchProcessor {
+
+  /** Size of the window mapped while searching for the line break that ends a chunk. */
+  private static final int BOUNDARY_WINDOW = 64 * 1024;
+
+  private final BulkEvaluator evaluator;
+  private final int threads;
+  private final long chunkSize;
+  private final int chunksInFlight;
+
+  @Autowired
+  public BatchProcessor(BulkEvaluator evaluator, BatchProperties properties) {
+    this.evaluator = evaluator;
+    this.threads =
+        properties.threads() > 0
+            ? properties.threads()
+            : Runtime.getRuntime().availableProcessors();
+    this.chunkSize = Math.max(properties.chunkSize().toBytes(), 1);
+    this.chunksInFlight = Math.max(properties.chunksInFlight(), 1) * threads;
+  }
+
+  /**
+   * Evaluates every record of the input file and writes the results to the output file, replacing
+   * it if it exists.
+   *
+   * @param input the NDJSON file of requests.
+   * @param output the NDJSON file to write the results to.
+   * @return a summary of the run.
+   * @throws IOException if the input cannot be read or the output cannot be written.
+   */
+  public BatchReport process(Path input, Path output) throws IOException {
+    long start = System.nanoTime();
+    long records = 0;
+    long failures = 0;
+
+    ExecutorService workers = Executors.newFixedThreadPool(threads, workerThreadFactory());
+    try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+        FileChannel out =
+            FileChannel.open(
+                output,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+      OutputStream sink = Channels.newOutputStream(out);
+      Deque<Future<ChunkResult>> pending = new ArrayDeque<>();
+
+      for (Chunk chunk : split(in)) {
+        if (pending.size() == chunksInFlight) {
+          ChunkResult result = await(pending.removeFirst());
+          write(sink, result);
+          records += result.records();
+          failures += result.failures();
+        }
+        pending.addLast(workers.submit(() -> evaluate(in, chunk)));
+      }
+
+      while (!pending.isEmpty()) {
+        ChunkResult result = await(pending.removeFirst());
+        write(sink, result);
+        records += result.records();
+        failures += result.failures();
+      }
+
+      return new BatchReport(
+          records, failures, in.size(), Duration.ofNanos(System.nanoTime() - start));
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  /** Splits the input into chunks of roughly chunkSize bytes, each ending after a line break. */
+  List<Chunk> split(FileChannel channel) throws IOException {
+    long size = channel.size();
+    List<Chunk> chunks = new ArrayList<>();
+
+    long position = 0;
+    while (position < size) {
+      long end =
+          position + chunkSize >= size ? size : lineEnd(channel, position + chunkSize - 1, size);
+      chunks.add(new Chunk(position, end - position));
+      position = end;
+    }
+    return chunks;
+  }
+
+  /** Returns the position just after the first line break at or after position. */
+  private static long lineEnd(FileChannel channel, long position, long size) throws IOException {
+    while (position < size) {
+      int length = (int) Math.min(BOUNDARY_WINDOW, size - position);
+      MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+      for (int i = 0; i < length; i++) {
+        if (window.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += length;
+    }
+    return size;
+  }
+
+  private ChunkResult evaluate(FileChannel channel, Chunk chunk) throws IOException {
+    if (chunk.length() > Integer.MAX_VALUE) {
+      throw new IOException("Input line at byte " + chunk.position() + " exceeds 2 GB");
+    }
+
+    int length = (int) chunk.length();
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.position(), length);
+    ByteArrayOutputStream results = new ByteArrayOutputStream(length);
+    byte[] line = new byte[256];
+    long records = 0;
+    long failures = 0;
+
+    int lineStart = 0;
+    while (lineStart < length) {
+      int lineEnd = lineStart;
+      while (lineEnd < length && buffer.get(lineEnd) != '\n') {
+        lineEnd++;
+      }
+
+      int contentEnd = lineEnd;
+      if (contentEnd > lineStart && buffer.get(contentEnd - 1) == '\r') {
+        contentEnd--;
+      }
+
+      int lineLength = contentEnd - lineStart;
+      if (!isBlank(buffer, lineStart, contentEnd)) {
+        if (line.length < lineLength) {
+          line = new byte[Math.max(lineLength, line.length * 2)];
+        }
+        buffer.get(lineStart, line, 0, lineLength);
+
+        BulkResult result = evaluator.evaluate(line, 0, lineLength);
+        evaluator.writeLine(result, results);
+        records++;
+        if (result.isFailure()) {
+          failures++;
+        }
+      }
+      lineStart = lineEnd + 1;
+    }
+
+    return new ChunkResult(results, records, failures);
+  }
+
+  private static boolean isBlank(ByteBuffer buffer, int from, int to) {
+    for (int i = from; i < to; i++) {
+      byte b = buffer.get(i);
+      if (b != ' ' && b != '\t') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Hands the chunk's buffer to the channel in a single write, without copying it. */
+  private static void write(OutputStream out, ChunkResult result) throws IOException {
+    result.output().writeTo(out);
+  }
+
+  private static ChunkResult await(Future<ChunkResult> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Batch run was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (e.getCause() instanceof UncheckedIOException uncheckedIoException) {
+        throw uncheckedIoException.getCause();
+      }
+      throw new IllegalStateException("Batch chunk failed", e.getCause());
+    }
+  }
+
+  private static ThreadFactory workerThreadFactory() {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "batch-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** A line-aligned range of the input. */
+  record Chunk(long position, long length) {}
+
+  private record ChunkResult(ByteArrayOutputStream output, long records, long failures) {}
+}
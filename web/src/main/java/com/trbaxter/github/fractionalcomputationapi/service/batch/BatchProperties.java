@@ -0,0 +1,19 @@
+package com.trbaxter.github.fractionalcomputationapi.service.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * BatchProperties configures the command-line batch processor, bound from the {@code
+ * fractional-calculus.batch} properties.
+ *
+ * @param threads worker threads evaluating chunks; 0 uses one per processor.
+ * @param chunkSize the target size of a chunk of input; chunks end at the next line break.
+ * @param chunksInFlight chunks read ahead of the writer per worker, bounding buffered output.
+ */
+@ConfigurationProperties("fractional-calculus.batch")
+public record BatchProperties(
+    @DefaultValue("0") int threads,
+    @DefaultValue("4MB") DataSize chunkSize,
+    @DefaultValue("2") int chunksInFlight) {}
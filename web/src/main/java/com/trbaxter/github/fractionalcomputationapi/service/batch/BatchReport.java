@@ -0,0 +1,35 @@
+package com.trbaxter.github.fractionalcomputationapi.service.batch;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * BatchReport summarizes a batch run.
+ *
+ * @param records the records evaluated.
+ * @param failures the records whose result is an error.
+ * @param bytesRead the size of the input.
+ * @param elapsed the wall-clock time of the run.
+ */
+public record BatchReport(long records, long failures, long bytesRead, Duration elapsed) {
+
+  public double recordsPerSecond() {
+    return records / seconds();
+  }
+
+  public double megabytesPerSecond() {
+    return bytesRead / (1024.0 * 1024.0) / seconds();
+  }
+
+  private double seconds() {
+    return Math.max(elapsed.toNanos(), 1) / 1e9;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        Locale.ROOT,
+        "%d records (%d failed) in %.3f s: %.0f records/s, %.1f MB/s",
+        records, failures, seconds(), recordsPerSecond(), megabytesPerSecond());
+  }
+}
@@ -0,0 +1,152 @@
+package com.trbaxter.github.fractionalcomputationapi.service.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import com.trbaxter.github.fractionalcomputationapi.exception.TooManyRequestsException;
+import com.trbaxter.github.fractionalcomputationapi.model.BulkRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.BulkResult;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegrationService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * BulkEvaluator evaluates the records of bulk computations, one NDJSON line at a time. Each record
+ * is validated and routed by its operator to the same service IndexController would use, and a
+ * failure is reported in the record's result with the message the single request would have
+ * received, so one bad record never aborts the rest.
+ */
+@Service
+public class BulkEvaluator {
+
+  private static final Consumer<ControllerRequest> NO_ADMISSION = request -> {};
+
+  private final Map<String, FractionalCalculusService> services;
+  private final Validator validator;
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter resultWriter;
+
+  @Autowired
+  public BulkEvaluator(
+      CaputoService caputoService,
+      RiemannService riemannService,
+      IntegrationService integrationService,
+      Validator validator,
+      ObjectMapper objectMapper) {
+    this(
+        Map.of(
+            "caputo", caputoService,
+            "riemann-liouville", riemannService,
+            "integral", integrationService),
+        validator,
+        objectMapper);
+  }
+
+  /** Creates an evaluator over the given services, keyed by operator. */
+  public BulkEvaluator(
+      Map<String, FractionalCalculusService> services,
+      Validator validator,
+      ObjectMapper objectMapper) {
+    this.services = services;
+    this.validator = validator;
+    this.objectMapper = objectMapper;
+    this.resultWriter =
+        objectMapper.writerFor(BulkResult.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
+  /**
+   * Parses and evaluates one NDJSON record.
+   *
+   * @param line the bytes of the record, without the line terminator.
+   * @param offset the index of the first byte of the record.
+   * @param length the number of bytes in the record.
+   * @return the result of the record.
+   */
+  public BulkResult evaluate(byte[] line, int offset, int length) {
+    return evaluate(line, offset, length, NO_ADMISSION);
+  }
+
+  /**
+   * Parses and evaluates one NDJSON record, passing it through an admission check once it has been
+   * validated.
+   *
+   * @param line the bytes of the record, without the line terminator.
+   * @param offset the index of the first byte of the record.
+   * @param length the number of bytes in the record.
+   * @param admission called with the validated request before it is computed; may throw
+   *     TooManyRequestsException to refuse the record.
+   * @return the result of the record.
+   */
+  public BulkResult evaluate(
+      byte[] line, int offset, int length, Consumer<ControllerRequest> admission) {
+    BulkRequest request;
+    try {
+      request = objectMapper.readValue(line, offset, length, BulkRequest.class);
+    } catch (IOException e) {
+      return BulkResult.failure("Bad Request: Malformed JSON record");
+    }
+    return evaluate(request, admission);
+  }
+
+  public BulkResult evaluate(BulkRequest request) {
+    return evaluate(request, NO_ADMISSION);
+  }
+
+  private BulkResult evaluate(BulkRequest request, Consumer<ControllerRequest> admission) {
+    FractionalCalculusService service =
+        request.operator() == null ? null : services.get(request.operator());
+    if (service == null) {
+      return BulkResult.failure("Bad Request: Unknown operator: " + request.operator());
+    }
+
+    ControllerRequest controllerRequest = request.toControllerRequest();
+    String violation =
+        validator.validate(controllerRequest).stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .findFirst()
+            .orElse(null);
+    if (violation != null) {
+      return BulkResult.failure("Validation Error: " + violation);
+    }
+
+    try {
+      admission.accept(controllerRequest);
+      return BulkResult.success(
+          service.evaluateExpression(
+              controllerRequest.getPolynomialExpression(),
+              controllerRequest.getOrder(),
+              controllerRequest.getPrecision()));
+    } catch (BadRequestException e) {
+      return BulkResult.failure("Bad Request: " + e.getMessage());
+    } catch (ServiceUnavailableException e) {
+      return BulkResult.failure("Service Unavailable: " + e.getMessage());
+    } catch (TooManyRequestsException e) {
+      return BulkResult.failure("Too Many Requests: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Writes a result as one NDJSON line, including the trailing newline. The stream is left open.
+   *
+   * @param result the result to write.
+   * @param out the stream to write to.
+   * @throws IOException if writing to the stream fails.
+   */
+  public void writeLine(BulkResult result, OutputStream out) throws IOException {
+    resultWriter.writeValue(out, result);
+    out.write('\n');
+  }
+}
@@ -0,0 +1,19 @@
+package com.trbaxter.github.fractionalcomputationapi.service.bulk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * BulkProperties configures the NDJSON bulk endpoint, bound from the {@code
+ * fractional-calculus.bulk} properties.
+ *
+ * @param threads worker threads evaluating records of all bulk requests; 0 uses one per processor.
+ * @param window the most records of one request read ahead of the oldest unwritten result.
+ * @param maxLineLength the longest record accepted; longer records are answered with an error.
+ */
+@ConfigurationProperties("fractional-calculus.bulk")
+public record BulkProperties(
+    @DefaultValue("0") int threads,
+    @DefaultValue("64") int window,
+    @DefaultValue("1MB") DataSize maxLineLength) {}
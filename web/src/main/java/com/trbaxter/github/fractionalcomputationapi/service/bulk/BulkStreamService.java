@@ -0,0 +1,262 @@
+package com.trbaxter.github.fractionalcomputationapi.service.bulk;
+
+import com.trbaxter.github.fractionalcomputationapi.model.BulkResult;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * BulkStreamService evaluates a stream of NDJSON records into a stream of NDJSON results, one
+ * result line per non-blank record and in the same order.<br>
+ * Records are read one line at a time and evaluated on a shared worker pool. At most {@code window}
+ * records of a stream are in flight: once the window is full, reading stops until the oldest
+ * result has been written, so a large upload is never read ahead of a slow client and memory per
+ * stream stays bounded. Results are flushed whenever the writer is about to wait.<br>
+ * The status of the response is committed with its first line, so a stream that cannot be
+ * finished still ends with a line: if the input fails to read, the results of the records read so
+ * far are followed by an error line, and if evaluation itself breaks down, an error line is written
+ * in place of the remaining results.
+ */
+@Service
+public class BulkStreamService {
+
+  private static final Logger logger = LoggerFactory.getLogger(BulkStreamService.class);
+
+  private final BulkEvaluator evaluator;
+  private final int window;
+  private final int maxLineLength;
+  private final ExecutorService workers;
+
+  @Autowired
+  public BulkStreamService(BulkEvaluator evaluator, BulkProperties properties) {
+    this.evaluator = evaluator;
+    this.window = Math.max(properties.window(), 1);
+    this.maxLineLength = (int) Math.min(properties.maxLineLength().toBytes(), Integer.MAX_VALUE);
+
+    int threads =
+        properties.threads() > 0
+            ? properties.threads()
+            : Runtime.getRuntime().availableProcessors();
+    this.workers = Executors.newFixedThreadPool(threads, namedThreads("bulk-"));
+  }
+
+  /**
+   * Evaluates every record of the input and writes the results to the output as they complete.
+   *
+   * @param in the NDJSON records.
+   * @param out the stream the NDJSON results are written to; it is flushed but not closed.
+   * @param admission called with each validated request before it is computed.
+   * @throws IOException if writing the output fails.
+   */
+  public void process(InputStream in, OutputStream out, Consumer<ControllerRequest> admission)
+      throws IOException {
+    Deque<Future<BulkResult>> pending = new ArrayDeque<>();
+    LineReader reader = new LineReader(in, maxLineLength);
+
+    try {
+      byte[] line;
+      while ((line = reader.next()) != null) {
+        if (pending.size() == window) {
+          out.flush();
+          writeResult(pending.removeFirst(), out);
+        }
+
+        pending.addLast(submit(line, reader.lastLength(), reader.lastTruncated(), admission));
+        writeCompleted(pending, out);
+      }
+
+      while (!pending.isEmpty()) {
+        writeCompleted(pending, out);
+        if (!pending.isEmpty()) {
+          out.flush();
+          writeResult(pending.removeFirst(), out);
+        }
+      }
+
+      if (reader.failure() != null) {
+        logger.warn("Bulk request body could not be read: {}", reader.failure().getMessage());
+        evaluator.writeLine(BulkResult.failure("Bad Request: Request body could not be read"), out);
+      }
+      out.flush();
+    } catch (InterruptedIOException | RuntimeException e) {
+      logger.warn("Bulk request did not complete", e);
+      evaluator.writeLine(
+          BulkResult.failure("Internal Server Error: Bulk request did not complete"), out);
+      out.flush();
+    } finally {
+      pending.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private Future<BulkResult> submit(
+      byte[] line, int length, boolean truncated, Consumer<ControllerRequest> admission) {
+    if (truncated) {
+      return CompletableFuture.completedFuture(
+          BulkResult.failure(
+              "Bad Request: Record exceeds the maximum length of " + maxLineLength + " bytes"));
+    }
+    byte[] record = Arrays.copyOf(line, length);
+    return workers.submit(() -> evaluator.evaluate(record, 0, record.length, admission));
+  }
+
+  /** Writes the results at the head of the window that are already complete, in order. */
+  private void writeCompleted(Deque<Future<BulkResult>> pending, OutputStream out)
+      throws IOException {
+    while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+      writeResult(pending.removeFirst(), out);
+    }
+  }
+
+  private void writeResult(Future<BulkResult> future, OutputStream out) throws IOException {
+    evaluator.writeLine(await(future), out);
+  }
+
+  private static BulkResult await(Future<BulkResult> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Bulk request was interrupted");
+    } catch (CancellationException e) {
+      throw new InterruptedIOException("Bulk request was cancelled");
+    } catch (ExecutionException e) {
+      return BulkResult.failure("Internal Server Error: " + e.getCause().getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    workers.shutdownNow();
+  }
+
+  private static ThreadFactory namedThreads(String prefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Reads non-blank lines from a stream into a reused buffer, without a trailing carriage return.
+   * A line longer than the limit is consumed and reported as truncated. A stream that fails to read
+   * ends the lines, and the failure is kept for the caller.
+   */
+  static final class LineReader {
+
+    private final InputStream in;
+    private final int maxLength;
+    private final byte[] chunk = new byte[8192];
+    private int chunkPosition;
+    private int chunkLimit;
+    private byte[] line = new byte[256];
+    private int length;
+    private boolean truncated;
+    private IOException failure;
+
+    LineReader(InputStream in, int maxLength) {
+      this.in = in;
+      this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the buffer holding the next non-blank line, or null at the end of the stream or once
+     * it has failed to read. A partial line before a failure is discarded.
+     */
+    byte[] next() {
+      try {
+        while (readLine()) {
+          if (truncated || !isBlank()) {
+            return line;
+          }
+        }
+      } catch (IOException e) {
+        failure = e;
+      }
+      return null;
+    }
+
+    /** Returns the failure that ended the stream, or null if it ended normally. */
+    IOException failure() {
+      return failure;
+    }
+
+    int lastLength() {
+      return length;
+    }
+
+    boolean lastTruncated() {
+      return truncated;
+    }
+
+    private boolean readLine() throws IOException {
+      if (failure != null) {
+        return false;
+      }
+      length = 0;
+      truncated = false;
+      boolean read = false;
+
+      while (true) {
+        if (chunkPosition == chunkLimit) {
+          chunkLimit = in.read(chunk);
+          chunkPosition = 0;
+          if (chunkLimit <= 0) {
+            chunkLimit = 0;
+            return read;
+          }
+        }
+        read = true;
+
+        byte b = chunk[chunkPosition++];
+        if (b == '\n') {
+          if (length > 0 && line[length - 1] == '\r') {
+            length--;
+          }
+          return true;
+        }
+        append(b);
+      }
+    }
+
+    private void append(byte b) {
+      if (length == maxLength) {
+        truncated = true;
+        return;
+      }
+      if (length == line.length) {
+        line = Arrays.copyOf(line, Math.min(line.length * 2, maxLength));
+      }
+      line[length++] = b;
+    }
+
+    private boolean isBlank() {
+      for (int i = 0; i < length; i++) {
+        if (line[i] != ' ' && line[i] != '\t' && line[i] != '\r') {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
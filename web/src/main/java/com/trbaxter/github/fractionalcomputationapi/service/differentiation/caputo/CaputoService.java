@@ -0,0 +1,114 @@
+package com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo;
+
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.ExpressionWriter;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionController;
+import com.trbaxter.github.fractionalcomputationapi.service.metrics.ComputationMetrics;
+import java.math.BigDecimal;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * CaputoService computes the Caputo fractional derivative of a polynomial expression.<br>
+ * It uses the CaputoComputationService to compute the terms and the CaputoFormattingService<br>
+ * to format the result.
+ */
+@Service
+public class CaputoService implements FractionalCalculusService {
+
+  private static final String OPERATOR = "caputo";
+
+  private final CaputoComputationService computationService;
+  private final CaputoFormattingService formattingService;
+  private final AdmissionController admissionController;
+  private final ComputationMetrics metrics;
+
+  @Autowired
+  public CaputoService(
+      CaputoComputationService computationService,
+      CaputoFormattingService formattingService,
+      AdmissionController admissionController,
+      ComputationMetrics metrics) {
+    this.computationService = computationService;
+    this.formattingService = formattingService;
+    this.admissionController = admissionController;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns a service computing with this one's dependencies, but admitting requests through the
+   * given admission controller.
+   */
+  public CaputoService withAdmission(AdmissionController admissionController) {
+    return new CaputoService(computationService, formattingService, admissionController, metrics);
+  }
+
+  @Override
+  public String evaluateExpression(String polynomialExpression, double alpha, Integer precision) {
+    List<Term> terms = parseTerms(polynomialExpression, alpha, precision);
+    try (AdmissionController.Permit permit =
+        admissionController.admit(terms, alpha, precision)) {
+      List<Term> computedTerms = computeTerms(terms, alpha, precision);
+      return metrics.recordFormat(
+          OPERATOR,
+          alpha,
+          precision,
+          computedTerms,
+          () -> formattingService.formatTerms(computedTerms, precision));
+    }
+  }
+
+  @Override
+  public List<FormattedTerm> evaluateTerms(
+      String polynomialExpression, double alpha, Integer precision) {
+    List<Term> terms = parseTerms(polynomialExpression, alpha, precision);
+    try (AdmissionController.Permit permit =
+        admissionController.admit(terms, alpha, precision)) {
+      List<Term> computedTerms = computeTerms(terms, alpha, precision);
+      return metrics.recordFormat(
+          OPERATOR,
+          alpha,
+          precision,
+          computedTerms,
+          () -> formattingService.structureTerms(computedTerms, precision));
+    }
+  }
+
+  /**
+   * The admission permit covers computation only; streamed formatting is paced by the client and
+   * runs after the permit is returned.
+   */
+  @Override
+  public ExpressionWriter streamExpression(
+      String polynomialExpression, double alpha, Integer precision) {
+    List<Term> terms = parseTerms(polynomialExpression, alpha, precision);
+    List<Term> computedTerms;
+    try (AdmissionController.Permit permit =
+        admissionController.admit(terms, alpha, precision)) {
+      computedTerms = computeTerms(terms, alpha, precision);
+    }
+    return metrics.recordFormat(
+        OPERATOR,
+        alpha,
+        precision,
+        computedTerms,
+        writer -> formattingService.writeTerms(computedTerms, precision, writer));
+  }
+
+  private List<Term> parseTerms(String polynomialExpression, double alpha, int precision) {
+    return metrics.recordParse(
+        OPERATOR, alpha, precision, () -> parseExpression(polynomialExpression));
+  }
+
+  private List<Term> computeTerms(List<Term> terms, double alpha, int precision) {
+    return metrics.recordCompute(
+        OPERATOR,
+        alpha,
+        precision,
+        terms,
+        () -> computationService.computeTerms(terms, BigDecimal.valueOf(alpha)));
+  }
+}
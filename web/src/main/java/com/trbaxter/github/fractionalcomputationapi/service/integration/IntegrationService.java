@@ -0,0 +1,115 @@
+package com.trbaxter.github.fractionalcomputationapi.service.integration;
+
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.ExpressionWriter;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionController;
+import com.trbaxter.github.fractionalcomputationapi.service.metrics.ComputationMetrics;
+import java.math.BigDecimal;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * CaputoIntegrationService is a service that computes the Caputo fractional integral of a
+ * polynomial expression. It uses the CaputoIntegralComputationService to compute the terms and the
+ * CaputoIntegralFormattingService to format the result.
+ */
+@Service
+public class IntegrationService implements FractionalCalculusService {
+
+  private static final String OPERATOR = "integral";
+
+  private final IntegralComputationService termComputationService;
+  private final IntegralFormattingService termFormattingService;
+  private final AdmissionController admissionController;
+  private final ComputationMetrics metrics;
+
+  @Autowired
+  public IntegrationService(
+      IntegralComputationService termComputationService,
+      IntegralFormattingService termFormattingService,
+      AdmissionController admissionController,
+      ComputationMetrics metrics) {
+    this.termComputationService = termComputationService;
+    this.termFormattingService = termFormattingService;
+    this.admissionController = admissionController;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns a service computing with this one's dependencies, but admitting requests through the
+   * given admission controller.
+   */
+  public IntegrationService withAdmission(AdmissionController admissionController) {
+    return new IntegrationService(
+        termComputationService, termFormattingService, admissionController, metrics);
+  }
+
+  @Override
+  public String evaluateExpression(String polynomialExpression, double alpha, Integer precision) {
+    List<Term> terms = parseTerms(polynomialExpression, alpha, precision);
+    try (AdmissionController.Permit permit =
+        admissionController.admit(terms, alpha, precision)) {
+      List<Term> computedTerms = computeTerms(terms, alpha, precision);
+      return metrics.recordFormat(
+          OPERATOR,
+          alpha,
+          precision,
+          computedTerms,
+          () -> termFormattingService.formatTerms(computedTerms, alpha, precision));
+    }
+  }
+
+  @Override
+  public List<FormattedTerm> evaluateTerms(
+      String polynomialExpression, double alpha, Integer precision) {
+    List<Term> terms = parseTerms(polynomialExpression, alpha, precision);
+    try (AdmissionController.Permit permit =
+        admissionController.admit(terms, alpha, precision)) {
+      List<Term> computedTerms = computeTerms(terms, alpha, precision);
+      return metrics.recordFormat(
+          OPERATOR,
+          alpha,
+          precision,
+          computedTerms,
+          () -> termFormattingService.structureTerms(computedTerms, alpha, precision));
+    }
+  }
+
+  /**
+   * The admission permit covers computation only; streamed formatting is paced by the client and
+   * runs after the permit is returned.
+   */
+  @Override
+  public ExpressionWriter streamExpression(
+      String polynomialExpression, double alpha, Integer precision) {
+    List<Term> terms = parseTerms(polynomialExpression, alpha, precision);
+    List<Term> computedTerms;
+    try (AdmissionController.Permit permit =
+        admissionController.admit(terms, alpha, precision)) {
+      computedTerms = computeTerms(terms, alpha, precision);
+    }
+    return metrics.recordFormat(
+        OPERATOR,
+        alpha,
+        precision,
+        computedTerms,
+        writer -> termFormattingService.writeTerms(computedTerms, alpha, precision, writer));
+  }
+
+  private List<Term> parseTerms(String polynomialExpression, double alpha, int precision) {
+    return metrics.recordParse(
+        OPERATOR, alpha, precision, () -> parseExpression(polynomialExpression));
+  }
+
+  private List<Term> computeTerms(List<Term> terms, double alpha, int precision) {
+    return metrics.recordCompute(
+        OPERATOR,
+        alpha,
+        precision,
+        terms,
+        () -> termComputationService.computeTerms(terms, BigDecimal.valueOf(alpha)));
+  }
+}
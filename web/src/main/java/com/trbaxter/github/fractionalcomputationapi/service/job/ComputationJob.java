@@ -0,0 +1,143 @@
+package com.trbaxter.github.fractionalcomputationapi.service.job;
+
+import com.trbaxter.github.fractionalcomputationapi.model.JobStatus;
+import com.trbaxter.github.fractionalcomputationapi.model.JobView;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ComputationJob holds the state of one asynchronous computation. Transitions and subscriptions
+ * are synchronized, so every listener sees the current state first and then each later transition
+ * exactly once, in order.<br>
+ * Listeners are not called under the job's lock, nor on the thread making the transition. Each
+ * transition queues a notification holding the new view and the listeners at that moment, and the
+ * job's notifications are delivered one at a time on the notifier. A listener writing to a slow
+ * client therefore delays only the events of its job, never the computation.
+ */
+final class ComputationJob {
+
+  private static final Logger logger = LoggerFactory.getLogger(ComputationJob.class);
+
+  private final String id;
+  private final String operation;
+  private final Instant submittedAt;
+  private final Executor notifier;
+  private final List<Consumer<JobView>> listeners = new ArrayList<>();
+  private final Queue<Notification> notifications = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingNotifications = new AtomicInteger();
+
+  private JobStatus status = JobStatus.QUEUED;
+  private Instant startedAt;
+  private Instant completedAt;
+  private String result;
+  private String error;
+
+  ComputationJob(String id, String operation, Instant submittedAt, Executor notifier) {
+    this.id = id;
+    this.operation = operation;
+    this.submittedAt = submittedAt;
+    this.notifier = notifier;
+  }
+
+  String getId() {
+    return id;
+  }
+
+  synchronized JobView view() {
+    return new JobView(id, operation, status, submittedAt, startedAt, completedAt, error);
+  }
+
+  synchronized Optional<String> result() {
+    return Optional.ofNullable(result);
+  }
+
+  synchronized void start(Instant now) {
+    startedAt = now;
+    transition(JobStatus.COMPUTING);
+  }
+
+  synchronized void formatting() {
+    transition(JobStatus.FORMATTING);
+  }
+
+  synchronized void succeed(String result, Instant now) {
+    this.result = result;
+    completedAt = now;
+    transition(JobStatus.SUCCEEDED);
+  }
+
+  synchronized void fail(String error, Instant now) {
+    this.error = error;
+    completedAt = now;
+    transition(JobStatus.FAILED);
+  }
+
+  /** Whether the job finished longer than the time to live ago. */
+  synchronized boolean isExpired(Instant now, Duration ttl) {
+    return completedAt != null && completedAt.plus(ttl).isBefore(now);
+  }
+
+  /**
+   * Sends the current state to the listener, then every later transition until the job finishes.
+   *
+   * @return an action that removes the listener.
+   */
+  synchronized Runnable subscribe(Consumer<JobView> listener) {
+    notifyLater(List.of(listener), view());
+    if (!status.isTerminal()) {
+      listeners.add(listener);
+    }
+    return () -> unsubscribe(listener);
+  }
+
+  private synchronized void unsubscribe(Consumer<JobView> listener) {
+    listeners.remove(listener);
+  }
+
+  private void transition(JobStatus next) {
+    status = next;
+    notifyLater(List.copyOf(listeners), view());
+    if (next.isTerminal()) {
+      listeners.clear();
+    }
+  }
+
+  /**
+   * Queues a notification, called with the lock held so notifications queue in transition order.
+   * Only the caller that finds the queue empty schedules delivery, so at most one delivery runs.
+   */
+  private void notifyLater(List<Consumer<JobView>> targets, JobView view) {
+    if (targets.isEmpty()) {
+      return;
+    }
+    notifications.add(new Notification(targets, view));
+    if (pendingNotifications.getAndIncrement() == 0) {
+      notifier.execute(this::deliverNotifications);
+    }
+  }
+
+  private void deliverNotifications() {
+    do {
+      Notification notification = notifications.remove();
+      for (Consumer<JobView> listener : notification.targets()) {
+        try {
+          listener.accept(notification.view());
+        } catch (RuntimeException e) {
+          logger.warn("Listener of job {} failed: ", id, e);
+        }
+      }
+    } while (pendingNotifications.decrementAndGet() > 0);
+  }
+
+  private record Notification(List<Consumer<JobView>> targets, JobView view) {}
+}
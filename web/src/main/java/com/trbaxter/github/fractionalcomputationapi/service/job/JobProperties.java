@@ -0,0 +1,30 @@
+package com.trbaxter.github.fractionalcomputationapi.service.job;
+
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionLimits;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * JobProperties configures the asynchronous job API, bound from the {@code
+ * fractional-calculus.jobs} properties.
+ *
+ * @param threads the worker threads running jobs; 0 uses one per available processor.
+ * @param queueCapacity the most jobs waiting for a worker before submissions are refused.
+ * @param maxJobs the most jobs, running or finished, held in memory at once.
+ * @param resultTtl how long a finished job and its result are kept.
+ * @param sseTimeout the longest a progress event stream is held open.
+ * @param eventThreads the most platform threads delivering job events to subscribers; unused on
+ *     virtual threads, where each delivery has a thread of its own.
+ * @param admission the caps and in-flight budget of jobs, separate from those of requests. A job
+ *     waits on its worker for budget rather than failing, so the queue timeout does not apply.
+ */
+@ConfigurationProperties("fractional-calculus.jobs")
+public record JobProperties(
+    @DefaultValue("0") int threads,
+    @DefaultValue("100") int queueCapacity,
+    @DefaultValue("1000") int maxJobs,
+    @DefaultValue("10m") Duration resultTtl,
+    @DefaultValue("5m") Duration sseTimeout,
+    @DefaultValue("16") int eventThreads,
+    @DefaultValue AdmissionLimits admission) {}
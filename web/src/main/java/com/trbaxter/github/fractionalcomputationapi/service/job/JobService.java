@@ -0,0 +1,277 @@
+package com.trbaxter.github.fractionalcomputationapi.service.job;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.NotFoundException;
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.JobView;
+import com.trbaxter.github.fractionalcomputationapi.service.ExpressionWriter;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionController;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegrationService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * JobService runs computations asynchronously for requests too expensive to answer within a
+ * single HTTP exchange. Jobs run on a bounded worker pool separate from the request threads, are
+ * held in memory, and are evicted once they have been finished for longer than the result TTL.<br>
+ * A job produces the plain expression through the streaming path of the existing services, so its
+ * compute and format stages are reported separately. It stays queued while its worker waits for
+ * computation budget, and is reported as computing only once admitted.<br>
+ * Job events are delivered on a pool of at most {@code eventThreads} threads, or on a virtual
+ * thread per delivery when {@code spring.threads.virtual.enabled} is set.
+ */
+@Service
+public class JobService {
+
+  private static final Logger logger = LoggerFactory.getLogger(JobService.class);
+
+  /** Suggested wait for a client whose submission was refused because the service is full. */
+  private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+  private final Map<String, FractionalCalculusService> services;
+  private final JobProperties properties;
+  private final Clock clock;
+  private final ConcurrentMap<String, ComputationJob> jobs = new ConcurrentHashMap<>();
+  private final ThreadPoolExecutor workers;
+  private final ExecutorService notifier;
+  private final ScheduledExecutorService evictor;
+
+  @Autowired
+  public JobService(
+      CaputoService caputoService,
+      RiemannService riemannService,
+      IntegrationService integrationService,
+      JobProperties properties,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this(
+        jobServices(
+            caputoService,
+            riemannService,
+            integrationService,
+            AdmissionController.waitingForBudget(properties.admission())),
+        properties,
+        Clock.systemUTC(),
+        virtualThreads);
+  }
+
+  JobService(
+      Map<String, FractionalCalculusService> services,
+      JobProperties properties,
+      Clock clock,
+      boolean virtualThreads) {
+    this.services = services;
+    this.properties = properties;
+    this.clock = clock;
+
+    int threads =
+        properties.threads() > 0
+            ? properties.threads()
+            : Runtime.getRuntime().availableProcessors();
+    this.workers =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            namedThreads("job-worker-"));
+    this.notifier =
+        virtualThreads ? virtualNotifier() : platformNotifier(properties.eventThreads());
+
+    long sweepMillis = Math.max(properties.resultTtl().toMillis() / 2, 1000);
+    this.evictor = Executors.newSingleThreadScheduledExecutor(namedThreads("job-evictor-"));
+    this.evictor.scheduleWithFixedDelay(
+        this::evictExpired, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Queues a computation and returns immediately.
+   *
+   * @param operation the operation name: caputo, riemann-liouville or integral.
+   * @param request the validated request.
+   * @return the queued job.
+   * @throws BadRequestException if the operation is unknown.
+   * @throws ServiceUnavailableException if the job store or the queue is full.
+   */
+  public JobView submit(String operation, ControllerRequest request) {
+    FractionalCalculusService service = services.get(operation);
+    if (service == null) {
+      throw new BadRequestException("Unknown operation: " + operation);
+    }
+
+    if (jobs.size() >= properties.maxJobs()) {
+      evictExpired();
+      if (jobs.size() >= properties.maxJobs()) {
+        throw new ServiceUnavailableException("Too many jobs are held.", RETRY_AFTER);
+      }
+    }
+
+    ComputationJob job =
+        new ComputationJob(UUID.randomUUID().toString(), operation, clock.instant(), notifier);
+    jobs.put(job.getId(), job);
+    JobView queued = job.view();
+
+    try {
+      workers.execute(() -> run(job, service, request));
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.getId());
+      throw new ServiceUnavailableException("The job queue is full.", RETRY_AFTER);
+    }
+    return queued;
+  }
+
+  /**
+   * Returns the current state of a job.
+   *
+   * @throws NotFoundException if the job is unknown or has been evicted.
+   */
+  public JobView status(String id) {
+    return find(id).view();
+  }
+
+  /**
+   * Returns the plain expression computed by a job, empty until the job has succeeded.
+   *
+   * @throws NotFoundException if the job is unknown or has been evicted.
+   */
+  public Optional<String> result(String id) {
+    return find(id).result();
+  }
+
+  /**
+   * Sends the current state of a job to the listener, followed by each later stage. Events are
+   * delivered on a job event thread, never on the caller's thread or a worker.
+   *
+   * @return an action that removes the listener.
+   * @throws NotFoundException if the job is unknown or has been evicted.
+   */
+  public Runnable subscribe(String id, Consumer<JobView> listener) {
+    return find(id).subscribe(listener);
+  }
+
+  public Duration getSseTimeout() {
+    return properties.sseTimeout();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    workers.shutdownNow();
+    notifier.shutdownNow();
+    evictor.shutdownNow();
+  }
+
+  private ComputationJob find(String id) {
+    ComputationJob job = jobs.get(id);
+    if (job == null || job.isExpired(clock.instant(), properties.resultTtl())) {
+      throw new NotFoundException("No job with id " + id);
+    }
+    return job;
+  }
+
+  private void run(
+      ComputationJob job, FractionalCalculusService service, ControllerRequest request) {
+    try {
+      ExpressionWriter expression =
+          AdmissionController.whenAdmitted(
+              () -> job.start(clock.instant()),
+              () ->
+                  service.streamExpression(
+                      request.getPolynomialExpression(),
+                      request.getOrder(),
+                      request.getPrecision()));
+
+      job.formatting();
+      StringWriter writer = new StringWriter();
+      expression.writeTo(writer);
+      job.succeed(writer.toString(), clock.instant());
+    } catch (BadRequestException e) {
+      job.fail("Bad Request: " + e.getMessage(), clock.instant());
+    } catch (ServiceUnavailableException e) {
+      job.fail("Service Unavailable: " + e.getMessage(), clock.instant());
+    } catch (IOException | RuntimeException e) {
+      logger.error("Job {} failed: ", job.getId(), e);
+      job.fail("Internal Server Error", clock.instant());
+    }
+  }
+
+  /**
+   * Jobs are admitted against their own limits, so they neither take budget from requests nor
+   * fail when the request budget is exhausted.
+   */
+  private static Map<String, FractionalCalculusService> jobServices(
+      CaputoService caputoService,
+      RiemannService riemannService,
+      IntegrationService integrationService,
+      AdmissionController admissionController) {
+    return Map.of(
+        "caputo", caputoService.withAdmission(admissionController),
+        "riemann-liouville", riemannService.withAdmission(admissionController),
+        "integral", integrationService.withAdmission(admissionController));
+  }
+
+  void evictExpired() {
+    jobs.values().removeIf(job -> job.isExpired(clock.instant(), properties.resultTtl()));
+  }
+
+  /**
+   * Delivers job events on a virtual thread each, so an event stream blocked on a slow client
+   * holds no platform thread.
+   */
+  private static ExecutorService virtualNotifier() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-events-", 1).factory());
+  }
+
+  /**
+   * Delivers job events on at most the given platform threads. A job's events are delivered one at
+   * a time, so a slow client delays other jobs' events only once every thread is taken.
+   */
+  private static ExecutorService platformNotifier(int threads) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            namedThreads("job-events-"));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static ThreadFactory namedThreads(String prefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,241 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.ExpressionWriter;
+import com.trbaxter.github.fractionalcomputationapi.utils.MathUtils;
+import com.trbaxter.github.fractionalcomputationapi.utils.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * ComputationMetrics records the stages of a computation in Micrometer:
+ *
+ * <ul>
+ *   <li>{@code fractional.calculus.parse}, {@code .compute} and {@code .format} time the parsing of
+ *       the expression, the computation of the terms and their formatting;
+ *   <li>{@code fractional.calculus.terms} counts the parsed terms;
+ *   <li>{@code fractional.calculus.gamma.evaluations} counts the gamma function evaluations made
+ *       while computing terms.
+ * </ul>
+ *
+ * Timers and both counters are tagged with the operator and whether the order is an integer or
+ * fractional, since the two take different code paths. Meters are created once per tag combination
+ * and then reused.<br>
+ * The recordParse, recordCompute and recordFormat methods also emit a JDK Flight Recorder event per
+ * stage (ParseEvent, ComputeEvent and FormatEvent) carrying the operator, order, precision and term
+ * count, so a recording shows which stage of which request was slow.
+ */
+@Component
+public class ComputationMetrics {
+
+  /** The stages of a computation, each with its own timer and Server-Timing entry. */
+  public enum Stage {
+    PARSE("parse", RequestTimings.Stage.PARSE),
+    COMPUTE("compute", RequestTimings.Stage.COMPUTE),
+    FORMAT("format", RequestTimings.Stage.FORMAT);
+
+    private final String label;
+    private final RequestTimings.Stage timing;
+
+    Stage(String label, RequestTimings.Stage timing) {
+      this.label = label;
+      this.timing = timing;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+  }
+
+  private final MeterRegistry registry;
+  private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<MeterKey, Counter> termCounters = new ConcurrentHashMap<>();
+  private final Map<MeterKey, Counter> gammaCounters = new ConcurrentHashMap<>();
+
+  @Autowired
+  public ComputationMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Runs one stage of a computation and records its duration, whether or not it succeeds. The
+   * duration is also added to the thread's RequestTimings, when a request has opened one.
+   *
+   * @param stage the stage being run.
+   * @param operator the operator, e.g. {@code caputo}.
+   * @param alpha the order of the operation.
+   * @param work the stage itself.
+   * @return the result of the stage.
+   */
+  public <T> T record(Stage stage, String operator, double alpha, Supplier<T> work) {
+    if (RequestTimings.current() == null) {
+      return timer(stage, operator, alpha).record(work);
+    }
+
+    long start = System.nanoTime();
+    try {
+      return timer(stage, operator, alpha).record(work);
+    } finally {
+      RequestTimings.recordSince(stage.timing, start);
+    }
+  }
+
+  /**
+   * Runs the parse stage, recording its duration and counting the parsed terms.
+   *
+   * @param operator the operator, e.g. {@code caputo}.
+   * @param alpha the order of the operation.
+   * @param precision the number of decimal places of the result.
+   * @param parse the parsing of the expression.
+   * @return the parsed terms.
+   */
+  public List<Term> recordParse(
+      String operator, double alpha, int precision, Supplier<List<Term>> parse) {
+    ParseEvent event = new ParseEvent();
+    event.begin();
+    List<Term> terms = record(Stage.PARSE, operator, alpha, parse);
+    event.complete(operator, alpha, precision, terms.size());
+    countTerms(operator, alpha, terms.size());
+    return terms;
+  }
+
+  /**
+   * Runs the compute stage, recording its duration and the gamma evaluations it made. Terms are
+   * computed on the calling thread, so its own evaluation count attributes them to this request.
+   *
+   * @param operator the operator, e.g. {@code caputo}.
+   * @param alpha the order of the operation.
+   * @param precision the number of decimal places of the result.
+   * @param terms the parsed terms.
+   * @param compute the computation of the terms.
+   * @return the computed terms.
+   */
+  public List<Term> recordCompute(
+      String operator,
+      double alpha,
+      int precision,
+      List<Term> terms,
+      Supplier<List<Term>> compute) {
+    ComputeEvent event = new ComputeEvent();
+    event.begin();
+    long gammaEvaluations = MathUtils.gammaEvaluations();
+    List<Term> computedTerms;
+    try {
+      computedTerms = record(Stage.COMPUTE, operator, alpha, compute);
+    } finally {
+      counter(
+              gammaCounters,
+              "fractional.calculus.gamma.evaluations",
+              "Gamma function evaluations while computing terms",
+              operator,
+              alpha)
+          .increment(MathUtils.gammaEvaluations() - gammaEvaluations);
+    }
+    event.computedTerms = computedTerms.size();
+    event.complete(operator, alpha, precision, terms.size());
+    return computedTerms;
+  }
+
+  /**
+   * Runs the format stage, recording its duration.
+   *
+   * @param operator the operator, e.g. {@code caputo}.
+   * @param alpha the order of the operation.
+   * @param precision the number of decimal places of the result.
+   * @param terms the computed terms being formatted.
+   * @param format the formatting of the terms.
+   * @return the formatted result.
+   */
+  public <T> T recordFormat(
+      String operator, double alpha, int precision, List<Term> terms, Supplier<T> format) {
+    FormatEvent event = new FormatEvent();
+    event.begin();
+    T result = record(Stage.FORMAT, operator, alpha, format);
+    event.complete(operator, alpha, precision, terms.size());
+    return result;
+  }
+
+  /**
+   * Wraps a deferred formatting stage so that its duration is recorded when it is written.
+   *
+   * @param operator the operator, e.g. {@code caputo}.
+   * @param alpha the order of the operation.
+   * @param precision the number of decimal places of the result.
+   * @param terms the computed terms being formatted.
+   * @param writer the deferred formatting.
+   * @return a writer recording the format stage.
+   */
+  public ExpressionWriter recordFormat(
+      String operator, double alpha, int precision, List<Term> terms, ExpressionWriter writer) {
+    Timer timer = timer(Stage.FORMAT, operator, alpha);
+    return out -> {
+      FormatEvent event = new FormatEvent();
+      event.begin();
+      long start = System.nanoTime();
+      try {
+        writer.writeTo(out);
+      } finally {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        event.complete(operator, alpha, precision, terms.size());
+      }
+    };
+  }
+
+  /**
+   * Counts the terms of a parsed expression.
+   *
+   * @param operator the operator, e.g. {@code caputo}.
+   * @param alpha the order of the operation.
+   * @param terms the number of terms parsed.
+   */
+  public void countTerms(String operator, double alpha, int terms) {
+    counter(
+            termCounters,
+            "fractional.calculus.terms",
+            "Terms of parsed polynomial expressions",
+            operator,
+            alpha)
+        .increment(terms);
+  }
+
+  private Counter counter(
+      Map<MeterKey, Counter> counters,
+      String name,
+      String description,
+      String operator,
+      double alpha) {
+    return counters.computeIfAbsent(
+        new MeterKey(null, operator, isIntegerOrder(alpha)),
+        key -> Counter.builder(name).description(description).tags(tags(key)).register(registry));
+  }
+
+  private Timer timer(Stage stage, String operator, double alpha) {
+    return timers.computeIfAbsent(
+        new MeterKey(stage, operator, isIntegerOrder(alpha)),
+        key ->
+            Timer.builder("fractional.calculus." + key.stage().getLabel())
+                .description("Duration of the " + key.stage().getLabel() + " stage")
+                .tags(tags(key))
+                .register(registry));
+  }
+
+  private static String[] tags(MeterKey key) {
+    return new String[] {
+      "operator", key.operator(), "order", key.integer() ? "integer" : "fractional"
+    };
+  }
+
+  private static boolean isIntegerOrder(double alpha) {
+    return alpha == Math.rint(alpha);
+  }
+
+  private record MeterKey(Stage stage, String operator, boolean integer) {}
+}
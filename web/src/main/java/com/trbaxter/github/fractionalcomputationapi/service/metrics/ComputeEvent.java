@@ -0,0 +1,15 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** ComputeEvent records the computation of the terms of a derivative or integral. */
+@Name("fractionalcalculus.Compute")
+@Label("Compute")
+@Description("Computation of the terms of a fractional derivative or integral")
+class ComputeEvent extends StageEvent {
+
+  @Label("Computed Terms")
+  int computedTerms;
+}
@@ -0,0 +1,217 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import com.trbaxter.github.fractionalcomputationapi.service.RequestCoalescer;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionController;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegralFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * EngineMetrics exports the counters kept by the engine's caches and load controls to Micrometer.
+ * The counters stay in the components that maintain them and are read only when the registry is
+ * scraped:
+ *
+ * <ul>
+ *   <li>{@code fractional.calculus.admission.requests}, tagged {@code outcome} {@code admitted},
+ *       {@code rejected} (over a per-request cap) or {@code shed} (budget exhausted), counts the
+ *       decisions of the AdmissionController; {@code fractional.calculus.admission.in.flight.cost}
+ *       gauges the estimated cost computing;
+ *   <li>{@code fractional.calculus.rate.limit.requests}, tagged {@code outcome} {@code allowed} or
+ *       {@code throttled}, counts the decisions of the ClientRateLimiter; {@code
+ *       fractional.calculus.rate.limit.clients} gauges the clients it tracks;
+ *   <li>{@code fractional.calculus.coalescing.executions} counts computations run by the
+ *       RequestCoalescer, {@code .coalesced} callers served by an identical computation already in
+ *       flight, and {@code .timeouts} callers that gave up waiting for one; {@code .in.flight}
+ *       gauges the computations running;
+ *   <li>{@code fractional.calculus.integral.constants.cache.gets}, tagged {@code result} {@code
+ *       hit} or {@code miss}, counts lookups of the constants of an integer order of integration;
+ *   <li>{@code fractional.calculus.integral.constants.cache.evictions} counts constants evicted to
+ *       keep the cache within its bound;
+ *   <li>{@code fractional.calculus.integral.constants.cache.size} and {@code .characters} gauge the
+ *       entries and rendered characters cached.
+ * </ul>
+ */
+@Component
+public class EngineMetrics implements MeterBinder {
+
+  private static final String ADMISSION = "fractional.calculus.admission";
+  private static final String RATE_LIMIT = "fractional.calculus.rate.limit";
+  private static final String COALESCING = "fractional.calculus.coalescing";
+  private static final String CONSTANTS_CACHE = "fractional.calculus.integral.constants.cache";
+
+  private final AdmissionController admissionController;
+  private final ClientRateLimiter clientRateLimiter;
+  private final RequestCoalescer requestCoalescer;
+  private final IntegralFormattingService integralFormattingService;
+
+  @Autowired
+  public EngineMetrics(
+      AdmissionController admissionController,
+      ClientRateLimiter clientRateLimiter,
+      RequestCoalescer requestCoalescer,
+      IntegralFormattingService integralFormattingService) {
+    this.admissionController = admissionController;
+    this.clientRateLimiter = clientRateLimiter;
+    this.requestCoalescer = requestCoalescer;
+    this.integralFormattingService = integralFormattingService;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    bindAdmission(registry);
+    bindRateLimit(registry);
+    bindCoalescing(registry);
+    bindConstantsCache(registry);
+  }
+
+  private void bindAdmission(MeterRegistry registry) {
+    counter(
+        registry,
+        ADMISSION + ".requests",
+        "Admission decisions",
+        admissionController,
+        admission -> admission.stats().admitted(),
+        "outcome",
+        "admitted");
+    counter(
+        registry,
+        ADMISSION + ".requests",
+        "Admission decisions",
+        admissionController,
+        admission -> admission.stats().rejected(),
+        "outcome",
+        "rejected");
+    counter(
+        registry,
+        ADMISSION + ".requests",
+        "Admission decisions",
+        admissionController,
+        admission -> admission.stats().shed(),
+        "outcome",
+        "shed");
+    gauge(
+        registry,
+        ADMISSION + ".in.flight.cost",
+        "Estimated cost of the requests computing",
+        admissionController,
+        admission -> admission.stats().inFlightCost());
+  }
+
+  private void bindRateLimit(MeterRegistry registry) {
+    counter(
+        registry,
+        RATE_LIMIT + ".requests",
+        "Rate limiting decisions",
+        clientRateLimiter,
+        limiter -> limiter.stats().allowed(),
+        "outcome",
+        "allowed");
+    counter(
+        registry,
+        RATE_LIMIT + ".requests",
+        "Rate limiting decisions",
+        clientRateLimiter,
+        limiter -> limiter.stats().throttled(),
+        "outcome",
+        "throttled");
+    gauge(
+        registry,
+        RATE_LIMIT + ".clients",
+        "Clients tracked by the rate limiter",
+        clientRateLimiter,
+        limiter -> limiter.stats().clients());
+  }
+
+  private void bindCoalescing(MeterRegistry registry) {
+    counter(
+        registry,
+        COALESCING + ".executions",
+        "Computations run by the request coalescer",
+        requestCoalescer,
+        coalescer -> coalescer.stats().executions());
+    counter(
+        registry,
+        COALESCING + ".coalesced",
+        "Requests served by an identical computation in flight",
+        requestCoalescer,
+        coalescer -> coalescer.stats().coalesced());
+    counter(
+        registry,
+        COALESCING + ".timeouts",
+        "Requests that timed out waiting for an identical computation",
+        requestCoalescer,
+        coalescer -> coalescer.stats().timeouts());
+    gauge(
+        registry,
+        COALESCING + ".in.flight",
+        "Computations in flight in the request coalescer",
+        requestCoalescer,
+        coalescer -> coalescer.stats().inFlight());
+  }
+
+  private void bindConstantsCache(MeterRegistry registry) {
+    counter(
+        registry,
+        CONSTANTS_CACHE + ".gets",
+        "Lookups of constants of integration",
+        integralFormattingService,
+        service -> service.cacheStats().hits(),
+        "result",
+        "hit");
+    counter(
+        registry,
+        CONSTANTS_CACHE + ".gets",
+        "Lookups of constants of integration",
+        integralFormattingService,
+        service -> service.cacheStats().misses(),
+        "result",
+        "miss");
+    counter(
+        registry,
+        CONSTANTS_CACHE + ".evictions",
+        "Constants of integration evicted from the cache",
+        integralFormattingService,
+        service -> service.cacheStats().evictions());
+    gauge(
+        registry,
+        CONSTANTS_CACHE + ".size",
+        "Constants of integration cached",
+        integralFormattingService,
+        service -> service.cacheStats().entries());
+    gauge(
+        registry,
+        CONSTANTS_CACHE + ".characters",
+        "Characters of rendered constants of integration cached",
+        integralFormattingService,
+        service -> service.cacheStats().characters());
+  }
+
+  private static <T> void counter(
+      MeterRegistry registry,
+      String name,
+      String description,
+      T source,
+      ToDoubleFunction<T> count,
+      String... tags) {
+    FunctionCounter.builder(name, source, count)
+        .description(description)
+        .tags(tags)
+        .register(registry);
+  }
+
+  private static <T> void gauge(
+      MeterRegistry registry,
+      String name,
+      String description,
+      T source,
+      ToDoubleFunction<T> value,
+      String... tags) {
+    Gauge.builder(name, source, value).description(description).tags(tags).register(registry);
+  }
+}
@@ -0,0 +1,175 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * FlightRecordingEndpoint controls a JDK Flight Recorder recording of the running instance, so it
+ * can be profiled without attaching external tools. It is exposed as {@code /actuator/jfr}:
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/jfr} reports the state of the recording;
+ *   <li>{@code POST /actuator/jfr/start} starts a recording;
+ *   <li>{@code POST /actuator/jfr/dump} writes the events recorded so far to a file, leaving the
+ *       recording running;
+ *   <li>{@code POST /actuator/jfr/stop} stops the recording and writes it to a file.
+ * </ul>
+ *
+ * Files are written to the configured directory on the instance's own file system, and their path
+ * is returned. At most one recording runs at a time; it keeps the events of the last {@code
+ * max-age}, up to {@code max-size}. Only the newest {@code max-files} dumps are kept, so repeated
+ * dumps cannot fill the disk. The stage events of ComputationMetrics are recorded along with the
+ * JDK's own.<br>
+ * The endpoint is only exposed by the local and dev profiles.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+  private static final String RECORDING_NAME = "fractional-calculus";
+  private static final DateTimeFormatter FILE_TIMESTAMP =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+  private final FlightRecordingProperties properties;
+  private final Path directory;
+
+  private Recording recording;
+
+  @Autowired
+  public FlightRecordingEndpoint(FlightRecordingProperties properties) {
+    this.properties = properties;
+    this.directory =
+        properties.directory() == null || properties.directory().toString().isEmpty()
+            ? Path.of(System.getProperty("java.io.tmpdir"))
+            : properties.directory();
+  }
+
+  /**
+   * The state of a recording.
+   *
+   * @param state the recording state, or {@code NONE} if no recording was started.
+   * @param started when the recording started, or null.
+   * @param file the file just written by a dump or stop, or null.
+   */
+  public record Status(String state, Instant started, String file) {}
+
+  @ReadOperation
+  public synchronized Status status() {
+    return status(null);
+  }
+
+  @WriteOperation
+  public synchronized Status control(@Selector String action) {
+    return switch (action) {
+      case "start" -> start();
+      case "dump" -> status(dump(running()));
+      case "stop" -> stop();
+      default -> throw new InvalidEndpointRequestException(
+          "Unknown action: " + action, "Unknown action");
+    };
+  }
+
+  private Status start() {
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      throw new InvalidEndpointRequestException(
+          "A recording is already running.", "Recording running");
+    }
+
+    Recording started = new Recording(configuration());
+    started.setName(RECORDING_NAME);
+    started.setToDisk(true);
+    started.setMaxAge(properties.maxAge());
+    started.setMaxSize(properties.maxSize().toBytes());
+    started.start();
+
+    if (recording != null) {
+      recording.close();
+    }
+    recording = started;
+    return status(null);
+  }
+
+  private Status stop() {
+    Recording running = running();
+    running.stop();
+    Path file = dump(running);
+    Status status = status(file);
+    running.close();
+    recording = null;
+    return status;
+  }
+
+  private Recording running() {
+    if (recording == null || recording.getState() != RecordingState.RUNNING) {
+      throw new InvalidEndpointRequestException(
+          "No recording is running.", "No recording running");
+    }
+    return recording;
+  }
+
+  private Path dump(Recording source) {
+    Path file =
+        directory.resolve(RECORDING_NAME + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+    try {
+      Files.createDirectories(directory);
+      source.dump(file);
+      deleteOldDumps();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write the recording to " + file, e);
+    }
+    return file.toAbsolutePath();
+  }
+
+  /** Deletes all but the newest max-files dumps; timestamped names sort oldest first. */
+  private void deleteOldDumps() throws IOException {
+    List<Path> dumps;
+    try (Stream<Path> files = Files.list(directory)) {
+      dumps =
+          files
+              .filter(file -> file.getFileName().toString().startsWith(RECORDING_NAME + "-"))
+              .filter(file -> file.getFileName().toString().endsWith(".jfr"))
+              .sorted()
+              .toList();
+    }
+    for (Path old : dumps.subList(0, Math.max(dumps.size() - properties.maxFiles(), 0))) {
+      Files.deleteIfExists(old);
+    }
+  }
+
+  private Configuration configuration() {
+    try {
+      return Configuration.getConfiguration(properties.settings());
+    } catch (IOException | ParseException e) {
+      throw new IllegalStateException(
+          "Could not load the JFR settings " + properties.settings(), e);
+    }
+  }
+
+  private Status status(Path file) {
+    if (recording == null) {
+      return new Status("NONE", null, file != null ? file.toString() : null);
+    }
+    return new Status(
+        recording.getState().name(),
+        recording.getStartTime(),
+        file != null ? file.toString() : null);
+  }
+}
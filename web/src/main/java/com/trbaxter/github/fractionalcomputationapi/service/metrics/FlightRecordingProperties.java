@@ -0,0 +1,25 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * FlightRecordingProperties configures the recordings started through the {@code jfr} actuator
+ * endpoint, bound from the {@code fractional-calculus.jfr} properties.
+ *
+ * @param directory where recordings are dumped; the system temporary directory when unset.
+ * @param settings the JFR settings the recording uses, {@code default} or {@code profile}.
+ * @param maxAge the longest span of events kept by a running recording.
+ * @param maxSize the most event data kept by a running recording.
+ * @param maxFiles the most dumps kept in the directory; older ones are deleted.
+ */
+@ConfigurationProperties("fractional-calculus.jfr")
+public record FlightRecordingProperties(
+    Path directory,
+    @DefaultValue("profile") String settings,
+    @DefaultValue("10m") Duration maxAge,
+    @DefaultValue("256MB") DataSize maxSize,
+    @DefaultValue("5") int maxFiles) {}
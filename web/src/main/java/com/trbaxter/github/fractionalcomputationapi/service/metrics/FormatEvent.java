@@ -0,0 +1,14 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * FormatEvent records the formatting of computed terms into a result. For a streamed result it
+ * spans the writing of the response body.
+ */
+@Name("fractionalcalculus.Format")
+@Label("Format")
+@Description("Formatting of computed terms into an expression or structured result")
+class FormatEvent extends StageEvent {}
@@ -0,0 +1,11 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** ParseEvent records the parsing of a polynomial expression; terms is the number parsed. */
+@Name("fractionalcalculus.Parse")
+@Label("Parse")
+@Description("Parsing of a polynomial expression into terms")
+class ParseEvent extends StageEvent {}
@@ -0,0 +1,43 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * StageEvent is the base of the JDK Flight Recorder events for the stages of a computation. The
+ * event duration is the duration of the stage; the fields describe the computation it belongs to.
+ * Stack traces are not recorded, as every event of a type is emitted from the same place.
+ */
+@Category("Fractional Calculus")
+@StackTrace(false)
+abstract class StageEvent extends Event {
+
+  @Label("Operator")
+  String operator;
+
+  @Label("Order")
+  double order;
+
+  @Label("Precision")
+  int precision;
+
+  @Label("Terms")
+  int terms;
+
+  /**
+   * Ends the event and commits it if it is enabled and over its threshold; the fields are only
+   * filled in when it is.
+   */
+  void complete(String operator, double order, int precision, int terms) {
+    end();
+    if (shouldCommit()) {
+      this.operator = operator;
+      this.order = order;
+      this.precision = precision;
+      this.terms = terms;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package com.trbaxter.github.fractionalcomputationapi.service.ratelimit;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * ClientRateLimiter gives every client its own token bucket, so one client cannot consume all of
+ * the service's capacity. A request takes tokens equal to its estimated cost; a client whose bucket
+ * holds too few tokens is refused with the time until enough will have been refilled.<br>
+ * Buckets are updated with compare-and-set on an immutable state, so the limiter never blocks.
+ * Idle buckets are evicted by a periodic sweep rather than on the request path. Once the most
+ * clients are tracked, new clients share a single overflow bucket until the sweep frees room, so
+ * presenting ever new client ids earns no further tokens.
+ */
+@Service
+public class ClientRateLimiter {
+
+  private static final Logger logger = LoggerFactory.getLogger(ClientRateLimiter.class);
+
+  private final RateLimitProperties properties;
+  private final LongSupplier nanoClock;
+  private final double refillPerNano;
+  private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final TokenBucket overflow;
+  private final ScheduledExecutorService evictor;
+
+  private final LongAdder allowed = new LongAdder();
+  private final LongAdder throttled = new LongAdder();
+
+  @Autowired
+  public ClientRateLimiter(RateLimitProperties properties) {
+    this(properties, System::nanoTime);
+  }
+
+  ClientRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+    this.properties = properties;
+    this.nanoClock = nanoClock;
+    this.refillPerNano = properties.refillPerSecond() / (double) TimeUnit.SECONDS.toNanos(1);
+    this.overflow = new TokenBucket(nanoClock.getAsLong());
+
+    long sweepMillis = Math.max(properties.evictionInterval().toMillis(), 1);
+    this.evictor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "rate-limit-evictor");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.evictor.scheduleWithFixedDelay(
+        this::evictIdle, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Identifies the client of a request.
+   *
+   * @param headerValue the value of the configured client header, may be null.
+   * @param remoteAddress the remote address of the connection.
+   * @return the header value when present, otherwise the remote address.
+   */
+  public String clientId(String headerValue, String remoteAddress) {
+    return headerValue == null || headerValue.isBlank() ? remoteAddress : headerValue.strip();
+  }
+
+  public String getClientHeader() {
+    return properties.clientHeader();
+  }
+
+  /**
+   * Takes tokens for a request from the client's bucket. A cost above the bucket capacity is
+   * charged as a full bucket, so any single request can eventually pass.
+   *
+   * @param clientId the client identity.
+   * @param cost the estimated cost of the request.
+   * @throws TooManyRequestsException if the bucket holds too few tokens.
+   */
+  public void acquire(String clientId, long cost) {
+    if (!properties.enabled()) {
+      return;
+    }
+
+    long now = nanoClock.getAsLong();
+    long tokens = Math.min(Math.max(cost, 1), properties.capacity());
+    long waitNanos = bucket(clientId, now).tryConsume(tokens, now);
+
+    if (waitNanos == 0) {
+      allowed.increment();
+      return;
+    }
+
+    throttled.increment();
+    Duration retryAfter = Duration.ofSeconds(Math.max(1, ceilSeconds(waitNanos)));
+    logger.debug("Rate limiting client {} for {}s", clientId, retryAfter.toSeconds());
+    throw new TooManyRequestsException("Rate limit exceeded for this client.", retryAfter);
+  }
+
+  /** Returns a snapshot of the rate limiting counters. */
+  public Stats stats() {
+    return new Stats(allowed.sum(), throttled.sum(), buckets.size());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    evictor.shutdownNow();
+  }
+
+  /** Evicts the buckets that have refilled completely, whose clients have been idle. */
+  void evictIdle() {
+    long now = nanoClock.getAsLong();
+    buckets.values().removeIf(bucket -> bucket.isFull(now));
+  }
+
+  private TokenBucket bucket(String clientId, long now) {
+    TokenBucket bucket = buckets.get(clientId);
+    if (bucket != null) {
+      return bucket;
+    }
+    if (buckets.size() >= properties.maxClients()) {
+      return overflow;
+    }
+    return buckets.computeIfAbsent(clientId, id -> new TokenBucket(now));
+  }
+
+  private static long ceilSeconds(long nanos) {
+    long nanosPerSecond = TimeUnit.SECONDS.toNanos(1);
+    return (nanos + nanosPerSecond - 1) / nanosPerSecond;
+  }
+
+  /** A bucket holding fractional tokens, refilled lazily from the time of its last update. */
+  private final class TokenBucket {
+    private final AtomicReference<State> state;
+
+    private TokenBucket(long now) {
+      state = new AtomicReference<>(new State(properties.capacity(), now));
+    }
+
+    /** Consumes tokens if available; otherwise returns the nanoseconds until they will be. */
+    private long tryConsume(long tokens, long now) {
+      while (true) {
+        State current = state.get();
+        double available = refill(current, now);
+
+        if (available < tokens) {
+          return (long) Math.ceil((tokens - available) / refillPerNano);
+        }
+        if (state.compareAndSet(current, new State(available - tokens, now))) {
+          return 0;
+        }
+      }
+    }
+
+    private boolean isFull(long now) {
+      return refill(state.get(), now) >= properties.capacity();
+    }
+
+    private double refill(State current, long now) {
+      long elapsed = Math.max(0, now - current.updatedAt());
+      return Math.min(properties.capacity(), current.tokens() + elapsed * refillPerNano);
+    }
+  }
+
+  private record State(double tokens, long updatedAt) {}
+
+  /** Rate limiting counters: requests allowed, requests throttled and clients tracked. */
+  public record Stats(long allowed, long throttled, int clients) {}
+}
@@ -0,0 +1,29 @@
+package com.trbaxter.github.fractionalcomputationapi.service.ratelimit;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * RateLimitProperties configures the per-client token buckets of the ClientRateLimiter, bound from
+ * the {@code fractional-calculus.rate-limit} properties. Token amounts are in the cost units of the
+ * CostEstimator.
+ *
+ * @param enabled whether requests are rate limited at all.
+ * @param clientHeader the header identifying a client; the remote address is used without it. The
+ *     header is taken at its word, so it must be set or overwritten by a trusted gateway: a client
+ *     free to choose it can present a new id, and with it a full bucket, on every request.
+ * @param capacity the most tokens a bucket holds, i.e. the largest burst a client may send.
+ * @param refillPerSecond the tokens added to each bucket per second.
+ * @param maxClients the most clients with a bucket of their own; further clients share one bucket
+ *     until idle buckets are evicted.
+ * @param evictionInterval how often idle (full) buckets are evicted.
+ */
+@ConfigurationProperties("fractional-calculus.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("X-Client-Id") String clientHeader,
+    @DefaultValue("5000000") long capacity,
+    @DefaultValue("1000000") long refillPerSecond,
+    @DefaultValue("10000") int maxClients,
+    @DefaultValue("10s") Duration evictionInterval) {}
@@ -0,0 +1,76 @@
+package com.trbaxter.github.fractionalcomputationapi.service.tracing;
+
+import com.trbaxter.github.fractionalcomputationapi.utils.DiagnosticTrace;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * DiagnosticTraceFilter opens a DiagnosticTrace for requests that send the opt-in header with the
+ * value {@code true}, and for a sampled fraction of the others. The trace id is returned in the
+ * same header so the traced lines can be found in the log. Tracing follows the request thread;
+ * asynchronous jobs and bulk records evaluated on worker threads are not traced.<br>
+ * Opting in lets any client multiply the log volume of its requests, so the prod profile disables
+ * it and relies on sampling alone.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DiagnosticTraceFilter extends OncePerRequestFilter {
+
+  private final String optInHeader;
+  private final boolean optInEnabled;
+  private final double sampleRate;
+  private final DoubleSupplier random;
+
+  @Autowired
+  public DiagnosticTraceFilter(
+      @Value("${fractional-calculus.tracing.opt-in-header:X-Diagnostic-Trace}") String optInHeader,
+      @Value("${fractional-calculus.tracing.opt-in-enabled:true}") boolean optInEnabled,
+      @Value("${fractional-calculus.tracing.sample-rate:0}") double sampleRate) {
+    this(optInHeader, optInEnabled, sampleRate, () -> ThreadLocalRandom.current().nextDouble());
+  }
+
+  DiagnosticTraceFilter(
+      String optInHeader, boolean optInEnabled, double sampleRate, DoubleSupplier random) {
+    this.optInHeader = optInHeader;
+    this.optInEnabled = optInEnabled;
+    this.sampleRate = sampleRate;
+    this.random = random;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    if (!isTraced(request)) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    String traceId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    if (!optInHeader.isEmpty()) {
+      response.setHeader(optInHeader, traceId);
+    }
+    try (DiagnosticTrace.Scope ignored = DiagnosticTrace.begin(traceId)) {
+      chain.doFilter(request, response);
+    }
+  }
+
+  private boolean isTraced(HttpServletRequest request) {
+    if (optInEnabled
+        && !optInHeader.isEmpty()
+        && "true".equalsIgnoreCase(request.getHeader(optInHeader))) {
+      return true;
+    }
+    return sampleRate > 0 && random.getAsDouble() < sampleRate;
+  }
+}
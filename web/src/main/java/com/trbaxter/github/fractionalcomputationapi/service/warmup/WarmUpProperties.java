@@ -0,0 +1,29 @@
+package com.trbaxter.github.fractionalcomputationapi.service.warmup;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * WarmUpProperties configures the warm-up run before the application reports itself ready, bound
+ * from the {@code fractional-calculus.warm-up} properties. Every expression of the corpus is
+ * evaluated at every order and precision, round after round, until the duration has elapsed or the
+ * rounds are exhausted.
+ *
+ * @param enabled whether to warm up before accepting traffic.
+ * @param duration the longest the warm-up may run.
+ * @param rounds the most passes over the corpus; 0 runs until the duration has elapsed.
+ * @param corpus the polynomial expressions to evaluate.
+ * @param orders the orders to evaluate each expression at.
+ * @param precisions the precisions to evaluate each expression at.
+ */
+@ConfigurationProperties("fractional-calculus.warm-up")
+public record WarmUpProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10s") Duration duration,
+    @DefaultValue("0") int rounds,
+    @DefaultValue({"3x^2 + 2x + 1", "-4.27x^3 + 2.016x - 7", "x^(1.5) - x^(-0.5) + 12"})
+        List<String> corpus,
+    @DefaultValue({"0.5", "1", "1.79", "3"}) List<Double> orders,
+    @DefaultValue({"3", "10"}) List<Integer> precisions) {}
@@ -0,0 +1,124 @@
+package com.trbaxter.github.fractionalcomputationapi.service.warmup;
+
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegrationService;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * WarmUpRunner drives the warm-up corpus through all three services at startup, so the parser,
+ * the gamma evaluations and the formatters are compiled by the JIT before real traffic arrives.
+ * <br>
+ * It runs as an ApplicationRunner and holds the readiness state at REFUSING_TRAFFIC until it has
+ * finished; Spring Boot only reports the application ready, and the readiness probe only succeeds,
+ * once every runner has returned. The enabled flag is read at runtime rather than used as a bean
+ * condition, so the warm-up can also be switched on for an AOT-processed build.
+ */
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+
+  private final List<FractionalCalculusService> services;
+  private final WarmUpProperties properties;
+  private final ApplicationEventPublisher eventPublisher;
+  private final LongSupplier nanoClock;
+
+  @Autowired
+  public WarmUpRunner(
+      CaputoService caputoService,
+      RiemannService riemannService,
+      IntegrationService integrationService,
+      WarmUpProperties properties,
+      ApplicationEventPublisher eventPublisher) {
+    this(
+        List.of(caputoService, riemannService, integrationService),
+        properties,
+        eventPublisher,
+        System::nanoTime);
+  }
+
+  WarmUpRunner(
+      List<FractionalCalculusService> services,
+      WarmUpProperties properties,
+      ApplicationEventPublisher eventPublisher,
+      LongSupplier nanoClock) {
+    this.services = services;
+    this.properties = properties;
+    this.eventPublisher = eventPublisher;
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!properties.enabled()) {
+      return;
+    }
+
+    AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+    long start = nanoClock.getAsLong();
+    long deadline = start + properties.duration().toNanos();
+
+    int rounds = 0;
+    long evaluations = 0;
+    while (nanoClock.getAsLong() < deadline
+        && (properties.rounds() == 0 || rounds < properties.rounds())) {
+      evaluations += runRound(deadline);
+      rounds++;
+    }
+
+    logger.info(
+        "Warm-up finished: {} evaluations in {} rounds over {} ms",
+        evaluations,
+        rounds,
+        TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - start));
+  }
+
+  /** Evaluates the whole corpus once, stopping early at the deadline. */
+  private long runRound(long deadline) {
+    long evaluations = 0;
+    for (String expression : properties.corpus()) {
+      for (double order : properties.orders()) {
+        for (int precision : properties.precisions()) {
+          if (nanoClock.getAsLong() >= deadline) {
+            return evaluations;
+          }
+          for (FractionalCalculusService service : services) {
+            evaluate(service, expression, order, precision);
+            evaluations++;
+          }
+        }
+      }
+    }
+    return evaluations;
+  }
+
+  /**
+   * Exercises the plain, structured and streamed paths. A failing corpus entry is logged and
+   * skipped, since a warm-up problem should not stop the application from starting.
+   */
+  private static void evaluate(
+      FractionalCalculusService service, String expression, double order, int precision) {
+    try {
+      service.evaluateExpression(expression, order, precision);
+      service.evaluateTerms(expression, order, precision);
+      service.streamExpression(expression, order, precision).writeTo(Writer.nullWriter());
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Warm-up of '{}' at order {} failed: {}", expression, order, e.getMessage());
+    }
+  }
+}
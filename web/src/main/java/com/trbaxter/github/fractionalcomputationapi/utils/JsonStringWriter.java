@@ -0,0 +1,89 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * JsonStringWriter escapes everything written through it for use inside a JSON string literal.
+ * Runs of characters that need no escaping are passed to the underlying writer unchanged.
+ */
+public final class JsonStringWriter extends Writer {
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final Writer delegate;
+
+  public JsonStringWriter(Writer delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    int runStart = off;
+    int end = off + len;
+
+    for (int i = off; i < end; i++) {
+      char c = cbuf[i];
+      if (needsEscape(c)) {
+        delegate.write(cbuf, runStart, i - runStart);
+        writeEscaped(c);
+        runStart = i + 1;
+      }
+    }
+
+    delegate.write(cbuf, runStart, end - runStart);
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    int runStart = off;
+    int end = off + len;
+
+    for (int i = off; i < end; i++) {
+      char c = str.charAt(i);
+      if (needsEscape(c)) {
+        delegate.write(str, runStart, i - runStart);
+        writeEscaped(c);
+        runStart = i + 1;
+      }
+    }
+
+    delegate.write(str, runStart, end - runStart);
+  }
+
+  @Override
+  public Writer append(CharSequence csq) throws IOException {
+    String str = String.valueOf(csq);
+    write(str, 0, str.length());
+    return this;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    delegate.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    delegate.close();
+  }
+
+  private static boolean needsEscape(char c) {
+    return c < 0x20 || c == '"' || c == '\\';
+  }
+
+  private void writeEscaped(char c) throws IOException {
+    switch (c) {
+      case '"' -> delegate.write("\\\"");
+      case '\\' -> delegate.write("\\\\");
+      case '\n' -> delegate.write("\\n");
+      case '\r' -> delegate.write("\\r");
+      case '\t' -> delegate.write("\\t");
+      default -> {
+        delegate.write("\\u00");
+        delegate.write(HEX_DIGITS[c >> 4]);
+        delegate.write(HEX_DIGITS[c & 0xF]);
+      }
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.proto.ComputationRequest;
+import com.trbaxter.github.fractionalcomputationapi.proto.ErrorDetail;
+import com.trbaxter.github.fractionalcomputationapi.proto.Term;
+import com.trbaxter.github.fractionalcomputationapi.proto.TermsResult;
+import java.util.List;
+
+/**
+ * ProtobufMessages maps between the application/x-protobuf messages generated from
+ * {@code fractional_calculus.proto} and the model used by the controllers and services.<br>
+ * Fields are copied through the generated accessors and builders, so no reflection is involved.
+ */
+public final class ProtobufMessages {
+
+  /** Private constructor to prevent instantiation. */
+  private ProtobufMessages() {
+    throw new UnsupportedOperationException("Utility class for protobuf message mapping");
+  }
+
+  /**
+   * Converts a decoded request. Unset order and precision stay null, so they fail validation just
+   * as missing JSON fields do.
+   *
+   * @param message the decoded protobuf request.
+   * @return the equivalent ControllerRequest.
+   */
+  public static ControllerRequest toControllerRequest(ComputationRequest message) {
+    ControllerRequest request = new ControllerRequest();
+    request.setPolynomialExpression(message.getPolynomialExpression());
+    request.setOrder(message.hasOrder() ? message.getOrder() : null);
+    request.setPrecision(message.hasPrecision() ? message.getPrecision() : null);
+    return request;
+  }
+
+  /**
+   * Converts structured terms to the protobuf result.
+   *
+   * @param terms the formatted terms of a result.
+   * @return the protobuf TermsResult listing the same terms.
+   */
+  public static TermsResult toTermsResult(List<FormattedTerm> terms) {
+    TermsResult.Builder result = TermsResult.newBuilder();
+    Term.Builder term = Term.newBuilder();
+
+    for (FormattedTerm formattedTerm : terms) {
+      term.clear()
+          .setCoefficient(formattedTerm.coefficient())
+          .setValue(formattedTerm.value())
+          .setPower(formattedTerm.power().doubleValue())
+          .setExactPower(formattedTerm.power().toPlainString());
+      if (formattedTerm.constant() != null) {
+        term.setConstant(formattedTerm.constant());
+      }
+      result.addTerms(term.build());
+    }
+    return result.build();
+  }
+
+  /**
+   * Builds the protobuf error body.
+   *
+   * @param status the HTTP status code of the response.
+   * @param message the error message.
+   * @return the ErrorDetail message.
+   */
+  public static ErrorDetail toErrorDetail(int status, String message) {
+    return ErrorDetail.newBuilder().setStatus(status).setMessage(message).build();
+  }
+}
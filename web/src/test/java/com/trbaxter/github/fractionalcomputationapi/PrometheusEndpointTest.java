@@ -0,0 +1,82 @@
+package com.trbaxter.github.fractionalcomputationapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * PrometheusEndpointTest checks that a computation is reflected in the Prometheus scrape: the
+ * endpoint latency histogram, the stage timers, the term and gamma counters, and the counters of
+ * the engine's caches.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class PrometheusEndpointTest {
+
+  @Autowired private TestRestTemplate restTemplate;
+
+  @Test
+  void testComputationMetricsScraped() {
+    ResponseEntity<String> computation =
+        restTemplate.postForEntity(
+            "/fractional-calculus-computation-api/derivative/caputo",
+            Map.of("polynomialExpression", "3x^2 + 2x + 1", "order", 0.5, "precision", 3),
+            String.class);
+    assertEquals(200, computation.getStatusCode().value());
+    ResponseEntity<String> integral =
+        restTemplate.postForEntity(
+            "/fractional-calculus-computation-api/integral",
+            Map.of("polynomialExpression", "3x^2 + 2x + 1", "order", 2, "precision", 3),
+            String.class);
+    assertEquals(200, integral.getStatusCode().value());
+
+    String scrape = restTemplate.getForObject("/actuator/prometheus", String.class);
+
+    assertTrue(
+        scrape.contains(
+            "http_server_requests_seconds_bucket{error=\"none\",exception=\"none\","
+                + "method=\"POST\",outcome=\"SUCCESS\",status=\"200\","
+                + "uri=\"/fractional-calculus-computation-api/derivative/caputo\""));
+    for (String stage : new String[] {"parse", "compute", "format"}) {
+      assertTrue(
+          scrape.contains(
+              "fractional_calculus_" + stage
+                  + "_seconds_count{operator=\"caputo\",order=\"fractional\",} 1.0"),
+          stage);
+    }
+    assertTrue(
+        scrape.contains(
+            "fractional_calculus_terms_total{operator=\"caputo\",order=\"fractional\",} 3.0"));
+    assertTrue(
+        scrape.contains(
+            "fractional_calculus_gamma_evaluations_total"
+                + "{operator=\"caputo\",order=\"fractional\",}"));
+    assertTrue(
+        scrape.contains(
+            "fractional_calculus_integral_constants_cache_gets_total{result=\"miss\",}"));
+    assertTrue(scrape.contains("fractional_calculus_integral_constants_cache_size "));
+    assertTrue(
+        scrape.contains("fractional_calculus_admission_requests_total{outcome=\"admitted\",}"));
+    assertTrue(
+        scrape.contains("fractional_calculus_admission_requests_total{outcome=\"shed\",}"));
+    assertTrue(scrape.contains("fractional_calculus_admission_in_flight_cost "));
+    assertTrue(
+        scrape.contains("fractional_calculus_rate_limit_requests_total{outcome=\"allowed\",}"));
+    assertTrue(
+        scrape.contains("fractional_calculus_rate_limit_requests_total{outcome=\"throttled\",}"));
+    assertTrue(scrape.contains("fractional_calculus_rate_limit_clients "));
+    assertTrue(scrape.contains("fractional_calculus_coalescing_executions_total "));
+    assertTrue(scrape.contains("fractional_calculus_coalescing_coalesced_total "));
+    assertTrue(scrape.contains("fractional_calculus_coalescing_timeouts_total "));
+    assertTrue(scrape.contains("fractional_calculus_coalescing_in_flight "));
+  }
+}
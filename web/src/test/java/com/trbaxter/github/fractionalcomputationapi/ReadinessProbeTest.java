@@ -0,0 +1,53 @@
+package com.trbaxter.github.fractionalcomputationapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegrationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * ReadinessProbeTest checks that the warm-up runs through the services during startup and that the
+ * readiness probe reports the application ready once it has finished.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "fractional-calculus.warm-up.enabled=true",
+      "fractional-calculus.warm-up.rounds=1",
+      "fractional-calculus.warm-up.corpus=3x^2 + 2x + 1",
+      "fractional-calculus.warm-up.orders=0.5",
+      "fractional-calculus.warm-up.precisions=3"
+    })
+@ActiveProfiles("test")
+class ReadinessProbeTest {
+
+  @Autowired private TestRestTemplate restTemplate;
+  @Autowired private ApplicationAvailability availability;
+  @SpyBean private IntegrationService integrationService;
+
+  @Test
+  void testReadyAfterWarmUp() {
+    verify(integrationService, atLeastOnce())
+        .evaluateExpression(anyString(), anyDouble(), anyInt());
+
+    assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    assertEquals(
+        200,
+        restTemplate
+            .getForEntity("/actuator/health/readiness", String.class)
+            .getStatusCode()
+            .value());
+  }
+}
@@ -0,0 +1,32 @@
+package com.trbaxter.github.fractionalcomputationapi;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * VirtualThreadProfileTest checks that the virtual profile moves the application task executor,
+ * which runs streamed responses, onto virtual threads.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "virtual"})
+class VirtualThreadProfileTest {
+
+  @Autowired
+  @Qualifier("applicationTaskExecutor")
+  private AsyncTaskExecutor applicationTaskExecutor;
+
+  @Test
+  void testApplicationTaskExecutorUsesVirtualThreads() throws Exception {
+    CompletableFuture<Boolean> virtual =
+        applicationTaskExecutor.submitCompletable(() -> Thread.currentThread().isVirtual());
+
+    assertTrue(virtual.get());
+  }
+}
@@ -0,0 +1,148 @@
+package com.trbaxter.github.fractionalcomputationapi.benchmark;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * StartupTimeBenchmarkTest measures the time from launching the JVM to the first successful {@code
+ * POST /derivative/caputo}, once for the plain jar and once with Spring AOT and the AppCDS archive
+ * built by the {@code fast-startup} profile, and prints the results side by side.<br>
+ * Build the artifacts first with {@code mvn package -Pfast-startup -DskipTests}, then run {@code
+ * mvn test -Pload-benchmark -Dtest=StartupTimeBenchmarkTest}. The number of launches per mode is
+ * set with the system property {@code benchmark.startup.runs}.
+ */
+@Tag("benchmark")
+class StartupTimeBenchmarkTest {
+
+  private static final Path FAST_STARTUP_DIRECTORY = Path.of("target", "fast-startup");
+  private static final String ARCHIVE = "application.jsa";
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+  private static final String REQUEST =
+      "{\"polynomialExpression\": \"3x^3 - x + 12\", \"order\": 0.5, \"precision\": 5}";
+
+  private final int runs = Integer.getInteger("benchmark.startup.runs", 5);
+
+  @Test
+  void compareStartupModes() throws Exception {
+    Path jar = findJar();
+    Path archive = FAST_STARTUP_DIRECTORY.resolve(ARCHIVE);
+    assumeTrue(
+        jar != null && Files.exists(archive),
+        "Build the fast-startup artifacts with mvn package -Pfast-startup -DskipTests first");
+
+    long[] baseline = measure(jar, List.of());
+    long[] fastStartup =
+        measure(jar, List.of("-XX:SharedArchiveFile=" + ARCHIVE, "-Dspring.aot.enabled=true"));
+
+    System.out.printf("%nTime to first successful POST /derivative/caputo over %d runs%n", runs);
+    System.out.printf("%-14s %10s %10s %10s%n", "mode", "min ms", "median ms", "max ms");
+    print("plain", baseline);
+    print("aot + appcds", fastStartup);
+  }
+
+  private static Path findJar() throws IOException {
+    if (!Files.isDirectory(FAST_STARTUP_DIRECTORY)) {
+      return null;
+    }
+    try (Stream<Path> files = Files.list(FAST_STARTUP_DIRECTORY)) {
+      return files
+          .filter(file -> file.getFileName().toString().endsWith("-fast-startup.jar"))
+          .findFirst()
+          .orElse(null);
+    }
+  }
+
+  private long[] measure(Path jar, List<String> jvmOptions) throws Exception {
+    long[] millis = new long[runs];
+    for (int i = 0; i < runs; i++) {
+      millis[i] = timeToFirstResponse(jar, jvmOptions);
+    }
+    Arrays.sort(millis);
+    return millis;
+  }
+
+  private static long timeToFirstResponse(Path jar, List<String> jvmOptions) throws Exception {
+    int port = freePort();
+    List<String> command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(jvmOptions);
+    command.addAll(
+        List.of(
+            "-Dserver.port=" + port,
+            "-Dspring.profiles.active=test",
+            "-jar",
+            jar.getFileName().toString()));
+
+    HttpRequest request =
+        HttpRequest.newBuilder(
+                URI.create(
+                    "http://localhost:"
+                        + port
+                        + "/fractional-calculus-computation-api/derivative/caputo"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(REQUEST))
+            .build();
+
+    long start = System.nanoTime();
+    Process process =
+        new ProcessBuilder(command)
+            .directory(FAST_STARTUP_DIRECTORY.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+
+    try (HttpClient client = HttpClient.newHttpClient()) {
+      long deadline = start + STARTUP_TIMEOUT.toNanos();
+      while (System.nanoTime() < deadline) {
+        try {
+          if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+          }
+        } catch (ConnectException e) {
+          // Not listening yet.
+        }
+        if (!process.isAlive()) {
+          fail("The application exited with status " + process.exitValue());
+        }
+        Thread.sleep(5);
+      }
+      return fail("The application did not answer within " + STARTUP_TIMEOUT);
+    } finally {
+      process.destroy();
+      if (!process.waitFor(30, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static void print(String mode, long[] millis) {
+    System.out.printf(
+        "%-14s %10d %10d %10d%n",
+        mode, millis[0], millis[millis.length / 2], millis[millis.length - 1]);
+  }
+}
@@ -0,0 +1,250 @@
+package com.trbaxter.github.fractionalcomputationapi.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.trbaxter.github.fractionalcomputationapi.Main;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * ThreadModeLoadBenchmarkTest starts the application once on Tomcat platform threads and once on
+ * virtual threads, drives the same load against the existing endpoints in each mode, and prints
+ * throughput and latency percentiles side by side.<br>
+ * Two scenarios run in each mode. In {@code cpu}, every request has a body of its own, so the
+ * RequestCoalescer cannot merge them and each one is computed. In {@code slow-client}, clients
+ * send half of the body, pause, and then send the rest, so the request thread is blocked reading
+ * it; this is where the two thread modes differ.<br>
+ * It is excluded from the regular test run; use {@code mvn test -Pload-benchmark}. The load can be
+ * tuned with the system properties {@code benchmark.requests}, {@code benchmark.concurrency},
+ * {@code benchmark.warmup}, {@code benchmark.tomcat.max-threads}, {@code
+ * benchmark.slow-client.requests} and {@code benchmark.slow-client.pause-millis}.
+ */
+@Tag("benchmark")
+class ThreadModeLoadBenchmarkTest {
+
+  private static final String BASE_PATH = "/fractional-calculus-computation-api/";
+
+  private static final List<Endpoint> ENDPOINTS =
+      List.of(
+          new Endpoint("derivative/caputo", 0.5),
+          new Endpoint("derivative/riemann-liouville", 0.5),
+          new Endpoint("integral", 1.79));
+
+  private final int requests = Integer.getInteger("benchmark.requests", 20_000);
+  private final int concurrency = Integer.getInteger("benchmark.concurrency", 1_000);
+  private final int warmup = Integer.getInteger("benchmark.warmup", 5_000);
+  private final int tomcatMaxThreads = Integer.getInteger("benchmark.tomcat.max-threads", 200);
+  private final int slowClientRequests =
+      Integer.getInteger("benchmark.slow-client.requests", 5_000);
+  private final Duration slowClientPause =
+      Duration.ofMillis(Integer.getInteger("benchmark.slow-client.pause-millis", 200));
+
+  @Test
+  void compareThreadModes() throws Exception {
+    List<Report> reports = new ArrayList<>(run(false));
+    reports.addAll(run(true));
+
+    System.out.printf(
+        "%nLoad benchmark: %d cpu and %d slow-client requests (%d ms pause), %d concurrent clients,"
+            + " Tomcat max threads %d%n",
+        requests, slowClientRequests, slowClientPause.toMillis(), concurrency, tomcatMaxThreads);
+    System.out.printf(
+        "%-10s %-12s %12s %10s %10s %10s %10s%n",
+        "mode",
+        "scenario",
+        "req/s",
+        "p50 ms",
+        "p99 ms",
+        "max ms",
+        "errors");
+    reports.forEach(Report::print);
+  }
+
+  private List<Report> run(boolean virtualThreads) throws Exception {
+    String mode = virtualThreads ? "virtual" : "platform";
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(Main.class)
+            .properties(
+                "server.port=0",
+                "spring.profiles.active=test",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.threads.max=" + tomcatMaxThreads,
+                "logging.level.root=WARN",
+                "logging.level.com.trbaxter.github.fractionalcomputationapi=WARN")
+            .run()) {
+      int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+      URI baseUri = URI.create("http://localhost:" + port + BASE_PATH);
+
+      try (HttpClient client =
+          HttpClient.newBuilder()
+              .executor(Executors.newVirtualThreadPerTaskExecutor())
+              .connectTimeout(Duration.ofSeconds(10))
+              .build()) {
+        drive(client, baseUri, mode, "warm-up", warmup, Duration.ZERO);
+        List<Report> reports =
+            List.of(
+                drive(client, baseUri, mode, "cpu", requests, Duration.ZERO),
+                drive(client, baseUri, mode, "slow-client", slowClientRequests, slowClientPause));
+        reports.forEach(
+            report -> assertEquals(0, report.errors(), "Every benchmark request should succeed"));
+        return reports;
+      }
+    }
+  }
+
+  private Report drive(
+      HttpClient client, URI baseUri, String mode, String scenario, int count, Duration pause)
+      throws Exception {
+    long[] latencies = new long[count];
+    AtomicInteger errors = new AtomicInteger();
+    Semaphore inFlight = new Semaphore(concurrency);
+
+    long start = System.nanoTime();
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<?>[] futures = new Future<?>[count];
+      for (int i = 0; i < count; i++) {
+        int index = i;
+        inFlight.acquire();
+        futures[i] =
+            clients.submit(
+                () -> {
+                  try {
+                    latencies[index] = send(client, baseUri, index, pause, errors);
+                  } finally {
+                    inFlight.release();
+                  }
+                });
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+
+    Arrays.sort(latencies);
+    return new Report(mode, scenario, count * 1e9 / elapsed, latencies, errors.get());
+  }
+
+  private long send(
+      HttpClient client, URI baseUri, int index, Duration pause, AtomicInteger errors) {
+    Endpoint endpoint = ENDPOINTS.get(index % ENDPOINTS.size());
+    byte[] body = endpoint.body(index).getBytes(StandardCharsets.UTF_8);
+    HttpRequest.BodyPublisher publisher =
+        pause.isZero()
+            ? HttpRequest.BodyPublishers.ofByteArray(body)
+            : HttpRequest.BodyPublishers.ofInputStream(() -> new PausingBody(body, pause));
+    HttpRequest request =
+        HttpRequest.newBuilder(baseUri.resolve(endpoint.path()))
+            .header("Content-Type", "application/json")
+            .POST(publisher)
+            .build();
+
+    long start = System.nanoTime();
+    try {
+      HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+      if (response.statusCode() != 200) {
+        errors.incrementAndGet();
+      }
+    } catch (Exception e) {
+      errors.incrementAndGet();
+    }
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * An endpoint and the order sent to it. The body of each request differs in its coefficients
+   * and constant term, which keeps every request out of the coalescer.
+   */
+  private record Endpoint(String path, double order) {
+
+    private String body(int index) {
+      return String.format(
+          Locale.ROOT,
+          "{\"polynomialExpression\": \"%dx^3 - %dx + %d\", \"order\": %s, \"precision\": 5}",
+          1 + index % 97,
+          1 + index / 97 % 89,
+          index,
+          order);
+    }
+  }
+
+  /** A request body whose second half is only readable after a pause, as from a slow client. */
+  private static final class PausingBody extends InputStream {
+    private final byte[] body;
+    private final int pauseAt;
+    private final Duration pause;
+    private int position;
+
+    private PausingBody(byte[] body, Duration pause) {
+      this.body = body;
+      this.pauseAt = body.length / 2;
+      this.pause = pause;
+    }
+
+    @Override
+    public int read() throws InterruptedIOException {
+      byte[] single = new byte[1];
+      return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws InterruptedIOException {
+      if (position == body.length) {
+        return -1;
+      }
+      if (position == pauseAt) {
+        try {
+          Thread.sleep(pause);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException();
+        }
+      }
+      int end = position < pauseAt ? pauseAt : body.length;
+      int count = Math.min(length, end - position);
+      System.arraycopy(body, position, buffer, offset, count);
+      position += count;
+      return count;
+    }
+  }
+
+  private record Report(
+      String mode, String scenario, double throughput, long[] sortedLatencies, int errors) {
+
+    private double percentileMillis(double percentile) {
+      int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+      return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+
+    private void print() {
+      System.out.printf(
+          "%-10s %-12s %12.0f %10.2f %10.2f %10.2f %10d%n",
+          mode,
+          scenario,
+          throughput,
+          percentileMillis(0.50),
+          percentileMillis(0.99),
+          percentileMillis(1.0),
+          errors);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.trbaxter.github.fractionalcomputationapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.net.URI;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * CdsTrainingRunTest checks that the training requests of the fast-startup profile all succeed
+ * against a running application, and that the run stays inactive unless enabled.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CdsTrainingRunTest {
+
+  @LocalServerPort private int port;
+
+  @Test
+  void testTrainingRequestsSucceed() {
+    CdsTrainingRun trainingRun = new CdsTrainingRun(true, 1, code -> {});
+
+    URI baseUri = URI.create("http://localhost:" + port + "/fractional-calculus-computation-api/");
+    assertEquals(0, trainingRun.train(baseUri));
+  }
+
+  @Test
+  void testDisabledTrainingRunDoesNotExit() {
+    IntConsumer exit = mock(IntConsumer.class);
+    ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+
+    new CdsTrainingRun(false, 1, exit)
+        .onApplicationEvent(
+            new ApplicationReadyEvent(new SpringApplication(), new String[0], context, null));
+
+    verifyNoInteractions(exit, context);
+  }
+}
@@ -0,0 +1,90 @@
+package com.trbaxter.github.fractionalcomputationapi.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.service.bulk.BulkStreamService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * BulkControllerTest is a test class for the BulkController.<br>
+ * It uses MockMvc against a mocked BulkStreamService to test the NDJSON exchange and the rate
+ * limit charged per record.
+ */
+@WebMvcTest(BulkController.class)
+class BulkControllerTest {
+
+  private static final String BULK_URL = "/fractional-calculus-computation-api/bulk";
+
+  @Autowired private MockMvc mockMvc;
+  @MockBean private BulkStreamService bulkStreamService;
+  @MockBean private ClientRateLimiter clientRateLimiter;
+
+  @BeforeEach
+  public void setUp() {
+    when(clientRateLimiter.getClientHeader()).thenReturn("X-Client-Id");
+    when(clientRateLimiter.clientId("client-1", "127.0.0.1")).thenReturn("client-1");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testEvaluateBulk() throws Exception {
+    doAnswer(
+            invocation -> {
+              InputStream in = invocation.getArgument(0);
+              OutputStream out = invocation.getArgument(1);
+              Consumer<ControllerRequest> admission = invocation.getArgument(2);
+
+              ControllerRequest request = new ControllerRequest();
+              request.setPolynomialExpression("3x^2 + 2x + 1");
+              request.setOrder(0.5);
+              request.setPrecision(3);
+              admission.accept(request);
+
+              int records = new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n").length;
+              out.write(("{\"expression\":\"2x\"}\n".repeat(records)).getBytes());
+              return null;
+            })
+        .when(bulkStreamService)
+        .process(any(InputStream.class), any(OutputStream.class), any(Consumer.class));
+
+    mockMvc
+        .perform(
+            post(BULK_URL)
+                .header("X-Client-Id", "client-1")
+                .contentType("application/x-ndjson")
+                .content("{\"operator\":\"caputo\"}\n{\"operator\":\"integral\"}\n"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-ndjson"))
+        .andExpect(content().string("{\"expression\":\"2x\"}\n{\"expression\":\"2x\"}\n"));
+
+    verify(clientRateLimiter).acquire(eq("client-1"), anyLong());
+  }
+
+  @Test
+  void testRejectsJsonBody() throws Exception {
+    mockMvc
+        .perform(post(BULK_URL).contentType(MediaType.APPLICATION_JSON).content("[]"))
+        .andExpect(status().isUnsupportedMediaType())
+        .andExpect(
+            content().json("{\"expression\": \"Unsupported Media Type: application/json\"}"));
+  }
+}
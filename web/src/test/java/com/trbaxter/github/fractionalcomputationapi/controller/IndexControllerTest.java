@@ -0,0 +1,556 @@
+package com.trbaxter.github.fractionalcomputationapi.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trbaxter.github.fractionalcomputationapi.exception.TooManyRequestsException;
+import com.trbaxter.github.fractionalcomputationapi.model.ComputationKey;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.ResultFormat;
+import com.trbaxter.github.fractionalcomputationapi.proto.ComputationRequest;
+import com.trbaxter.github.fractionalcomputationapi.proto.ErrorDetail;
+import com.trbaxter.github.fractionalcomputationapi.proto.TermsResult;
+import com.trbaxter.github.fractionalcomputationapi.service.RequestCoalescer;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegrationService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.LatexFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.MathMlFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import com.trbaxter.github.fractionalcomputationapi.utils.MathUtils;
+import com.trbaxter.github.fractionalcomputationapi.utils.RequestTimings;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * IndexControllerTest is a test class for the IndexController.<br>
+ * It uses MockMvc to test endpoints as defined in that class.
+ */
+@WebMvcTest(IndexController.class)
+@Import({LatexFormattingService.class, MathMlFormattingService.class, RequestCoalescer.class})
+@ExtendWith(SpringExtension.class)
+class IndexControllerTest {
+
+  @Autowired private MockMvc mockMvc;
+  @MockBean private CaputoService caputoService;
+  @MockBean private RiemannService riemannService;
+  @MockBean private IntegrationService integrationService;
+  @MockBean private ClientRateLimiter clientRateLimiter;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private LatexFormattingService latexFormattingService;
+  @Autowired private MathMlFormattingService mathMlFormattingService;
+  @Autowired private RequestCoalescer requestCoalescer;
+
+  private String polynomial;
+  private double alpha;
+  private Integer precision;
+  private ControllerRequest userRequest;
+
+  @BeforeEach
+  public void setUp() {
+    polynomial = "3x^2 + 2x + 1";
+    alpha = 0.5;
+    precision = 3;
+    userRequest = createRequest(polynomial, alpha, precision);
+  }
+
+  private ControllerRequest createRequest(String polynomial, double alpha, Integer precision) {
+    ControllerRequest controllerRequest = new ControllerRequest();
+    controllerRequest.setPolynomialExpression(polynomial);
+    controllerRequest.setOrder(alpha);
+    controllerRequest.setPrecision(precision);
+    return controllerRequest;
+  }
+
+  private ResultActions performPostRequest(String url, ControllerRequest request) throws Exception {
+    return mockMvc.perform(
+        post(url)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+  }
+
+  private ResultActions performPostRequest(String url, ControllerRequest request, String accept)
+      throws Exception {
+    return mockMvc.perform(
+        post(url)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("Accept", accept)
+            .content(objectMapper.writeValueAsString(request)));
+  }
+
+  private List<FormattedTerm> caputoTerms() {
+    return List.of(
+        new FormattedTerm("4.514", 4.514, new BigDecimal("1.5"), null),
+        new FormattedTerm("-2.257", -2.257, new BigDecimal("0.5"), null));
+  }
+
+  @Test
+  void testComputeCaputoDerivative() throws Exception {
+    when(caputoService.evaluateExpression(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenReturn("4.514x^1.5 + 2.257x^0.5");
+
+    performPostRequest("/fractional-calculus-computation-api/derivative/caputo", userRequest)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.expression").value("4.514x^1.5 + 2.257x^0.5"));
+  }
+
+  @Test
+  void testComputeRiemannLiouvilleDerivative() throws Exception {
+    when(riemannService.evaluateExpression(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenReturn("4.514x^1.5 + 2.257x^0.5 + 0.564x^-0.5");
+
+    performPostRequest(
+            "/fractional-calculus-computation-api/derivative/riemann-liouville", userRequest)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.expression").value("4.514x^1.5 + 2.257x^0.5 + 0.564x^-0.5"));
+  }
+
+  @Test
+  void testComputeCaputoIntegral() throws Exception {
+    when(integrationService.evaluateExpression(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenReturn("1.805x^2.5 + 1.505x^1.5 + 1.128x^0.5 + C");
+
+    performPostRequest("/fractional-calculus-computation-api/integral", userRequest)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.expression").value("1.805x^2.5 + 1.505x^1.5 + 1.128x^0.5 + C"));
+  }
+
+  @Test
+  void testInvalidControllerRequest() throws Exception {
+    ControllerRequest request = createRequest(null, 0.5, 3);
+
+    performPostRequest("/fractional-calculus-computation-api/derivative/caputo", request)
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testPrecisionMissing() throws Exception {
+    ControllerRequest request = createRequest(polynomial, alpha, null);
+
+    performPostRequest("/fractional-calculus-computation-api/derivative/caputo", request)
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testPrecisionZero() throws Exception {
+    ControllerRequest request = createRequest(polynomial, alpha, 0);
+
+    performPostRequest("/fractional-calculus-computation-api/derivative/caputo", request)
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testPrecisionNegative() throws Exception {
+    ControllerRequest request = createRequest(polynomial, alpha, -1);
+
+    performPostRequest("/fractional-calculus-computation-api/derivative/caputo", request)
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testCaputoDerivativeInternalServerError() throws Exception {
+    when(caputoService.evaluateExpression(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenThrow(new RuntimeException("Internal Server Error"));
+
+    performPostRequest("/fractional-calculus-computation-api/derivative/caputo", userRequest)
+        .andExpect(status().isInternalServerError())
+        .andExpect(content().json("{\"expression\": \"Internal Server Error\"}"));
+  }
+
+  @Test
+  void testRiemannLiouvilleDerivativeInternalServerError() throws Exception {
+    when(riemannService.evaluateExpression(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenThrow(new RuntimeException("Internal Server Error"));
+
+    performPostRequest(
+            "/fractional-calculus-computation-api/derivative/riemann-liouville", userRequest)
+        .andExpect(status().isInternalServerError())
+        .andExpect(content().json("{\"expression\": \"Internal Server Error\"}"));
+  }
+
+  @Test
+  void testCaputoIntegralInternalServerError() throws Exception {
+    when(integrationService.evaluateExpression(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenThrow(new RuntimeException("Internal Server Error"));
+
+    performPostRequest("/fractional-calculus-computation-api/integral", userRequest)
+        .andExpect(status().isInternalServerError())
+        .andExpect(content().json("{\"expression\": \"Internal Server Error\"}"));
+  }
+
+  @Test
+  void testComputeCaputoDerivativeAsTerms() throws Exception {
+    when(caputoService.evaluateTerms(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenReturn(caputoTerms());
+
+    performPostRequest(
+            "/fractional-calculus-computation-api/derivative/caputo",
+            userRequest,
+            "application/vnd.fractional-calculus.terms+json")
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/vnd.fractional-calculus.terms+json"))
+        .andExpect(jsonPath("$.terms[0].coefficient").value("4.514"))
+        .andExpect(jsonPath("$.terms[0].value").value(4.514))
+        .andExpect(jsonPath("$.terms[0].power").value(1.5))
+        .andExpect(jsonPath("$.terms[0].constant").doesNotExist())
+        .andExpect(jsonPath("$.terms[1].coefficient").value("-2.257"));
+  }
+
+  @Test
+  void testComputeCaputoDerivativeAsProtobuf() throws Exception {
+    when(caputoService.evaluateTerms(polynomial, alpha, precision)).thenReturn(caputoTerms());
+
+    ComputationRequest request =
+        ComputationRequest.newBuilder()
+            .setPolynomialExpression(polynomial)
+            .setOrder(alpha)
+            .setPrecision(precision)
+            .build();
+
+    byte[] body =
+        mockMvc
+            .perform(
+                post("/fractional-calculus-computation-api/derivative/caputo")
+                    .contentType("application/x-protobuf")
+                    .accept("application/x-protobuf")
+                    .content(request.toByteArray()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-protobuf"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    TermsResult result = TermsResult.parseFrom(body);
+    assertEquals(2, result.getTermsCount());
+    assertEquals("4.514", result.getTerms(0).getCoefficient());
+    assertEquals(1.5, result.getTerms(0).getPower());
+    assertFalse(result.getTerms(0).hasConstant());
+    assertEquals(-2.257, result.getTerms(1).getValue());
+  }
+
+  @Test
+  void testProtobufValidationErrorAsErrorDetail() throws Exception {
+    ComputationRequest request =
+        ComputationRequest.newBuilder().setPolynomialExpression(polynomial).setOrder(alpha).build();
+
+    byte[] body =
+        mockMvc
+            .perform(
+                post("/fractional-calculus-computation-api/integral")
+                    .contentType("application/x-protobuf")
+                    .accept("application/x-protobuf")
+                    .content(request.toByteArray()))
+            .andExpect(status().isBadRequest())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    ErrorDetail error = ErrorDetail.parseFrom(body);
+    assertEquals(400, error.getStatus());
+    assertEquals("Validation Error: Precision cannot be null", error.getMessage());
+  }
+
+  @Test
+  void testMalformedProtobufRequest() throws Exception {
+    mockMvc
+        .perform(
+            post("/fractional-calculus-computation-api/derivative/caputo")
+                .contentType("application/x-protobuf")
+                .content(new byte[] {(byte) 0xff, 0x01}))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.expression").value("Bad Request: Malformed JSON request body"));
+  }
+
+  @Test
+  void testComputeCaputoDerivativeAsLatex() throws Exception {
+    when(caputoService.evaluateTerms(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenReturn(caputoTerms());
+
+    performPostRequest(
+            "/fractional-calculus-computation-api/derivative/caputo",
+            userRequest,
+            "application/x-latex")
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("application/x-latex"))
+        .andExpect(content().string("4.514x^{1.5} - 2.257x^{0.5}"));
+  }
+
+  @Test
+  void testComputeRiemannLiouvilleDerivativeAsMathMl() throws Exception {
+    when(riemannService.evaluateTerms(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenReturn(List.of(new FormattedTerm("-1", -1, BigDecimal.ONE, null)));
+
+    performPostRequest(
+            "/fractional-calculus-computation-api/derivative/riemann-liouville",
+            userRequest,
+            "application/mathml+xml")
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("application/mathml+xml"))
+        .andExpect(
+            content()
+                .string(
+                    "<math xmlns=\"http://www.w3.org/1998/Math/MathML\">"
+                        + "<mrow><mo>-</mo><mi>x</mi></mrow></math>"));
+  }
+
+  @Test
+  void testComputeCaputoIntegralAsLatexInternalServerError() throws Exception {
+    when(integrationService.evaluateTerms(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenThrow(new RuntimeException("Internal Server Error"));
+
+    performPostRequest(
+            "/fractional-calculus-computation-api/integral", userRequest, "application/x-latex")
+        .andExpect(status().isInternalServerError())
+        .andExpect(content().json("{\"expression\": \"Internal Server Error\"}"));
+  }
+
+  @Test
+  void testComputeCaputoDerivativeStreamed() throws Exception {
+    when(caputoService.streamExpression(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenReturn(writer -> writer.write("4.514x^1.5 + 2.257x^0.5"));
+
+    MvcResult asyncResult =
+        performPostRequest(
+                "/fractional-calculus-computation-api/derivative/caputo?stream=true", userRequest)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.expression").value("4.514x^1.5 + 2.257x^0.5"));
+  }
+
+  @Test
+  void testComputeCaputoIntegralStreamedEscapesExpression() throws Exception {
+    when(integrationService.streamExpression(
+            userRequest.getPolynomialExpression(),
+            userRequest.getOrder(),
+            userRequest.getPrecision()))
+        .thenReturn(writer -> writer.write("x + \\\""));
+
+    MvcResult asyncResult =
+        performPostRequest("/fractional-calculus-computation-api/integral?stream=true", userRequest)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.expression").value("x + \\\""));
+  }
+
+  @Test
+  void testGetCaputoDerivativeIsCacheable() throws Exception {
+    when(caputoService.evaluateExpression(polynomial, alpha, precision))
+        .thenReturn("4.514x^1.5 + 2.257x^0.5");
+
+    mockMvc
+        .perform(
+            get("/fractional-calculus-computation-api/derivative/caputo")
+                .param("polynomialExpression", polynomial)
+                .param("order", "0.5")
+                .param("precision", "3"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.expression").value("4.514x^1.5 + 2.257x^0.5"))
+        .andExpect(
+            header()
+                .string("ETag", ComputationKey.of("caputo", userRequest).etag(ResultFormat.PLAIN)))
+        .andExpect(header().string("Cache-Control", containsString("immutable")))
+        .andExpect(header().string("Vary", containsString("Accept")))
+        .andExpect(header().doesNotExist("Server-Timing"));
+  }
+
+  @Test
+  void testGetWithMatchingETagReturnsNotModifiedWithoutComputing() throws Exception {
+    String etag = ComputationKey.of("integral", userRequest).etag(ResultFormat.PLAIN);
+
+    mockMvc
+        .perform(
+            get("/fractional-calculus-computation-api/integral")
+                .param("polynomialExpression", "3x^2+2x+1")
+                .param("order", "0.50")
+                .param("precision", "3")
+                .header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", etag))
+        .andExpect(content().string(""));
+
+    verifyNoInteractions(integrationService);
+  }
+
+  @Test
+  void testGetETagDependsOnResultFormat() throws Exception {
+    when(riemannService.evaluateTerms(polynomial, alpha, precision)).thenReturn(caputoTerms());
+
+    mockMvc
+        .perform(
+            get("/fractional-calculus-computation-api/derivative/riemann-liouville")
+                .param("polynomialExpression", polynomial)
+                .param("order", "0.5")
+                .param("precision", "3")
+                .header("Accept", "application/x-latex")
+                .header(
+                    "If-None-Match",
+                    ComputationKey.of("riemann-liouville", userRequest).etag(ResultFormat.PLAIN)))
+        .andExpect(status().isOk())
+        .andExpect(
+            header()
+                .string(
+                    "ETag",
+                    ComputationKey.of("riemann-liouville", userRequest).etag(ResultFormat.LATEX)))
+        .andExpect(content().string("4.514x^{1.5} - 2.257x^{0.5}"));
+  }
+
+  @Test
+  void testRateLimitedClient() throws Exception {
+    when(clientRateLimiter.getClientHeader()).thenReturn("X-Client-Id");
+    when(clientRateLimiter.clientId(eq("tenant-a"), any())).thenReturn("tenant-a");
+    doThrow(
+            new TooManyRequestsException(
+                "Rate limit exceeded for this client.", Duration.ofSeconds(3)))
+        .when(clientRateLimiter)
+        .acquire(eq("tenant-a"), anyLong());
+
+    mockMvc
+        .perform(
+            post("/fractional-calculus-computation-api/derivative/caputo")
+                .header("X-Client-Id", "tenant-a")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userRequest)))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string("Retry-After", "3"));
+
+    verifyNoInteractions(caputoService);
+  }
+
+  @Test
+  void testRateLimitChargesEstimatedCost() throws Exception {
+    when(clientRateLimiter.clientId(any(), eq("127.0.0.1"))).thenReturn("127.0.0.1");
+    when(caputoService.evaluateExpression(polynomial, alpha, precision)).thenReturn("result");
+
+    performPostRequest("/fractional-calculus-computation-api/derivative/caputo", userRequest)
+        .andExpect(status().isOk());
+
+    // Three terms at a fractional order (weight 4) and precision 3.
+    verify(clientRateLimiter).acquire("127.0.0.1", 36);
+  }
+
+  @Test
+  void testGetMissingParameter() throws Exception {
+    mockMvc
+        .perform(
+            get("/fractional-calculus-computation-api/derivative/caputo")
+                .param("polynomialExpression", polynomial)
+                .param("order", "0.5"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testUnknownServiceType() throws Exception {
+    IndexController controller =
+        new IndexController(
+            caputoService,
+            riemannService,
+            integrationService,
+            latexFormattingService,
+            mathMlFormattingService,
+            requestCoalescer,
+            clientRateLimiter);
+
+    Method method =
+        IndexController.class.getDeclaredMethod(
+            "evaluateExpression", Object.class, String.class, double.class, Integer.class);
+    method.setAccessible(true);
+
+    try {
+      method.invoke(controller, new UnknownService(), polynomial, alpha, precision);
+      fail("Expected IllegalArgumentException to be thrown");
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      assertInstanceOf(IllegalArgumentException.class, cause);
+      assertEquals("Unknown service type", cause.getMessage());
+    }
+  }
+
+  private static class UnknownService {}
+
+  @Test
+  void testServerTimingHeaderReportsStages() throws Exception {
+    when(caputoService.evaluateExpression(polynomial, alpha, precision))
+        .thenAnswer(
+            invocation -> {
+              MathUtils.gamma(new BigDecimal("2.5"));
+              return "4.514x^1.5 + 2.257x^0.5";
+            });
+
+    performPostRequest("/fractional-calculus-computation-api/derivative/caputo", userRequest)
+        .andExpect(status().isOk())
+        .andExpect(header().string("Server-Timing", containsString("binding;dur=")))
+        .andExpect(header().string("Server-Timing", containsString("gamma;dur=")));
+
+    assertNull(RequestTimings.current());
+  }
+}
@@ -0,0 +1,173 @@
+package com.trbaxter.github.fractionalcomputationapi.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trbaxter.github.fractionalcomputationapi.exception.NotFoundException;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.JobStatus;
+import com.trbaxter.github.fractionalcomputationapi.model.JobView;
+import com.trbaxter.github.fractionalcomputationapi.service.job.JobService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * JobControllerTest is a test class for the JobController.<br>
+ * It uses MockMvc against a mocked JobService to test submission, status, result and event
+ * endpoints.
+ */
+@WebMvcTest(JobController.class)
+class JobControllerTest {
+
+  private static final String JOBS_URL = "/fractional-calculus-computation-api/jobs/";
+  private static final Instant SUBMITTED_AT = Instant.parse("2024-06-30T00:00:00Z");
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @MockBean private JobService jobService;
+  @MockBean private ClientRateLimiter clientRateLimiter;
+
+  private ControllerRequest userRequest;
+
+  @BeforeEach
+  public void setUp() {
+    userRequest = new ControllerRequest();
+    userRequest.setPolynomialExpression("3x^2 + 2x + 1");
+    userRequest.setOrder(0.5);
+    userRequest.setPrecision(3);
+  }
+
+  private static JobView job(JobStatus status, String error) {
+    Instant completedAt = status.isTerminal() ? SUBMITTED_AT.plusSeconds(2) : null;
+    return new JobView(
+        "job-1", "caputo", status, SUBMITTED_AT, SUBMITTED_AT.plusSeconds(1), completedAt, error);
+  }
+
+  @Test
+  void testSubmitJob() throws Exception {
+    when(jobService.submit(eq("caputo"), any(ControllerRequest.class)))
+        .thenReturn(
+            new JobView("job-1", "caputo", JobStatus.QUEUED, SUBMITTED_AT, null, null, null));
+
+    mockMvc
+        .perform(
+            post(JOBS_URL + "caputo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userRequest)))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string("Location", JOBS_URL + "job-1"))
+        .andExpect(jsonPath("$.id").value("job-1"))
+        .andExpect(jsonPath("$.status").value("QUEUED"))
+        .andExpect(jsonPath("$.startedAt").doesNotExist());
+  }
+
+  @Test
+  void testSubmitInvalidJob() throws Exception {
+    userRequest.setPrecision(null);
+
+    mockMvc
+        .perform(
+            post(JOBS_URL + "caputo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userRequest)))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testGetJob() throws Exception {
+    when(jobService.status("job-1")).thenReturn(job(JobStatus.COMPUTING, null));
+
+    mockMvc
+        .perform(get(JOBS_URL + "job-1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("COMPUTING"));
+  }
+
+  @Test
+  void testGetUnknownJob() throws Exception {
+    when(jobService.status("missing")).thenThrow(new NotFoundException("No job with id missing"));
+
+    mockMvc
+        .perform(get(JOBS_URL + "missing"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.expression").value("Not Found: No job with id missing"));
+  }
+
+  @Test
+  void testGetJobResult() throws Exception {
+    when(jobService.result("job-1")).thenReturn(Optional.of("4.514x^1.5"));
+
+    mockMvc
+        .perform(get(JOBS_URL + "job-1/result"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.expression").value("4.514x^1.5"));
+  }
+
+  @Test
+  void testGetPendingJobResult() throws Exception {
+    when(jobService.result("job-1")).thenReturn(Optional.empty());
+    when(jobService.status("job-1")).thenReturn(job(JobStatus.FORMATTING, null));
+
+    mockMvc
+        .perform(get(JOBS_URL + "job-1/result"))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string("Retry-After", "1"))
+        .andExpect(jsonPath("$.status").value("FORMATTING"));
+  }
+
+  @Test
+  void testGetFailedJobResult() throws Exception {
+    when(jobService.result("job-1")).thenReturn(Optional.empty());
+    when(jobService.status("job-1"))
+        .thenReturn(job(JobStatus.FAILED, "Bad Request: Polynomial expression is invalid."));
+
+    mockMvc
+        .perform(get(JOBS_URL + "job-1/result"))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.error").value("Bad Request: Polynomial expression is invalid."));
+  }
+
+  @Test
+  void testStreamJobEvents() throws Exception {
+    when(jobService.getSseTimeout()).thenReturn(Duration.ofMinutes(1));
+    when(jobService.subscribe(eq("job-1"), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<JobView> listener = invocation.getArgument(1);
+              listener.accept(job(JobStatus.COMPUTING, null));
+              listener.accept(job(JobStatus.SUCCEEDED, null));
+              return (Runnable) () -> {};
+            });
+
+    MvcResult result =
+        mockMvc
+            .perform(get(JOBS_URL + "job-1/events").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString("event:status")))
+        .andExpect(content().string(containsString("\"status\":\"COMPUTING\"")))
+        .andExpect(content().string(containsString("\"status\":\"SUCCEEDED\"")));
+  }
+}
@@ -0,0 +1,305 @@
+package com.trbaxter.github.fractionalcomputationapi.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trbaxter.github.fractionalcomputationapi.config.ReactiveSchedulerConfig;
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.TooManyRequestsException;
+import com.trbaxter.github.fractionalcomputationapi.model.ComputationKey;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.model.ResultFormat;
+import com.trbaxter.github.fractionalcomputationapi.proto.ComputationRequest;
+import com.trbaxter.github.fractionalcomputationapi.proto.ErrorDetail;
+import com.trbaxter.github.fractionalcomputationapi.proto.TermsResult;
+import com.trbaxter.github.fractionalcomputationapi.service.RequestCoalescer;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegrationService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.LatexFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.MathMlFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * ReactiveIndexControllerTest is a test class for the ReactiveIndexController.<br>
+ * It uses WebTestClient to test the WebFlux variants of the IndexController endpoints.
+ */
+@WebFluxTest(ReactiveIndexController.class)
+@Import({
+  ReactiveSchedulerConfig.class,
+  LatexFormattingService.class,
+  MathMlFormattingService.class,
+  RequestCoalescer.class
+})
+class ReactiveIndexControllerTest {
+
+  private static final String BASE_URL = "/fractional-calculus-computation-api/";
+
+  @Autowired private WebTestClient webTestClient;
+  @MockBean private CaputoService caputoService;
+  @MockBean private RiemannService riemannService;
+  @MockBean private IntegrationService integrationService;
+  @MockBean private ClientRateLimiter clientRateLimiter;
+
+  private static final String CAPUTO_QUERY =
+      "derivative/caputo?polynomialExpression={p}&order=0.5&precision=3";
+
+  private ControllerRequest userRequest;
+
+  @BeforeEach
+  public void setUp() {
+    userRequest = new ControllerRequest();
+    userRequest.setPolynomialExpression("3x^2 + 2x + 1");
+    userRequest.setOrder(0.5);
+    userRequest.setPrecision(3);
+  }
+
+  private WebTestClient.ResponseSpec performPostRequest(String url, ControllerRequest request) {
+    return webTestClient
+        .post()
+        .uri(BASE_URL + url)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange();
+  }
+
+  @Test
+  void testComputeCaputoDerivative() {
+    when(caputoService.evaluateExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenReturn("4.514x^1.5 + 2.257x^0.5");
+
+    performPostRequest("derivative/caputo", userRequest)
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.expression")
+        .isEqualTo("4.514x^1.5 + 2.257x^0.5");
+  }
+
+  @Test
+  void testComputeCaputoDerivativeAsProtobuf() throws Exception {
+    when(caputoService.evaluateTerms("3x^2 + 2x + 1", 0.5, 3))
+        .thenReturn(
+            List.of(
+                new FormattedTerm("4.514", 4.514, new BigDecimal("1.5"), null),
+                new FormattedTerm("2.257", 2.257, new BigDecimal("0.5"), null)));
+    ComputationRequest request =
+        ComputationRequest.newBuilder()
+            .setPolynomialExpression("3x^2 + 2x + 1")
+            .setOrder(0.5)
+            .setPrecision(3)
+            .build();
+
+    byte[] body =
+        webTestClient
+            .post()
+            .uri(BASE_URL + "derivative/caputo")
+            .contentType(ResultFormat.PROTOBUF.getMediaType())
+            .accept(ResultFormat.PROTOBUF.getMediaType())
+            .bodyValue(request.toByteArray())
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(ResultFormat.PROTOBUF.getMediaType())
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+
+    TermsResult result = TermsResult.parseFrom(body);
+    assertEquals(2, result.getTermsCount());
+    assertEquals("4.514", result.getTerms(0).getCoefficient());
+    assertEquals(1.5, result.getTerms(0).getPower());
+  }
+
+  @Test
+  void testProtobufValidationErrorAsErrorDetail() throws Exception {
+    ComputationRequest request =
+        ComputationRequest.newBuilder()
+            .setPolynomialExpression("3x^2 + 2x + 1")
+            .setOrder(0.5)
+            .build();
+
+    byte[] body =
+        webTestClient
+            .post()
+            .uri(BASE_URL + "integral")
+            .contentType(ResultFormat.PROTOBUF.getMediaType())
+            .accept(ResultFormat.PROTOBUF.getMediaType())
+            .bodyValue(request.toByteArray())
+            .exchange()
+            .expectStatus()
+            .isBadRequest()
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+
+    ErrorDetail error = ErrorDetail.parseFrom(body);
+    assertEquals(400, error.getStatus());
+    assertEquals("Validation Error: Precision cannot be null", error.getMessage());
+  }
+
+  @Test
+  void testMalformedProtobufRequest() {
+    webTestClient
+        .post()
+        .uri(BASE_URL + "derivative/caputo")
+        .contentType(ResultFormat.PROTOBUF.getMediaType())
+        .bodyValue(new byte[] {(byte) 0xff, 0x01})
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.expression")
+        .isEqualTo("Bad Request: Malformed JSON request body");
+  }
+
+  @Test
+  void testComputeRiemannLiouvilleDerivativeAsLatex() {
+    when(riemannService.evaluateTerms("3x^2 + 2x + 1", 0.5, 3))
+        .thenReturn(
+            List.of(
+                new FormattedTerm("4.514", 4.514, new BigDecimal("1.5"), null),
+                new FormattedTerm("0.564", 0.564, new BigDecimal("-0.5"), null)));
+
+    webTestClient
+        .post()
+        .uri(BASE_URL + "derivative/riemann-liouville")
+        .contentType(MediaType.APPLICATION_JSON)
+        .accept(MediaType.parseMediaType("application/x-latex"))
+        .bodyValue(userRequest)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(String.class)
+        .isEqualTo("4.514x^{1.5} + 0.564x^{-0.5}");
+  }
+
+  @Test
+  void testStreamCaputoIntegral() {
+    when(integrationService.streamExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenReturn(writer -> writer.write("1.805x^2.5 + \"C\""));
+
+    webTestClient
+        .post()
+        .uri(BASE_URL + "integral?stream=true")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(userRequest)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.expression")
+        .isEqualTo("1.805x^2.5 + \"C\"");
+  }
+
+  @Test
+  void testGetCaputoDerivativeIsCacheable() {
+    when(caputoService.evaluateExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenReturn("4.514x^1.5 + 2.257x^0.5");
+    String etag = ComputationKey.of("caputo", userRequest).etag(ResultFormat.PLAIN);
+
+    webTestClient
+        .get()
+        .uri(BASE_URL + CAPUTO_QUERY, "3x^2 + 2x + 1")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals("ETag", etag)
+        .expectHeader()
+        .cacheControl(CacheableResponses.IMMUTABLE);
+
+    webTestClient
+        .get()
+        .uri(BASE_URL + CAPUTO_QUERY, "3x^2+2x+1")
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus()
+        .isNotModified();
+
+    verify(caputoService, times(1)).evaluateExpression("3x^2 + 2x + 1", 0.5, 3);
+  }
+
+  @Test
+  void testValidationError() {
+    userRequest.setPrecision(-1);
+
+    performPostRequest("derivative/caputo", userRequest)
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.expression")
+        .isEqualTo("Validation Error: Precision must be a positive integer");
+  }
+
+  @Test
+  void testBadRequestFromService() {
+    when(caputoService.streamExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenThrow(new BadRequestException("Polynomial expression contains invalid characters."));
+
+    performPostRequest("derivative/caputo?stream=true", userRequest)
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.expression")
+        .isEqualTo("Bad Request: Polynomial expression contains invalid characters.");
+  }
+
+  @Test
+  void testInternalServerError() {
+    when(caputoService.evaluateExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenThrow(new RuntimeException("Unexpected error"));
+
+    performPostRequest("derivative/caputo", userRequest)
+        .expectStatus()
+        .isEqualTo(500)
+        .expectBody()
+        .jsonPath("$.expression")
+        .isEqualTo("Internal Server Error");
+  }
+
+  @Test
+  void testRateLimitedClient() {
+    when(clientRateLimiter.getClientHeader()).thenReturn("X-Client-Id");
+    when(clientRateLimiter.clientId(eq("tenant-a"), any())).thenReturn("tenant-a");
+    doThrow(
+            new TooManyRequestsException(
+                "Rate limit exceeded for this client.", Duration.ofSeconds(3)))
+        .when(clientRateLimiter)
+        .acquire(eq("tenant-a"), anyLong());
+
+    webTestClient
+        .post()
+        .uri(BASE_URL + "derivative/caputo?stream=true")
+        .header("X-Client-Id", "tenant-a")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(userRequest)
+        .exchange()
+        .expectStatus()
+        .isEqualTo(429)
+        .expectHeader()
+        .valueEquals("Retry-After", "3");
+
+    verify(caputoService, never()).streamExpression("3x^2 + 2x + 1", 0.5, 3);
+  }
+}
@@ -0,0 +1,236 @@
+package com.trbaxter.github.fractionalcomputationapi.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trbaxter.github.fractionalcomputationapi.controller.IndexController;
+import com.trbaxter.github.fractionalcomputationapi.model.Result;
+import com.trbaxter.github.fractionalcomputationapi.service.RequestCoalescer;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.caputo.CaputoService;
+import com.trbaxter.github.fractionalcomputationapi.service.differentiation.riemann_liouville.RiemannService;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegrationService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.LatexFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.notation.MathMlFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@Import({
+  GlobalExceptionHandler.class,
+  IndexController.class,
+  LatexFormattingService.class,
+  MathMlFormattingService.class,
+  RequestCoalescer.class
+})
+@WebMvcTest(IndexController.class)
+class GlobalExceptionHandlerTest {
+
+  @Autowired private MockMvc mockMvc;
+  @MockBean private CaputoService caputoService;
+  @MockBean private RiemannService riemannService;
+  @MockBean private IntegrationService integrationService;
+  @MockBean private ClientRateLimiter clientRateLimiter;
+  @Autowired private ObjectMapper objectMapper;
+
+  private ListAppender<ILoggingEvent> listAppender;
+
+  @BeforeEach
+  public void setUp() {
+    Logger logger = (Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    listAppender = new ListAppender<>();
+    listAppender.start();
+    logger.addAppender(listAppender);
+  }
+
+  @Test
+  void testHandleException() throws Exception {
+    mockMvc
+        .perform(get("/trigger-exception").contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isInternalServerError())
+        .andExpect(
+            content()
+                .json(
+                    "{\"expression\": \"Internal Server Error: No static resource trigger-exception.\"}"));
+  }
+
+  @Test
+  void testHandleHttpMessageNotReadableException() throws Exception {
+    String malformedJson =
+        "{ \"polynomialExpression\": \"3x^2 + 2x + 1\", \"order\": 0.5, \"precision\": ";
+
+    mockMvc
+        .perform(
+            post("/fractional-calculus-computation-api/derivative/caputo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(malformedJson))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            content().json("{\"expression\": \"Bad Request: Malformed JSON request body\"}"));
+  }
+
+  @Test
+  void testHandleBadRequestException() throws Exception {
+    String invalidRequest =
+        "{ \"polynomialExpression\": \"3*x^2 + 2x + 1\", \"order\": 0.5, \"precision\": 1 }";
+
+    doThrow(new BadRequestException("Polynomial expression contains invalid characters."))
+        .when(integrationService)
+        .evaluateExpression(any(String.class), any(double.class), any(Integer.class));
+
+    mockMvc
+        .perform(
+            post("/fractional-calculus-computation-api/integral")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(invalidRequest))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            jsonPath("$.expression")
+                .value("Bad Request: Polynomial expression contains invalid characters."));
+
+    List<ILoggingEvent> logEvents = listAppender.list;
+    logEvents.forEach(
+        event ->
+            System.out.println(
+                "Log message: " + event.getFormattedMessage())); // Add this line to debug
+    assertEquals(1, logEvents.size(), "Number of log events");
+    assertEquals(
+        "Bad request: Polynomial expression contains invalid characters.",
+        logEvents.getFirst().getFormattedMessage(),
+        "Log message");
+    assertEquals(ch.qos.logback.classic.Level.WARN, logEvents.getFirst().getLevel(), "Log level");
+  }
+
+  @Test
+  void testHandleServiceUnavailableException() throws Exception {
+    String request =
+        "{ \"polynomialExpression\": \"3x^2 + 2x + 1\", \"order\": 0.5, \"precision\": 1 }";
+
+    doThrow(
+            new ServiceUnavailableException(
+                "Timed out waiting for an identical computation.", Duration.ofSeconds(2)))
+        .when(riemannService)
+        .evaluateExpression(any(String.class), any(double.class), any(Integer.class));
+
+    mockMvc
+        .perform(
+            post("/fractional-calculus-computation-api/derivative/riemann-liouville")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(request))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "2"))
+        .andExpect(
+            jsonPath("$.expression")
+                .value("Service Unavailable: Timed out waiting for an identical computation."));
+  }
+
+  @Test
+  void testHandleTooManyRequestsException() throws Exception {
+    String request =
+        "{ \"polynomialExpression\": \"3x^2 + 2x + 1\", \"order\": 0.5, \"precision\": 1 }";
+
+    doThrow(
+            new TooManyRequestsException(
+                "Rate limit exceeded for this client.", Duration.ofSeconds(4)))
+        .when(clientRateLimiter)
+        .acquire(any(), anyLong());
+
+    mockMvc
+        .perform(
+            post("/fractional-calculus-computation-api/integral")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/mathml+xml")
+                .content(request))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string("Retry-After", "4"))
+        .andExpect(
+            jsonPath("$.expression")
+                .value("Too Many Requests: Rate limit exceeded for this client."));
+  }
+
+  @Test
+  void testHandleBadRequestExceptionWithLatexAccepted() throws Exception {
+    String invalidRequest =
+        "{ \"polynomialExpression\": \"3*x^2 + 2x + 1\", \"order\": 0.5, \"precision\": 1 }";
+
+    doThrow(new BadRequestException("Polynomial expression contains invalid characters."))
+        .when(caputoService)
+        .evaluateTerms(any(String.class), any(double.class), any(Integer.class));
+
+    mockMvc
+        .perform(
+            post("/fractional-calculus-computation-api/derivative/caputo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/x-latex")
+                .content(invalidRequest))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            jsonPath("$.expression")
+                .value("Bad Request: Polynomial expression contains invalid characters."));
+  }
+
+  @Test
+  void testHandleBadRequestExceptionWhenStreaming() throws Exception {
+    String invalidRequest =
+        "{ \"polynomialExpression\": \"3*x^2 + 2x + 1\", \"order\": 0.5, \"precision\": 1 }";
+
+    doThrow(new BadRequestException("Polynomial expression contains invalid characters."))
+        .when(riemannService)
+        .streamExpression(any(String.class), any(double.class), any(Integer.class));
+
+    mockMvc
+        .perform(
+            post("/fractional-calculus-computation-api/derivative/riemann-liouville")
+                .param("stream", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(invalidRequest))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            jsonPath("$.expression")
+                .value("Bad Request: Polynomial expression contains invalid characters."));
+  }
+
+  @Test
+  void testHandleResponseStatusExceptionKeepsStatus() {
+    ResponseEntity<Object> response =
+        new GlobalExceptionHandler()
+            .handleResponseStatusException(
+                new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown action"));
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("Bad Request: Unknown action", ((Result) response.getBody()).getExpression());
+  }
+
+  @RestController
+  static class MockController {
+    @GetMapping("/trigger-exception")
+    public String triggerException() {
+      throw new RuntimeException("Test exception");
+    }
+  }
+}
\ No newline at end of file
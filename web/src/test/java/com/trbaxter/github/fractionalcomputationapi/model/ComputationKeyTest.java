@@ -0,0 +1,50 @@
+package com.trbaxter.github.fractionalcomputationapi.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ComputationKeyTest is a test class for the ComputationKey record. It checks that equivalent
+ * requests share a key and entity tag while any change in input or format yields a new tag.
+ */
+class ComputationKeyTest {
+
+  private ControllerRequest createRequest(String polynomial, double order, int precision) {
+    ControllerRequest request = new ControllerRequest();
+    request.setPolynomialExpression(polynomial);
+    request.setOrder(order);
+    request.setPrecision(precision);
+    return request;
+  }
+
+  @Test
+  void testEquivalentRequestsShareKeyAndETag() {
+    ComputationKey spaced = ComputationKey.of("caputo", createRequest(" 3x^2 +\t1 ", 2.50, 3));
+    ComputationKey compact = ComputationKey.of("caputo", createRequest("3x^2+1", 2.5, 3));
+
+    assertEquals(new ComputationKey("caputo", "3x^2+1", "2.5", 3), spaced);
+    assertEquals(spaced, compact);
+    assertEquals(spaced.etag(ResultFormat.PLAIN), compact.etag(ResultFormat.PLAIN));
+  }
+
+  @Test
+  void testIntegerOrderIsCanonical() {
+    assertEquals("2", ComputationKey.of("integral", createRequest("x", 2.0, 3)).order());
+  }
+
+  @Test
+  void testETagIsStrongAndDistinguishesInputs() {
+    ComputationKey key = ComputationKey.of("caputo", createRequest("3x^2+1", 0.5, 3));
+    String etag = key.etag(ResultFormat.PLAIN);
+
+    assertTrue(etag.matches("\"[0-9a-f]{64}\""), etag);
+    assertNotEquals(etag, key.etag(ResultFormat.LATEX));
+    assertNotEquals(
+        etag,
+        ComputationKey.of("riemann-liouville", createRequest("3x^2+1", 0.5, 3))
+            .etag(ResultFormat.PLAIN));
+    assertNotEquals(
+        etag, ComputationKey.of("caputo", createRequest("3x^2+1", 0.5, 4)).etag(ResultFormat.PLAIN));
+  }
+}
@@ -0,0 +1,160 @@
+package com.trbaxter.github.fractionalcomputationapi.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RequestCoalescerTest is a test class for the RequestCoalescer. It checks that concurrent callers
+ * with the same key share one computation, and covers failures, timeouts and interruption.
+ */
+class RequestCoalescerTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /** Starts a caller whose computation blocks until released, and waits until it is in flight. */
+  private Future<String> startBlockedLeader(
+      RequestCoalescer coalescer, CountDownLatch release, AtomicInteger runs) throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    Future<String> leader =
+        executor.submit(
+            () ->
+                coalescer.execute(
+                    "key",
+                    () -> {
+                      runs.incrementAndGet();
+                      started.countDown();
+                      awaitUninterruptibly(release);
+                      return "result";
+                    }));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    return leader;
+  }
+
+  /** Starts a caller on its own thread and waits until it is blocked on the in-flight result. */
+  private static FutureTask<String> startWaitingFollower(RequestCoalescer coalescer, String value)
+      throws InterruptedException {
+    FutureTask<String> follower = new FutureTask<>(() -> coalescer.execute("key", () -> value));
+    Thread thread = new Thread(follower);
+    thread.start();
+    while (thread.getState() != Thread.State.TIMED_WAITING && !follower.isDone()) {
+      Thread.sleep(1);
+    }
+    return follower;
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void testConcurrentCallersShareOneComputation() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5));
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger runs = new AtomicInteger();
+
+    Future<String> leader = startBlockedLeader(coalescer, release, runs);
+    FutureTask<String> follower = startWaitingFollower(coalescer, "unexpected");
+    CompletableFuture<String> asyncFollower =
+        coalescer.submit("key", () -> "unexpected", executor);
+    release.countDown();
+
+    assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+    assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+    assertEquals("result", asyncFollower.get(5, TimeUnit.SECONDS));
+    assertEquals(1, runs.get());
+    assertEquals(new RequestCoalescer.Stats(1, 2, 0, 0), coalescer.stats());
+  }
+
+  @Test
+  void testDifferentKeysAreNotCoalesced() {
+    RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5));
+
+    assertEquals("a", coalescer.execute("a", () -> "a"));
+    assertEquals("b", coalescer.execute("b", () -> "b"));
+    assertEquals(new RequestCoalescer.Stats(2, 0, 0, 0), coalescer.stats());
+  }
+
+  @Test
+  void testFailureIsSharedWithWaiters() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<String> leader =
+        executor.submit(
+            () ->
+                coalescer.<String>execute(
+                    "key",
+                    () -> {
+                      started.countDown();
+                      awaitUninterruptibly(release);
+                      throw new BadRequestException("Invalid expression");
+                    }));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    CompletableFuture<String> follower = coalescer.submit("key", () -> "unexpected", executor);
+    release.countDown();
+
+    ExecutionException leaderFailure =
+        assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(BadRequestException.class, leaderFailure.getCause());
+    ExecutionException followerFailure =
+        assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(BadRequestException.class, followerFailure.getCause());
+  }
+
+  @Test
+  void testWaitIsBounded() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMillis(50));
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<String> leader = startBlockedLeader(coalescer, release, new AtomicInteger());
+
+    assertThrows(ServiceUnavailableException.class, () -> coalescer.execute("key", () -> "x"));
+    ExecutionException asyncFailure =
+        assertThrows(
+            ExecutionException.class,
+            () -> coalescer.submit("key", () -> "x", executor).get(5, TimeUnit.SECONDS));
+    assertInstanceOf(ServiceUnavailableException.class, asyncFailure.getCause());
+
+    release.countDown();
+    assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+    assertEquals(2, coalescer.stats().timeouts());
+  }
+
+  @Test
+  void testWaiterRecomputesWhenLeaderIsInterrupted() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5));
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<String> leader = startBlockedLeader(coalescer, release, new AtomicInteger());
+    FutureTask<String> follower = startWaitingFollower(coalescer, "retried");
+    leader.cancel(true);
+
+    assertEquals("retried", follower.get(5, TimeUnit.SECONDS));
+    assertEquals(0, coalescer.stats().inFlight());
+  }
+}
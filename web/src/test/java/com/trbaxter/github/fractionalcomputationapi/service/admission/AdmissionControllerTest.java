@@ -0,0 +1,164 @@
+package com.trbaxter.github.fractionalcomputationapi.service.admission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AdmissionControllerTest is a test class for the AdmissionController. It covers the per-request
+ * caps, the in-flight budget, the release of permits and the admission listener.
+ */
+class AdmissionControllerTest {
+
+  private static final List<Term> TERMS =
+      List.of(
+          new Term(new BigDecimal("3"), new BigDecimal("2")),
+          new Term(BigDecimal.ONE, BigDecimal.ZERO));
+
+  private AdmissionController controller(int inFlightBudget) {
+    return controller(inFlightBudget, Duration.ofMillis(10));
+  }
+
+  private AdmissionController controller(int inFlightBudget, Duration queueTimeout) {
+    return new AdmissionController(
+        new AdmissionLimits(10, 100, 50, 1_000, inFlightBudget, queueTimeout));
+  }
+
+  @Test
+  void testPermitHoldsAndReleasesCost() {
+    AdmissionController admissionController = controller(1_000);
+
+    try (AdmissionController.Permit permit = admissionController.admit(TERMS, 0.5, 3)) {
+      assertEquals(24, permit.getCost());
+      assertEquals(24, admissionController.stats().inFlightCost());
+    }
+
+    assertEquals(new AdmissionController.Stats(1, 0, 0, 0), admissionController.stats());
+  }
+
+  @Test
+  void testClosingTwiceReleasesOnce() {
+    AdmissionController admissionController = controller(1_000);
+    AdmissionController.Permit first = admissionController.admit(TERMS, 2, 3);
+    AdmissionController.Permit second = admissionController.admit(TERMS, 2, 3);
+
+    first.close();
+    first.close();
+
+    assertEquals(12, admissionController.stats().inFlightCost());
+    second.close();
+  }
+
+  @Test
+  void testPerRequestCaps() {
+    AdmissionController admissionController = controller(1_000);
+
+    BadRequestException terms =
+        assertThrows(
+            BadRequestException.class,
+            () -> admissionController.admit(Collections.nCopies(11, TERMS.get(0)), 1, 3));
+    assertEquals("Polynomial expression exceeds the maximum of 10 terms.", terms.getMessage());
+
+    BadRequestException order =
+        assertThrows(BadRequestException.class, () -> admissionController.admit(TERMS, 1e6, 3));
+    assertEquals("Order exceeds the maximum of 100.", order.getMessage());
+
+    BadRequestException precision =
+        assertThrows(
+            BadRequestException.class, () -> admissionController.admit(TERMS, 1, 1_000_000));
+    assertEquals("Precision exceeds the maximum of 50.", precision.getMessage());
+
+    BadRequestException cost =
+        assertThrows(BadRequestException.class, () -> admissionController.admit(TERMS, 100, 50));
+    assertEquals("Request exceeds the maximum computation cost.", cost.getMessage());
+
+    assertEquals(4, admissionController.stats().rejected());
+  }
+
+  @Test
+  void testExhaustedBudgetIsShedAfterQueueTimeout() {
+    AdmissionController admissionController = controller(30);
+
+    try (AdmissionController.Permit held = admissionController.admit(TERMS, 0.5, 3)) {
+      ServiceUnavailableException shed =
+          assertThrows(
+              ServiceUnavailableException.class, () -> admissionController.admit(TERMS, 0.5, 3));
+      assertEquals(Duration.ofSeconds(1), shed.getRetryAfter().orElseThrow());
+      assertEquals(1, admissionController.stats().shed());
+      assertEquals(0, admissionController.stats().rejected());
+    }
+
+    try (AdmissionController.Permit admitted = admissionController.admit(TERMS, 0.5, 3)) {
+      assertEquals(24, admitted.getCost());
+    }
+  }
+
+  @Test
+  void testNonBlockingThreadIsShedWithoutQueueing() {
+    AdmissionController admissionController = controller(30, Duration.ofMinutes(1));
+    Scheduler computation = Schedulers.newParallel("admission-test", 1);
+
+    try (AdmissionController.Permit held = admissionController.admit(TERMS, 0.5, 3)) {
+      Mono<AdmissionController.Permit> admission =
+          Mono.fromCallable(() -> admissionController.admit(TERMS, 0.5, 3))
+              .subscribeOn(computation);
+
+      assertThrows(ServiceUnavailableException.class, () -> admission.block(Duration.ofSeconds(5)));
+      assertEquals(1, admissionController.stats().shed());
+    } finally {
+      computation.dispose();
+    }
+  }
+
+  @Test
+  void testWaitingControllerQueuesUntilBudgetIsReleased() throws Exception {
+    AdmissionController admissionController =
+        AdmissionController.waitingForBudget(
+            new AdmissionLimits(10, 100, 50, 1_000, 30, Duration.ofMillis(10)));
+    AdmissionController.Permit held = admissionController.admit(TERMS, 0.5, 3);
+
+    CompletableFuture<AdmissionController.Permit> waiting =
+        CompletableFuture.supplyAsync(() -> admissionController.admit(TERMS, 0.5, 3));
+    assertThrows(TimeoutException.class, () -> waiting.get(200, TimeUnit.MILLISECONDS));
+
+    held.close();
+    try (AdmissionController.Permit admitted = waiting.get(5, TimeUnit.SECONDS)) {
+      assertEquals(24, admitted.getCost());
+    }
+    assertEquals(0, admissionController.stats().shed());
+  }
+
+  @Test
+  void testListenerIsCalledOnAdmissionOnly() {
+    AdmissionController admissionController = controller(1_000);
+    AtomicInteger admissions = new AtomicInteger();
+
+    AdmissionController.whenAdmitted(
+        admissions::incrementAndGet,
+        () -> {
+          assertThrows(
+              BadRequestException.class,
+              () -> admissionController.admit(Collections.nCopies(11, TERMS.get(0)), 0.5, 3));
+          assertEquals(0, admissions.get());
+          admissionController.admit(TERMS, 0.5, 3).close();
+          return null;
+        });
+    admissionController.admit(TERMS, 0.5, 3).close();
+
+    assertEquals(1, admissions.get());
+  }
+}
@@ -0,0 +1,56 @@
+package com.trbaxter.github.fractionalcomputationapi.service.admission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * CostEstimatorTest is a test class for the CostEstimator utility class. It checks the cost model
+ * of terms × order class × precision.
+ */
+class CostEstimatorTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "3, 0.5, 3, 36",
+    "3, 0, 3, 9",
+    "3, 1, 3, 9",
+    "3, 5, 3, 45",
+    "0, 2, 0, 2",
+    "10, 1000000, 1000000, 10000000000000"
+  })
+  void testEstimate(int termCount, double alpha, int precision, long expected) {
+    assertEquals(expected, CostEstimator.estimate(termCount, alpha, precision));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "'3x^2 + 2x + 1', 3",
+    "'-3x^2 - 2x', 2",
+    "'x^-2 + x^(-0.5) - 1e-3x', 3",
+    "'7', 1"
+  })
+  void testEstimateTermCount(String expression, int expected) {
+    assertEquals(expected, CostEstimator.estimateTermCount(expression));
+  }
+
+  @Test
+  void testEstimateSaturates() {
+    assertEquals(
+        Long.MAX_VALUE, CostEstimator.estimate(Integer.MAX_VALUE, 1e18, Integer.MAX_VALUE));
+  }
+
+  @Test
+  void testConstructorThrowsException() throws Exception {
+    Constructor<CostEstimator> constructor = CostEstimator.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+
+    InvocationTargetException thrown =
+        assertThrows(InvocationTargetException.class, constructor::newInstance);
+    assertInstanceOf(UnsupportedOperationException.class, thrown.getCause());
+  }
+}
@@ -0,0 +1,140 @@
+package com.trbaxter.github.fractionalcomputationapi.service.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import com.trbaxter.github.fractionalcomputationapi.service.bulk.BulkEvaluator;
+import jakarta.validation.Validation;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * BatchProcessorTest is a test class for the BatchProcessor. It runs files through chunks small
+ * enough to split the input many times and checks that every line is evaluated exactly once and
+ * that results keep the input order.
+ */
+class BatchProcessorTest {
+
+  @TempDir Path directory;
+
+  private final FractionalCalculusService service = mock(FractionalCalculusService.class);
+  private BulkEvaluator evaluator;
+
+  @BeforeEach
+  public void setUp() {
+    when(service.evaluateExpression(anyString(), anyDouble(), eq(3)))
+        .thenAnswer(invocation -> "d(" + invocation.getArgument(0) + ")");
+
+    evaluator =
+        new BulkEvaluator(
+            Map.of("caputo", service),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper());
+  }
+
+  private BatchProcessor processor(int threads, int chunkSize) {
+    return new BatchProcessor(
+        evaluator, new BatchProperties(threads, DataSize.ofBytes(chunkSize), 1));
+  }
+
+  private static String record(String expression) {
+    return "{\"operator\":\"caputo\",\"polynomialExpression\":\""
+        + expression
+        + "\",\"order\":0.5,\"precision\":3}";
+  }
+
+  @Test
+  void testResultsKeepInputOrder() throws IOException {
+    List<String> lines = new ArrayList<>();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      lines.add(record(i + "x^2"));
+      expected.add("{\"expression\":\"d(" + i + "x^2)\"}");
+    }
+    Path input = Files.write(directory.resolve("in.ndjson"), lines);
+    Path output = directory.resolve("out.ndjson");
+
+    BatchReport report = processor(4, 100).process(input, output);
+
+    assertEquals(expected, Files.readAllLines(output));
+    assertEquals(500, report.records());
+    assertEquals(0, report.failures());
+    assertEquals(Files.size(input), report.bytesRead());
+  }
+
+  @Test
+  void testBlankLinesSkippedAndFailuresReported() throws IOException {
+    when(service.evaluateExpression(eq("bad"), anyDouble(), eq(3)))
+        .thenThrow(new BadRequestException("Invalid polynomial expression format."));
+    String content = record("x") + "\r\n\n   \n" + record("bad") + "\n" + record("2x");
+    Path input = Files.writeString(directory.resolve("in.ndjson"), content);
+    Path output = directory.resolve("out.ndjson");
+
+    BatchReport report = processor(2, 7).process(input, output);
+
+    assertEquals(
+        List.of(
+            "{\"expression\":\"d(x)\"}",
+            "{\"error\":\"Bad Request: Invalid polynomial expression format.\"}",
+            "{\"expression\":\"d(2x)\"}"),
+        Files.readAllLines(output, StandardCharsets.UTF_8));
+    assertEquals(3, report.records());
+    assertEquals(1, report.failures());
+  }
+
+  @Test
+  void testEmptyInput() throws IOException {
+    Path input = Files.writeString(directory.resolve("in.ndjson"), "");
+    Path output = Files.writeString(directory.resolve("out.ndjson"), "stale");
+
+    BatchReport report = processor(1, 1024).process(input, output);
+
+    assertEquals(0, Files.size(output));
+    assertEquals(0, report.records());
+  }
+
+  @Test
+  void testChunksEndOnLineBreaks() throws IOException {
+    Path input = Files.writeString(directory.resolve("in.ndjson"), "aaaa\nbb\ncccccccc\nd");
+
+    List<BatchProcessor.Chunk> chunks;
+    try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+      chunks = processor(1, 3).split(channel);
+    }
+
+    assertEquals(
+        List.of(
+            new BatchProcessor.Chunk(0, 5),
+            new BatchProcessor.Chunk(5, 3),
+            new BatchProcessor.Chunk(8, 9),
+            new BatchProcessor.Chunk(17, 1)),
+        chunks);
+  }
+
+  @Test
+  void testReportThroughput() {
+    BatchReport report = new BatchReport(2000, 1, 1024 * 1024, Duration.ofSeconds(2));
+    assertEquals(1000, report.recordsPerSecond(), 1e-9);
+    assertEquals(0.5, report.megabytesPerSecond(), 1e-9);
+    assertEquals("2000 records (1 failed) in 2.000 s: 1000 records/s, 0.5 MB/s", report.toString());
+  }
+}
@@ -0,0 +1,102 @@
+package com.trbaxter.github.fractionalcomputationapi.service.bulk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import com.trbaxter.github.fractionalcomputationapi.model.BulkRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.BulkResult;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import jakarta.validation.Validation;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BulkEvaluatorTest is a test class for the BulkEvaluator. It checks that records are routed by
+ * operator and that every kind of failure is reported in the record's result.
+ */
+class BulkEvaluatorTest {
+
+  private final FractionalCalculusService caputo = mock(FractionalCalculusService.class);
+  private final FractionalCalculusService integral = mock(FractionalCalculusService.class);
+  private final BulkEvaluator evaluator =
+      new BulkEvaluator(
+          Map.of("caputo", caputo, "integral", integral),
+          Validation.buildDefaultValidatorFactory().getValidator(),
+          new ObjectMapper());
+
+  private BulkResult evaluate(String line) {
+    byte[] bytes = ("  " + line).getBytes(StandardCharsets.UTF_8);
+    return evaluator.evaluate(bytes, 2, bytes.length - 2);
+  }
+
+  @Test
+  void testRoutesByOperator() {
+    when(caputo.evaluateExpression("3x^2", 0.5, 3)).thenReturn("2.257x^1.5");
+    when(integral.evaluateExpression("3x^2", 0.5, 3)).thenReturn("0.903x^2.5 + C");
+
+    assertEquals(
+        BulkResult.success("2.257x^1.5"),
+        evaluate(
+            "{\"operator\":\"caputo\",\"polynomialExpression\":\"3x^2\",\"order\":0.5,"
+                + "\"precision\":3}"));
+    assertEquals(
+        BulkResult.success("0.903x^2.5 + C"),
+        evaluate(
+            "{\"operator\":\"integral\",\"polynomialExpression\":\"3x^2\",\"order\":0.5,"
+                + "\"precision\":3}"));
+  }
+
+  @Test
+  void testUnknownOperator() {
+    BulkResult result = evaluator.evaluate(new BulkRequest("laplace", "3x^2", 0.5, 3));
+    assertEquals("Bad Request: Unknown operator: laplace", result.error());
+    assertTrue(result.isFailure());
+  }
+
+  @Test
+  void testMalformedRecord() {
+    assertEquals(
+        "Bad Request: Malformed JSON record", evaluate("{\"operator\":\"caputo\",").error());
+  }
+
+  @Test
+  void testValidationError() {
+    assertEquals(
+        "Validation Error: Order must be positive or zero",
+        evaluator.evaluate(new BulkRequest("caputo", "3x^2", -1.0, 3)).error());
+  }
+
+  @Test
+  void testServiceFailures() {
+    when(caputo.evaluateExpression("3x^^2", 0.5, 3))
+        .thenThrow(new BadRequestException("Invalid polynomial expression format."));
+    when(caputo.evaluateExpression("x", 0.5, 3))
+        .thenThrow(new ServiceUnavailableException("Server is busy.", Duration.ofSeconds(1)));
+
+    assertEquals(
+        "Bad Request: Invalid polynomial expression format.",
+        evaluator.evaluate(new BulkRequest("caputo", "3x^^2", 0.5, 3)).error());
+    assertEquals(
+        "Service Unavailable: Server is busy.",
+        evaluator.evaluate(new BulkRequest("caputo", "x", 0.5, 3)).error());
+  }
+
+  @Test
+  void testWriteLine() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    evaluator.writeLine(BulkResult.success("2x"), out);
+    evaluator.writeLine(BulkResult.failure("Bad Request: x"), out);
+
+    assertEquals(
+        "{\"expression\":\"2x\"}\n{\"error\":\"Bad Request: x\"}\n",
+        out.toString(StandardCharsets.UTF_8));
+  }
+}
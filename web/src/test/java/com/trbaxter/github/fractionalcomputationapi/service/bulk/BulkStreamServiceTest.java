@@ -0,0 +1,212 @@
+package com.trbaxter.github.fractionalcomputationapi.service.bulk;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trbaxter.github.fractionalcomputationapi.exception.TooManyRequestsException;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * BulkStreamServiceTest is a test class for the BulkStreamService. It checks that results keep the
+ * order of the records whatever order they complete in, that no more than the window of records is
+ * evaluated ahead of the writer, that bad records are answered with error lines, and that a
+ * stream which cannot be finished ends with an error line.
+ */
+class BulkStreamServiceTest {
+
+  private final FractionalCalculusService service = mock(FractionalCalculusService.class);
+  private final BulkEvaluator evaluator =
+      new BulkEvaluator(
+          Map.of("caputo", service),
+          Validation.buildDefaultValidatorFactory().getValidator(),
+          new ObjectMapper());
+  private BulkStreamService bulkStreamService;
+
+  @AfterEach
+  public void tearDown() {
+    bulkStreamService.shutdown();
+  }
+
+  private BulkStreamService createService(int threads, int window, int maxLineLength) {
+    bulkStreamService =
+        new BulkStreamService(
+            evaluator, new BulkProperties(threads, window, DataSize.ofBytes(maxLineLength)));
+    return bulkStreamService;
+  }
+
+  private static String record(String expression) {
+    return "{\"operator\":\"caputo\",\"polynomialExpression\":\""
+        + expression
+        + "\",\"order\":0.5,\"precision\":3}";
+  }
+
+  private static ByteArrayInputStream input(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testResultsKeepRecordOrder() throws IOException {
+    when(service.evaluateExpression(anyString(), anyDouble(), eq(3)))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+              return "d(" + invocation.getArgument(0) + ")";
+            });
+    StringBuilder content = new StringBuilder();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      content.append(record(i + "x")).append(i % 2 == 0 ? "\n" : "\r\n");
+      expected.add("{\"expression\":\"d(" + i + "x)\"}");
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    createService(4, 8, 1024).process(input(content.toString()), out, request -> {});
+
+    assertEquals(expected, out.toString(StandardCharsets.UTF_8).lines().toList());
+  }
+
+  @Test
+  void testWindowBoundsRecordsInFlight() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger started = new AtomicInteger();
+    when(service.evaluateExpression(anyString(), anyDouble(), eq(3)))
+        .thenAnswer(
+            invocation -> {
+              started.incrementAndGet();
+              release.await();
+              return "ok";
+            });
+    String content = (record("x") + "\n").repeat(50);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BulkStreamService streamService = createService(8, 3, 1024);
+
+    Thread writer =
+        new Thread(
+            () -> {
+              try {
+                streamService.process(input(content), out, request -> {});
+              } catch (IOException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+    writer.start();
+
+    Thread.sleep(200);
+    assertEquals(3, started.get());
+    release.countDown();
+    writer.join(TimeUnit.SECONDS.toMillis(5));
+
+    assertEquals(50, out.toString(StandardCharsets.UTF_8).lines().count());
+  }
+
+  @Test
+  void testBadRecordsAnsweredWithErrors() throws IOException {
+    when(service.evaluateExpression("x", 0.5, 3)).thenReturn("1.128x^0.5");
+    String content =
+        record("x")
+            + "\n\n  \n"
+            + "{\"operator\":\"caputo\","
+            + "\n"
+            + record("x".repeat(200))
+            + "\n"
+            + record("x")
+            + "\n"
+            + record("x");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    createService(2, 4, 100).process(input(content), out, request -> {});
+
+    assertEquals(
+        List.of(
+            "{\"expression\":\"1.128x^0.5\"}",
+            "{\"error\":\"Bad Request: Malformed JSON record\"}",
+            "{\"error\":\"Bad Request: Record exceeds the maximum length of 100 bytes\"}",
+            "{\"expression\":\"1.128x^0.5\"}",
+            "{\"expression\":\"1.128x^0.5\"}"),
+        out.toString(StandardCharsets.UTF_8).lines().toList());
+  }
+
+  @Test
+  void testRefusedRecordsAnsweredWithErrors() throws IOException {
+    when(service.evaluateExpression("x", 0.5, 3)).thenReturn("1.128x^0.5");
+    AtomicInteger admitted = new AtomicInteger();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    createService(1, 4, 1024)
+        .process(
+            input(record("x") + "\n" + record("x") + "\n"),
+            out,
+            request -> {
+              if (admitted.incrementAndGet() > 1) {
+                throw new TooManyRequestsException("Rate limit exceeded.", Duration.ofSeconds(1));
+              }
+            });
+
+    assertEquals(
+        List.of(
+            "{\"expression\":\"1.128x^0.5\"}",
+            "{\"error\":\"Too Many Requests: Rate limit exceeded.\"}"),
+        out.toString(StandardCharsets.UTF_8).lines().toList());
+  }
+
+  @Test
+  void testBodyFailingMidStreamEndsWithErrorLine() throws IOException {
+    when(service.evaluateExpression("x", 0.5, 3)).thenReturn("1.128x^0.5");
+    InputStream failing =
+        new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("Connection reset");
+          }
+        };
+    InputStream in =
+        new SequenceInputStream(
+            input(record("x") + "\n" + record("x") + "\n{\"operator\""), failing);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    createService(2, 4, 1024).process(in, out, request -> {});
+
+    assertEquals(
+        List.of(
+            "{\"expression\":\"1.128x^0.5\"}",
+            "{\"expression\":\"1.128x^0.5\"}",
+            "{\"error\":\"Bad Request: Request body could not be read\"}"),
+        out.toString(StandardCharsets.UTF_8).lines().toList());
+  }
+
+  @Test
+  void testWorkerFailureEndsWithErrorLine() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BulkStreamService streamService = createService(1, 4, 1024);
+    streamService.shutdown();
+
+    streamService.process(input(record("x") + "\n"), out, request -> {});
+
+    assertEquals(
+        List.of("{\"error\":\"Internal Server Error: Bulk request did not complete\"}"),
+        out.toString(StandardCharsets.UTF_8).lines().toList());
+  }
+}
@@ -5,8 +5,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockStatic;
 
 import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionController;
+import com.trbaxter.github.fractionalcomputationapi.service.metrics.ComputationMetrics;
+import com.trbaxter.github.fractionalcomputationapi.testdata.AdmissionTestData;
 import com.trbaxter.github.fractionalcomputationapi.testdata.GammaTestData;
 import com.trbaxter.github.fractionalcomputationapi.utils.MathUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,7 +35,11 @@ class CaputoServiceTest {
   @BeforeEach
   public void setUp() {
     derivativeService =
-        new CaputoService(new CaputoComputationService(), new CaputoFormattingService());
+        new CaputoService(
+            new CaputoComputationService(),
+            new CaputoFormattingService(),
+            new AdmissionController(AdmissionTestData.LIMITS),
+            new ComputationMetrics(new SimpleMeterRegistry()));
   }
 
   @ParameterizedTest
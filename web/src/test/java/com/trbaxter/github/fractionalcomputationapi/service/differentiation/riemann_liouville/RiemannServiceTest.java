@@ -6,8 +6,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockStatic;
 
 import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionController;
+import com.trbaxter.github.fractionalcomputationapi.service.metrics.ComputationMetrics;
+import com.trbaxter.github.fractionalcomputationapi.testdata.AdmissionTestData;
 import com.trbaxter.github.fractionalcomputationapi.testdata.GammaTestData;
 import com.trbaxter.github.fractionalcomputationapi.utils.MathUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,7 +33,11 @@ class RiemannServiceTest {
   @BeforeEach
   public void setUp() {
     derivativeService =
-        new RiemannService(new RiemannComputationService(), new RiemannFormattingService());
+        new RiemannService(
+            new RiemannComputationService(),
+            new RiemannFormattingService(),
+            new AdmissionController(AdmissionTestData.LIMITS),
+            new ComputationMetrics(new SimpleMeterRegistry()));
   }
 
   @ParameterizedTest
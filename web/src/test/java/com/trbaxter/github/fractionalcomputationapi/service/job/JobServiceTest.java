@@ -0,0 +1,293 @@
+package com.trbaxter.github.fractionalcomputationapi.service.job;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.NotFoundException;
+import com.trbaxter.github.fractionalcomputationapi.exception.ServiceUnavailableException;
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.JobStatus;
+import com.trbaxter.github.fractionalcomputationapi.model.JobView;
+import com.trbaxter.github.fractionalcomputationapi.service.ExpressionWriter;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionController;
+import com.trbaxter.github.fractionalcomputationapi.testdata.AdmissionTestData;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JobServiceTest is a test class for the JobService. It runs jobs against a mocked service on a
+ * single worker and checks their stages, results, failures, queue bounds and eviction. The mocked
+ * service admits its requests through a real AdmissionController, as the services do.
+ */
+class JobServiceTest {
+
+  private final FractionalCalculusService service = mock(FractionalCalculusService.class);
+  private final AdmissionController admissionController =
+      AdmissionController.waitingForBudget(AdmissionTestData.LIMITS);
+  private final MutableClock clock = new MutableClock();
+  private JobService jobService;
+  private ControllerRequest request;
+
+  @BeforeEach
+  public void setUp() {
+    jobService =
+        createJobService(
+            new JobProperties(
+                1, 1, 10, Duration.ofMinutes(1), Duration.ZERO, 1, AdmissionTestData.LIMITS));
+    request = new ControllerRequest();
+    request.setPolynomialExpression("3x^2 + 2x + 1");
+    request.setOrder(0.5);
+    request.setPrecision(3);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    jobService.shutdown();
+  }
+
+  private JobService createJobService(JobProperties properties) {
+    return new JobService(Map.of("caputo", service), properties, clock, false);
+  }
+
+  /** Admits a request as the service would, which marks the running job as computing. */
+  private void admit() {
+    admissionController.admit(List.of(), 0.5, 3).close();
+  }
+
+  private List<JobStatus> awaitCompletion(String id) throws InterruptedException {
+    List<JobStatus> stages = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(1);
+    jobService.subscribe(
+        id,
+        job -> {
+          stages.add(job.status());
+          if (job.status().isTerminal()) {
+            done.countDown();
+          }
+        });
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    return stages;
+  }
+
+  @Test
+  void testJobSucceeds() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    when(service.streamExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenAnswer(
+            invocation -> {
+              release.await();
+              admit();
+              return (ExpressionWriter) writer -> writer.write("4.514x^1.5");
+            });
+
+    JobView submitted = jobService.submit("caputo", request);
+    assertEquals(JobStatus.QUEUED, submitted.status());
+    assertEquals("caputo", submitted.operation());
+    assertTrue(jobService.result(submitted.id()).isEmpty());
+
+    List<JobStatus> stages = new CopyOnWriteArrayList<>();
+    jobService.subscribe(submitted.id(), job -> stages.add(job.status()));
+    release.countDown();
+    awaitCompletion(submitted.id());
+
+    assertEquals(
+        List.of(JobStatus.COMPUTING, JobStatus.FORMATTING, JobStatus.SUCCEEDED),
+        stages.subList(stages.size() - 3, stages.size()));
+    assertEquals("4.514x^1.5", jobService.result(submitted.id()).orElseThrow());
+    assertNotNull(jobService.status(submitted.id()).completedAt());
+  }
+
+  @Test
+  void testJobIsQueuedUntilAdmitted() throws InterruptedException {
+    CountDownLatch picked = new CountDownLatch(1);
+    CountDownLatch budget = new CountDownLatch(1);
+    when(service.streamExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenAnswer(
+            invocation -> {
+              picked.countDown();
+              budget.await();
+              admit();
+              return (ExpressionWriter) writer -> writer.write("x");
+            });
+
+    String id = jobService.submit("caputo", request).id();
+    assertTrue(picked.await(5, TimeUnit.SECONDS));
+    JobView waiting = jobService.status(id);
+    assertEquals(JobStatus.QUEUED, waiting.status());
+    assertNull(waiting.startedAt());
+
+    List<JobStatus> stages = new CopyOnWriteArrayList<>();
+    jobService.subscribe(id, job -> stages.add(job.status()));
+    budget.countDown();
+    awaitCompletion(id);
+
+    assertEquals(
+        List.of(JobStatus.COMPUTING, JobStatus.FORMATTING, JobStatus.SUCCEEDED),
+        stages.subList(stages.size() - 3, stages.size()));
+    assertNotNull(jobService.status(id).startedAt());
+  }
+
+  @Test
+  void testBlockedListenerDoesNotDelayJob() throws InterruptedException {
+    CountDownLatch compute = new CountDownLatch(1);
+    CountDownLatch unblockListener = new CountDownLatch(1);
+    CountDownLatch notified = new CountDownLatch(1);
+    when(service.streamExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenAnswer(
+            invocation -> {
+              compute.await();
+              admit();
+              return (ExpressionWriter) writer -> writer.write("x");
+            });
+
+    String id = jobService.submit("caputo", request).id();
+    List<JobStatus> stages = new CopyOnWriteArrayList<>();
+    jobService.subscribe(
+        id,
+        job -> {
+          try {
+            unblockListener.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          stages.add(job.status());
+          if (job.status().isTerminal()) {
+            notified.countDown();
+          }
+        });
+    compute.countDown();
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (jobService.status(id).status() != JobStatus.SUCCEEDED) {
+      assertTrue(System.nanoTime() < deadline, "job blocked by its listener");
+      Thread.sleep(10);
+    }
+    assertTrue(stages.isEmpty());
+
+    unblockListener.countDown();
+    assertTrue(notified.await(5, TimeUnit.SECONDS));
+    assertEquals(
+        List.of(JobStatus.COMPUTING, JobStatus.FORMATTING, JobStatus.SUCCEEDED),
+        stages.subList(stages.size() - 3, stages.size()));
+  }
+
+  @Test
+  void testJobFailsWithBadRequest() throws InterruptedException {
+    when(service.streamExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenThrow(new BadRequestException("Polynomial expression contains invalid characters."));
+
+    String id = jobService.submit("caputo", request).id();
+    awaitCompletion(id);
+
+    JobView job = jobService.status(id);
+    assertEquals(JobStatus.FAILED, job.status());
+    assertEquals("Bad Request: Polynomial expression contains invalid characters.", job.error());
+    assertTrue(jobService.result(id).isEmpty());
+  }
+
+  @Test
+  void testUnknownOperation() {
+    assertThrows(BadRequestException.class, () -> jobService.submit("laplace", request));
+  }
+
+  @Test
+  void testUnknownJob() {
+    assertThrows(NotFoundException.class, () -> jobService.status("missing"));
+  }
+
+  @Test
+  void testFullQueueIsRefused() {
+    CountDownLatch release = new CountDownLatch(1);
+    when(service.streamExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenAnswer(
+            invocation -> {
+              release.await();
+              return (ExpressionWriter) writer -> {};
+            });
+
+    try {
+      // The first job occupies the single worker and the second fills the queue.
+      jobService.submit("caputo", request);
+      jobService.submit("caputo", request);
+      ServiceUnavailableException thrown =
+          assertThrows(
+              ServiceUnavailableException.class, () -> jobService.submit("caputo", request));
+      assertEquals(Duration.ofSeconds(1), thrown.getRetryAfter().orElseThrow());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void testFinishedJobsExpire() throws InterruptedException {
+    when(service.streamExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenReturn(writer -> writer.write("x"));
+
+    String id = jobService.submit("caputo", request).id();
+    awaitCompletion(id);
+
+    clock.advance(Duration.ofSeconds(59));
+    assertEquals(JobStatus.SUCCEEDED, jobService.status(id).status());
+
+    clock.advance(Duration.ofSeconds(2));
+    assertThrows(NotFoundException.class, () -> jobService.status(id));
+
+    jobService.evictExpired();
+    assertThrows(NotFoundException.class, () -> jobService.result(id));
+  }
+
+  @Test
+  void testJobStoreLimit() throws InterruptedException {
+    jobService.shutdown();
+    jobService =
+        createJobService(
+            new JobProperties(
+                1, 1, 1, Duration.ofMinutes(1), Duration.ZERO, 1, AdmissionTestData.LIMITS));
+    when(service.streamExpression("3x^2 + 2x + 1", 0.5, 3))
+        .thenReturn(writer -> writer.write("x"));
+
+    awaitCompletion(jobService.submit("caputo", request).id());
+    assertThrows(ServiceUnavailableException.class, () -> jobService.submit("caputo", request));
+
+    clock.advance(Duration.ofMinutes(2));
+    assertDoesNotThrow(() -> jobService.submit("caputo", request));
+  }
+
+  /** A clock moved forward by the test. */
+  private static final class MutableClock extends Clock {
+    private volatile Instant now = Instant.parse("2024-06-30T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
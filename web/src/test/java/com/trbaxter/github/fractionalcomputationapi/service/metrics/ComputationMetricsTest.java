@@ -0,0 +1,186 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.service.metrics.ComputationMetrics.Stage;
+import com.trbaxter.github.fractionalcomputationapi.utils.MathUtils;
+import com.trbaxter.github.fractionalcomputationapi.utils.RequestTimings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * ComputationMetricsTest is a test class for ComputationMetrics. It checks that stages are timed
+ * and terms counted under the operator and order tags, that gamma evaluations are attributed to
+ * the computation making them, and that each stage emits its Flight Recorder event.
+ */
+class ComputationMetricsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ComputationMetrics metrics = new ComputationMetrics(registry);
+
+  @Test
+  void testRecordsStagesByOperatorAndOrder() {
+    assertEquals("3x", metrics.record(Stage.PARSE, "caputo", 0.5, () -> "3x"));
+    metrics.record(Stage.PARSE, "caputo", 0.5, () -> "3x");
+    metrics.record(Stage.COMPUTE, "caputo", 2.0, () -> "3x");
+
+    assertEquals(
+        2,
+        registry
+            .get("fractional.calculus.parse")
+            .tags("operator", "caputo", "order", "fractional")
+            .timer()
+            .count());
+    assertEquals(
+        1,
+        registry
+            .get("fractional.calculus.compute")
+            .tags("operator", "caputo", "order", "integer")
+            .timer()
+            .count());
+  }
+
+  @Test
+  void testAddsStagesToOpenRequestTimings() {
+    RequestTimings timings = RequestTimings.begin();
+    try {
+      metrics.record(Stage.COMPUTE, "caputo", 0.5, () -> "3x");
+      assertTrue(timings.toServerTiming().startsWith("compute;dur="));
+    } finally {
+      RequestTimings.end();
+    }
+  }
+
+  @Test
+  void testRecordsFailedStage() {
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            metrics.record(
+                Stage.COMPUTE,
+                "integral",
+                1.5,
+                () -> {
+                  throw new IllegalStateException("failed");
+                }));
+
+    assertEquals(1, registry.get("fractional.calculus.compute").timer().count());
+  }
+
+  @Test
+  void testRecordsStreamedFormatWhenWritten() throws Exception {
+    var writer =
+        metrics.recordFormat("riemann-liouville", 0.5, 3, List.of(), out -> out.write("2x"));
+    assertEquals(0, registry.get("fractional.calculus.format").timer().count());
+
+    StringWriter out = new StringWriter();
+    writer.writeTo(out);
+
+    assertEquals("2x", out.toString());
+    assertEquals(
+        1,
+        registry
+            .get("fractional.calculus.format")
+            .tags("operator", "riemann-liouville", "order", "fractional")
+            .timer()
+            .count());
+  }
+
+  @Test
+  void testCountsTerms() {
+    metrics.countTerms("integral", 3, 4);
+    metrics.countTerms("integral", 3, 2);
+
+    assertEquals(
+        6,
+        registry
+            .get("fractional.calculus.terms")
+            .tags("operator", "integral", "order", "integer")
+            .counter()
+            .count());
+  }
+
+  @Test
+  void testCountsGammaEvaluationsOfComputeStage() {
+    MathUtils.gamma(new BigDecimal("1.5"));
+    List<Term> terms = List.of(new Term(BigDecimal.ONE, BigDecimal.TEN));
+    metrics.recordCompute(
+        "riemann-liouville",
+        0.5,
+        3,
+        terms,
+        () -> {
+          MathUtils.gamma(new BigDecimal("11"));
+          MathUtils.gamma(new BigDecimal("10.5"));
+          return terms;
+        });
+    metrics.recordCompute("riemann-liouville", 1, 3, terms, () -> terms);
+
+    assertEquals(
+        2,
+        registry
+            .get("fractional.calculus.gamma.evaluations")
+            .tags("operator", "riemann-liouville", "order", "fractional")
+            .counter()
+            .count());
+    assertEquals(
+        0,
+        registry
+            .get("fractional.calculus.gamma.evaluations")
+            .tags("operator", "riemann-liouville", "order", "integer")
+            .counter()
+            .count());
+  }
+
+  @Test
+  void testEmitsFlightRecorderEventPerStage(@TempDir Path directory) throws Exception {
+    List<Term> parsed =
+        List.of(new Term(BigDecimal.ONE, BigDecimal.TEN), new Term(BigDecimal.TWO, BigDecimal.ONE));
+    List<Term> computed = List.of(new Term(BigDecimal.ONE, new BigDecimal("9.5")));
+    Path file = directory.resolve("stages.jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.enable(ParseEvent.class);
+      recording.enable(ComputeEvent.class);
+      recording.enable(FormatEvent.class);
+      recording.start();
+
+      metrics.recordParse("caputo", 0.5, 4, () -> parsed);
+      metrics.recordCompute("caputo", 0.5, 4, parsed, () -> computed);
+      metrics.recordFormat("caputo", 0.5, 4, computed, () -> "x^9.5");
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    Map<String, RecordedEvent> events =
+        RecordingFile.readAllEvents(file).stream()
+            .collect(Collectors.toMap(event -> event.getEventType().getName(), Function.identity()));
+
+    RecordedEvent parse = events.get("fractionalcalculus.Parse");
+    assertEquals("caputo", parse.getString("operator"));
+    assertEquals(0.5, parse.getDouble("order"));
+    assertEquals(4, parse.getInt("precision"));
+    assertEquals(2, parse.getInt("terms"));
+
+    RecordedEvent compute = events.get("fractionalcalculus.Compute");
+    assertEquals(2, compute.getInt("terms"));
+    assertEquals(1, compute.getInt("computedTerms"));
+
+    RecordedEvent format = events.get("fractionalcalculus.Format");
+    assertEquals(1, format.getInt("terms"));
+    assertFalse(format.getDuration().isNegative());
+  }
+}
@@ -0,0 +1,107 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trbaxter.github.fractionalcomputationapi.model.Term;
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.exception.TooManyRequestsException;
+import com.trbaxter.github.fractionalcomputationapi.service.RequestCoalescer;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionController;
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionLimits;
+import com.trbaxter.github.fractionalcomputationapi.service.integration.IntegralFormattingService;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.ClientRateLimiter;
+import com.trbaxter.github.fractionalcomputationapi.service.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * EngineMetricsTest is a test class for EngineMetrics. It checks that the counters kept by the
+ * engine's components are read into the registry.
+ */
+class EngineMetricsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final AdmissionController admissionController =
+      new AdmissionController(new AdmissionLimits(1, 100, 50, 1_000, 1_000, Duration.ZERO));
+  private final ClientRateLimiter clientRateLimiter =
+      new ClientRateLimiter(
+          new RateLimitProperties(true, "X-Client-Id", 10, 1, 100, Duration.ofHours(1)));
+  private final RequestCoalescer requestCoalescer = new RequestCoalescer(Duration.ofSeconds(1));
+  private final IntegralFormattingService integralFormattingService =
+      new IntegralFormattingService();
+
+  @BeforeEach
+  public void setUp() {
+    new EngineMetrics(
+            admissionController, clientRateLimiter, requestCoalescer, integralFormattingService)
+        .bindTo(registry);
+  }
+
+  @Test
+  void testExportsAdmission() {
+    List<Term> term = List.of(new Term(BigDecimal.ONE, BigDecimal.ONE));
+    String admission = "fractional.calculus.admission";
+
+    try (AdmissionController.Permit permit = admissionController.admit(term, 0.5, 3)) {
+      assertEquals(
+          permit.getCost(), registry.get(admission + ".in.flight.cost").gauge().value());
+    }
+    assertThrows(
+        BadRequestException.class,
+        () -> admissionController.admit(List.of(term.get(0), term.get(0)), 0.5, 3));
+
+    assertEquals(
+        1,
+        registry.get(admission + ".requests").tag("outcome", "admitted").functionCounter().count());
+    assertEquals(
+        1,
+        registry.get(admission + ".requests").tag("outcome", "rejected").functionCounter().count());
+    assertEquals(
+        0, registry.get(admission + ".requests").tag("outcome", "shed").functionCounter().count());
+    assertEquals(0, registry.get(admission + ".in.flight.cost").gauge().value());
+  }
+
+  @Test
+  void testExportsRateLimiting() {
+    clientRateLimiter.acquire("first", 10);
+    clientRateLimiter.acquire("second", 5);
+    assertThrows(TooManyRequestsException.class, () -> clientRateLimiter.acquire("first", 10));
+
+    String rateLimit = "fractional.calculus.rate.limit";
+    String requests = rateLimit + ".requests";
+    assertEquals(2, registry.get(requests).tag("outcome", "allowed").functionCounter().count());
+    assertEquals(1, registry.get(requests).tag("outcome", "throttled").functionCounter().count());
+    assertEquals(2, registry.get(rateLimit + ".clients").gauge().value());
+  }
+
+  @Test
+  void testExportsCoalescing() {
+    requestCoalescer.execute("key", () -> "3x");
+    requestCoalescer.execute("key", () -> "3x");
+
+    String coalescing = "fractional.calculus.coalescing";
+    assertEquals(2, registry.get(coalescing + ".executions").functionCounter().count());
+    assertEquals(0, registry.get(coalescing + ".coalesced").functionCounter().count());
+    assertEquals(0, registry.get(coalescing + ".timeouts").functionCounter().count());
+    assertEquals(0, registry.get(coalescing + ".in.flight").gauge().value());
+  }
+
+  @Test
+  void testExportsIntegralConstantsCache() {
+    List<Term> terms = List.of(new Term(BigDecimal.ONE, BigDecimal.ONE));
+    integralFormattingService.formatTerms(terms, 3.0, 2);
+    integralFormattingService.formatTerms(terms, 3.0, 2);
+    integralFormattingService.formatTerms(terms, 4.0, 2);
+
+    String cache = "fractional.calculus.integral.constants.cache";
+    assertEquals(1, registry.get(cache + ".gets").tag("result", "hit").functionCounter().count());
+    assertEquals(2, registry.get(cache + ".gets").tag("result", "miss").functionCounter().count());
+    assertEquals(0, registry.get(cache + ".evictions").functionCounter().count());
+    assertEquals(2, registry.get(cache + ".size").gauge().value());
+    assertTrue(registry.get(cache + ".characters").gauge().value() > 0);
+  }
+}
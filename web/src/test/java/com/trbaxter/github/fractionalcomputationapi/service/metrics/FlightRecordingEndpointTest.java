@@ -0,0 +1,91 @@
+package com.trbaxter.github.fractionalcomputationapi.service.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.util.unit.DataSize;
+
+/** FlightRecordingEndpointTest is a test class for FlightRecordingEndpoint. */
+class FlightRecordingEndpointTest {
+
+  @TempDir Path directory;
+
+  private FlightRecordingEndpoint endpoint;
+
+  @BeforeEach
+  void setUp() {
+    endpoint =
+        new FlightRecordingEndpoint(
+            new FlightRecordingProperties(
+                directory, "default", Duration.ofMinutes(1), DataSize.ofMegabytes(16), 2));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if ("RUNNING".equals(endpoint.status().state())) {
+      endpoint.control("stop");
+    }
+  }
+
+  @Test
+  void testStartDumpAndStopWriteRecordings() throws Exception {
+    assertEquals("NONE", endpoint.status().state());
+
+    FlightRecordingEndpoint.Status started = endpoint.control("start");
+    assertEquals("RUNNING", started.state());
+    assertNotNull(started.started());
+
+    FlightRecordingEndpoint.Status dumped = endpoint.control("dump");
+    assertEquals("RUNNING", dumped.state());
+    assertTrue(Files.size(Path.of(dumped.file())) > 0);
+
+    FlightRecordingEndpoint.Status stopped = endpoint.control("stop");
+    Path file = Path.of(stopped.file());
+    assertEquals(directory, file.getParent());
+    assertFalse(RecordingFile.readAllEvents(file).isEmpty());
+    assertEquals("NONE", endpoint.status().state());
+  }
+
+  @Test
+  void testKeepsOnlyTheNewestDumps() throws Exception {
+    Path unrelated = Files.createFile(directory.resolve("unrelated.jfr"));
+    endpoint.control("start");
+
+    Path first = Path.of(endpoint.control("dump").file());
+    Thread.sleep(5);
+    Path second = Path.of(endpoint.control("dump").file());
+    Thread.sleep(5);
+    Path third = Path.of(endpoint.control("dump").file());
+
+    assertFalse(Files.exists(first));
+    assertTrue(Files.exists(second));
+    assertTrue(Files.exists(third));
+    assertTrue(Files.exists(unrelated));
+  }
+
+  @Test
+  void testRejectsSecondStart() {
+    endpoint.control("start");
+
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("start"));
+  }
+
+  @Test
+  void testRejectsDumpAndStopWithoutRecording() {
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("dump"));
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("stop"));
+  }
+
+  @Test
+  void testRejectsUnknownAction() {
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("pause"));
+  }
+}
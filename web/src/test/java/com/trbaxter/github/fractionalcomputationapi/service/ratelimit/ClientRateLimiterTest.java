@@ -0,0 +1,151 @@
+package com.trbaxter.github.fractionalcomputationapi.service.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.TooManyRequestsException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ClientRateLimiterTest is a test class for the ClientRateLimiter. It drives the token buckets with
+ * a manual clock to check consumption, refill, per-client isolation and eviction.
+ */
+class ClientRateLimiterTest {
+
+  private static final RateLimitProperties PROPERTIES =
+      new RateLimitProperties(true, "X-Client-Id", 100, 10, 2, Duration.ofHours(1));
+
+  private final AtomicLong clock = new AtomicLong();
+  private ClientRateLimiter limiter;
+
+  @BeforeEach
+  public void setUp() {
+    clock.set(0);
+    limiter = new ClientRateLimiter(PROPERTIES, clock::get);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    limiter.shutdown();
+  }
+
+  @Test
+  void testBurstUpToCapacity() {
+    limiter.acquire("a", 60);
+    limiter.acquire("a", 40);
+
+    TooManyRequestsException thrown =
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("a", 25));
+    assertEquals(Duration.ofSeconds(3), thrown.getRetryAfter());
+    assertEquals(new ClientRateLimiter.Stats(2, 1, 1), limiter.stats());
+  }
+
+  @Test
+  void testRefillOverTime() {
+    limiter.acquire("a", 100);
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2500));
+
+    limiter.acquire("a", 25);
+    assertThrows(TooManyRequestsException.class, () -> limiter.acquire("a", 1));
+  }
+
+  @Test
+  void testClientsHaveSeparateBuckets() {
+    limiter.acquire("a", 100);
+    assertDoesNotThrow(() -> limiter.acquire("b", 100));
+    assertThrows(TooManyRequestsException.class, () -> limiter.acquire("a", 1));
+  }
+
+  @Test
+  void testCostAboveCapacityIsChargedAsFullBucket() {
+    limiter.acquire("a", 1_000_000);
+
+    TooManyRequestsException thrown =
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("a", 1_000_000));
+    assertEquals(Duration.ofSeconds(10), thrown.getRetryAfter());
+  }
+
+  @Test
+  void testIdleBucketsAreEvicted() {
+    limiter.acquire("a", 1);
+    limiter.acquire("b", 50);
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+    limiter.evictIdle();
+    limiter.acquire("c", 1);
+
+    assertEquals(2, limiter.stats().clients());
+    assertThrows(TooManyRequestsException.class, () -> limiter.acquire("b", 100));
+  }
+
+  @Test
+  void testClientsBeyondTheLimitShareOneBucket() {
+    limiter.acquire("a", 1);
+    limiter.acquire("b", 1);
+
+    limiter.acquire("c", 60);
+    assertThrows(TooManyRequestsException.class, () -> limiter.acquire("d", 60));
+    assertEquals(2, limiter.stats().clients());
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    limiter.evictIdle();
+    assertEquals(0, limiter.stats().clients());
+    assertDoesNotThrow(() -> limiter.acquire("d", 60));
+    assertEquals(1, limiter.stats().clients());
+  }
+
+  @Test
+  void testDisabledLimiterAllowsEverything() {
+    RateLimitProperties properties =
+        new RateLimitProperties(false, "X-Client-Id", 1, 1, 1, Duration.ofHours(1));
+    ClientRateLimiter disabled = new ClientRateLimiter(properties, clock::get);
+
+    for (int i = 0; i < 10; i++) {
+      disabled.acquire("a", 1_000);
+    }
+    assertEquals(new ClientRateLimiter.Stats(0, 0, 0), disabled.stats());
+    disabled.shutdown();
+  }
+
+  @Test
+  void testClientId() {
+    assertEquals("tenant-a", limiter.clientId(" tenant-a ", "10.0.0.1"));
+    assertEquals("10.0.0.1", limiter.clientId(null, "10.0.0.1"));
+    assertEquals("10.0.0.1", limiter.clientId(" ", "10.0.0.1"));
+    assertEquals("X-Client-Id", limiter.getClientHeader());
+  }
+
+  @Test
+  void testConcurrentAcquireNeverOverdraws() throws InterruptedException {
+    int threads = 8;
+    AtomicInteger granted = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    for (int i = 0; i < threads * 50; i++) {
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+              limiter.acquire("a", 1);
+              granted.incrementAndGet();
+            } catch (TooManyRequestsException | InterruptedException ignored) {
+              // Refused once the bucket is empty.
+            }
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(100, granted.get());
+  }
+}
@@ -0,0 +1,103 @@
+package com.trbaxter.github.fractionalcomputationapi.service.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.trbaxter.github.fractionalcomputationapi.utils.DiagnosticTrace;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** DiagnosticTraceFilterTest is a test class for DiagnosticTraceFilter. */
+class DiagnosticTraceFilterTest {
+
+  private static final String HEADER = "X-Diagnostic-Trace";
+
+  private final AtomicReference<String> traceInChain = new AtomicReference<>();
+
+  @Test
+  void givenNoOptInAndNoSampling_whenFiltered_thenRequestIsNotTraced() throws Exception {
+    DiagnosticTraceFilter filter = new DiagnosticTraceFilter(HEADER, true, 0);
+
+    MockHttpServletResponse response = filter(filter, new MockHttpServletRequest());
+
+    assertNull(traceInChain.get());
+    assertNull(response.getHeader(HEADER));
+  }
+
+  @Test
+  void givenOptInHeader_whenFiltered_thenTraceIdIsInMdcAndResponse() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(HEADER, "true");
+
+    MockHttpServletResponse response =
+        filter(new DiagnosticTraceFilter(HEADER, true, 0), request);
+
+    assertNotNull(traceInChain.get());
+    assertEquals(traceInChain.get(), response.getHeader(HEADER));
+    assertNull(MDC.get(DiagnosticTrace.MDC_KEY));
+  }
+
+  @Test
+  void givenEmptyOptInHeader_whenHeaderSent_thenRequestIsNotTraced() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(HEADER, "true");
+
+    filter(new DiagnosticTraceFilter("", true, 0), request);
+
+    assertNull(traceInChain.get());
+  }
+
+  @Test
+  void givenOptInDisabled_whenHeaderSent_thenRequestIsNotTraced() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(HEADER, "true");
+
+    MockHttpServletResponse response =
+        filter(new DiagnosticTraceFilter(HEADER, false, 0), request);
+
+    assertNull(traceInChain.get());
+    assertNull(response.getHeader(HEADER));
+  }
+
+  @Test
+  void givenOptInDisabled_whenSampled_thenTraceIdIsReturned() throws Exception {
+    DiagnosticTraceFilter filter = new DiagnosticTraceFilter(HEADER, false, 0.1, () -> 0.05);
+
+    MockHttpServletResponse response = filter(filter, new MockHttpServletRequest());
+
+    assertNotNull(traceInChain.get());
+    assertEquals(traceInChain.get(), response.getHeader(HEADER));
+  }
+
+  @Test
+  void givenSampleRate_whenRandomBelowRate_thenRequestIsTraced() throws Exception {
+    filter(new DiagnosticTraceFilter(HEADER, true, 0.1, () -> 0.2), new MockHttpServletRequest());
+    assertNull(traceInChain.get());
+
+    filter(new DiagnosticTraceFilter(HEADER, true, 0.1, () -> 0.05), new MockHttpServletRequest());
+    assertNotNull(traceInChain.get());
+  }
+
+  private MockHttpServletResponse filter(
+      DiagnosticTraceFilter filter, MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain =
+        new MockFilterChain(
+            new HttpServlet() {
+              @Override
+              protected void service(HttpServletRequest req, HttpServletResponse res) {
+                traceInChain.set(MDC.get(DiagnosticTrace.MDC_KEY));
+              }
+            });
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+}
@@ -0,0 +1,111 @@
+package com.trbaxter.github.fractionalcomputationapi.service.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.trbaxter.github.fractionalcomputationapi.exception.BadRequestException;
+import com.trbaxter.github.fractionalcomputationapi.service.FractionalCalculusService;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * WarmUpRunnerTest is a test class for the WarmUpRunner. It checks that the corpus is driven
+ * through every service, that rounds and the duration bound the run, and that readiness is held
+ * back while it runs.
+ */
+class WarmUpRunnerTest {
+
+  private static final List<String> CORPUS = List.of("3x^2 + 2x + 1", "x - 7");
+  private static final List<Double> ORDERS = List.of(0.5, 2.0);
+  private static final List<Integer> PRECISIONS = List.of(3);
+
+  private final FractionalCalculusService first = mock(FractionalCalculusService.class);
+  private final FractionalCalculusService second = mock(FractionalCalculusService.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final AtomicLong clock = new AtomicLong();
+
+  @BeforeEach
+  public void setUp() {
+    for (FractionalCalculusService service : List.of(first, second)) {
+      when(service.streamExpression(anyString(), anyDouble(), anyInt()))
+          .thenReturn(writer -> writer.write("x"));
+    }
+  }
+
+  private WarmUpRunner runner(boolean enabled, Duration duration, int rounds) {
+    return new WarmUpRunner(
+        List.of(first, second),
+        new WarmUpProperties(enabled, duration, rounds, CORPUS, ORDERS, PRECISIONS),
+        eventPublisher,
+        clock::get);
+  }
+
+  @Test
+  void testRunsEveryServiceForEachRound() {
+    runner(true, Duration.ofMinutes(1), 3).run(null);
+
+    for (FractionalCalculusService service : List.of(first, second)) {
+      verify(service, times(12)).evaluateExpression(anyString(), anyDouble(), anyInt());
+      verify(service, times(12)).evaluateTerms(anyString(), anyDouble(), anyInt());
+      verify(service, times(3)).streamExpression("x - 7", 2.0, 3);
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testHoldsReadinessWhileRunning() {
+    runner(true, Duration.ofMinutes(1), 1).run(null);
+
+    ArgumentCaptor<AvailabilityChangeEvent<ReadinessState>> event =
+        ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(ReadinessState.REFUSING_TRAFFIC, event.getValue().getState());
+  }
+
+  @Test
+  void testStopsAtDeadline() {
+    when(first.evaluateExpression(anyString(), anyDouble(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+              return "x";
+            });
+
+    runner(true, Duration.ofSeconds(1), 0).run(null);
+
+    verify(first, times(3)).evaluateExpression(anyString(), anyDouble(), anyInt());
+  }
+
+  @Test
+  void testFailingEntryIsSkipped() {
+    when(first.evaluateExpression("x - 7", 0.5, 3)).thenThrow(new BadRequestException("invalid"));
+
+    runner(true, Duration.ofMinutes(1), 1).run(null);
+
+    verify(second, times(4)).evaluateExpression(anyString(), anyDouble(), anyInt());
+    verify(first).evaluateExpression("x - 7", 2.0, 3);
+  }
+
+  @Test
+  void testDisabled() {
+    runner(false, Duration.ofMinutes(1), 1).run(null);
+
+    verifyNoInteractions(first, second, eventPublisher);
+  }
+}
@@ -0,0 +1,17 @@
+package com.trbaxter.github.fractionalcomputationapi.testdata;
+
+import com.trbaxter.github.fractionalcomputationapi.service.admission.AdmissionLimits;
+import java.time.Duration;
+
+/**
+ * AdmissionTestData provides admission limits for tests that construct services directly. They
+ * match the application defaults, except that requests never queue for budget.
+ */
+public final class AdmissionTestData {
+  public static final AdmissionLimits LIMITS =
+      new AdmissionLimits(10_000, 10_000, 1_000, 5_000_000, 50_000_000, Duration.ZERO);
+
+  private AdmissionTestData() {
+    throw new UnsupportedOperationException("Utility class for admission test data");
+  }
+}
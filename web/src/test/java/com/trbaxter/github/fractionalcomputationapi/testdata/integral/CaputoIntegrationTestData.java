@@ -44,9 +44,9 @@ public final class CaputoIntegrationTestData {
           "1.040x^0.9 + C",
           "x + C",
           "0.752x^1.5 + C",
-          "0.500x^2 + Cx + D",
-          "0.167x^3 + 0.500Cx^2 + Dx + E",
-          "0.008x^5 + 0.042Cx^4 + 0.167Dx^3 + 0.500Ex^2 + Fx + G"
+          "0.500x^2 + C₁x + C₀",
+          "0.167x^3 + 0.500C₂x^2 + C₁x + C₀",
+          "0.008x^5 + 0.042C₄x^4 + 0.167C₃x^3 + 0.500C₂x^2 + C₁x + C₀"
         });
     addExpectedValues(
         "-1",
@@ -64,9 +64,9 @@ public final class CaputoIntegrationTestData {
           "-1.040x^0.9 + C",
           "-x + C",
           "-0.752x^1.5 + C",
-          "-0.500x^2 + Cx + D",
-          "-0.167x^3 + 0.500Cx^2 + Dx + E",
-          "-0.008x^5 + 0.042Cx^4 + 0.167Dx^3 + 0.500Ex^2 + Fx + G"
+          "-0.500x^2 + C₁x + C₀",
+          "-0.167x^3 + 0.500C₂x^2 + C₁x + C₀",
+          "-0.008x^5 + 0.042C₄x^4 + 0.167C₃x^3 + 0.500C₂x^2 + C₁x + C₀"
         });
     addExpectedValues(
         "x + 1",
@@ -0,0 +1,26 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class JsonStringWriterTest {
+
+  @Test
+  void testPlainTextPassesThrough() throws IOException {
+    StringWriter target = new StringWriter();
+    new JsonStringWriter(target).append(new StringBuilder("-4.514x^1.5 + 2.257x^0.5 + C"));
+    assertEquals("-4.514x^1.5 + 2.257x^0.5 + C", target.toString());
+  }
+
+  @Test
+  void testSpecialCharactersAreEscaped() throws IOException {
+    StringWriter target = new StringWriter();
+    JsonStringWriter writer = new JsonStringWriter(target);
+    writer.write("a\"b\\c\n");
+    writer.write(new char[] {'\t', 'd', '\u0001'}, 0, 3);
+    assertEquals("a\\\"b\\\\c\\n\\td\\u0001", target.toString());
+  }
+}
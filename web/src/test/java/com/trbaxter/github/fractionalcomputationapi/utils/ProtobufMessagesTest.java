@@ -0,0 +1,81 @@
+package com.trbaxter.github.fractionalcomputationapi.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trbaxter.github.fractionalcomputationapi.model.ControllerRequest;
+import com.trbaxter.github.fractionalcomputationapi.model.FormattedTerm;
+import com.trbaxter.github.fractionalcomputationapi.proto.ComputationRequest;
+import com.trbaxter.github.fractionalcomputationapi.proto.ErrorDetail;
+import com.trbaxter.github.fractionalcomputationapi.proto.TermsResult;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ProtobufMessagesTest is a test class for the ProtobufMessages utility class. It checks the
+ * mapping of requests, terms and errors to and from their protobuf messages.
+ */
+class ProtobufMessagesTest {
+
+  @Test
+  void testToControllerRequest() {
+    ControllerRequest request =
+        ProtobufMessages.toControllerRequest(
+            ComputationRequest.newBuilder()
+                .setPolynomialExpression("3x^2 + 1")
+                .setOrder(0.5)
+                .setPrecision(3)
+                .build());
+
+    assertEquals("3x^2 + 1", request.getPolynomialExpression());
+    assertEquals(0.5, request.getOrder());
+    assertEquals(3, request.getPrecision());
+  }
+
+  @Test
+  void testUnsetFieldsStayNull() {
+    ControllerRequest request =
+        ProtobufMessages.toControllerRequest(ComputationRequest.getDefaultInstance());
+
+    assertEquals("", request.getPolynomialExpression());
+    assertNull(request.getOrder());
+    assertNull(request.getPrecision());
+  }
+
+  @Test
+  void testToTermsResult() {
+    TermsResult result =
+        ProtobufMessages.toTermsResult(
+            List.of(
+                new FormattedTerm("0.500", 0.5, new BigDecimal("2.5"), null),
+                new FormattedTerm("1", 1, BigDecimal.ONE, "C₁")));
+
+    assertEquals(2, result.getTermsCount());
+    assertEquals("0.500", result.getTerms(0).getCoefficient());
+    assertEquals(0.5, result.getTerms(0).getValue());
+    assertEquals(2.5, result.getTerms(0).getPower());
+    assertEquals("2.5", result.getTerms(0).getExactPower());
+    assertFalse(result.getTerms(0).hasConstant());
+    assertEquals("C₁", result.getTerms(1).getConstant());
+  }
+
+  @Test
+  void testToErrorDetail() {
+    ErrorDetail error = ProtobufMessages.toErrorDetail(503, "Service Unavailable: busy");
+
+    assertEquals(503, error.getStatus());
+    assertEquals("Service Unavailable: busy", error.getMessage());
+  }
+
+  @Test
+  void testConstructorThrowsException() throws Exception {
+    Constructor<ProtobufMessages> constructor = ProtobufMessages.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+
+    InvocationTargetException thrown =
+        assertThrows(InvocationTargetException.class, constructor::newInstance);
+    assertInstanceOf(UnsupportedOperationException.class, thrown.getCause());
+  }
+}